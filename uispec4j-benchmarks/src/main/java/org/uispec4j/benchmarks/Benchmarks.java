@@ -0,0 +1,27 @@
+package org.uispec4j.benchmarks;
+
+import org.uispec4j.UISpec4J;
+
+/**
+ * Common settings for the benchmarks, which run with the UISpec4J toolkit - headless, except for
+ * {@link WindowInterceptorBenchmark} which creates frames and dialogs.
+ */
+public class Benchmarks {
+  public static final String HEADLESS = "-Djava.awt.headless=true";
+  public static final String OPEN_AWT = "--add-opens=java.desktop/java.awt=ALL-UNNAMED";
+  public static final String EXPORT_AWT_PEER = "--add-exports=java.desktop/java.awt.peer=ALL-UNNAMED";
+  public static final String EXPORT_SUN_AWT = "--add-exports=java.desktop/sun.awt=ALL-UNNAMED";
+  public static final String EXPORT_SUN_AWT_X11 = "--add-exports=java.desktop/sun.awt.X11=ALL-UNNAMED";
+
+  private static boolean initialized;
+
+  private Benchmarks() {
+  }
+
+  public static synchronized void init() {
+    if (!initialized) {
+      UISpec4J.init();
+      initialized = true;
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package org.uispec4j.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.uispec4j.ComboBox;
+import org.uispec4j.ListBox;
+
+import javax.swing.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Selection by displayed value in large combo boxes and lists. The selected values are substrings
+ * of the last item, so that every matcher has to be tried.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {Benchmarks.HEADLESS, Benchmarks.OPEN_AWT, Benchmarks.EXPORT_AWT_PEER,
+                                  Benchmarks.EXPORT_SUN_AWT, Benchmarks.EXPORT_SUN_AWT_X11})
+public class ComboBoxBenchmark {
+
+  @Param({"20000"})
+  public int size;
+
+  private ComboBox comboBox;
+  private ListBox listBox;
+  private String lastItem;
+
+  @Setup
+  public void setUp() {
+    Benchmarks.init();
+    String[] items = new String[size];
+    for (int i = 0; i < size; i++) {
+      items[i] = String.format("item-%06d", i);
+    }
+    comboBox = new ComboBox(new JComboBox<String>(items));
+    listBox = new ListBox(new JList<String>(items));
+    lastItem = String.format("%06d", size - 1);
+  }
+
+  @Benchmark
+  public void selectInComboBox() {
+    comboBox.select(lastItem);
+  }
+
+  @Benchmark
+  public void selectInListBox() {
+    listBox.select(lastItem);
+  }
+}
@@ -0,0 +1,68 @@
+package org.uispec4j.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.uispec4j.Panel;
+import org.uispec4j.UISpec4J;
+
+import javax.swing.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Component lookups with the {@link Panel} "getXxx"/"findXxx" methods. Each lookup resolves the
+ * name with a different priority level of the predefined matchers: displayed name, label, inner name,
+ * or no match at all - which is the worst case since every matcher is evaluated.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {Benchmarks.HEADLESS, Benchmarks.OPEN_AWT, Benchmarks.EXPORT_AWT_PEER,
+                                  Benchmarks.EXPORT_SUN_AWT, Benchmarks.EXPORT_SUN_AWT_X11})
+public class ComponentFinderBenchmark {
+
+  @Param({SyntheticHierarchies.DEEP, SyntheticHierarchies.WIDE})
+  public String shape;
+
+  @Param({"1000"})
+  public int size;
+
+  @Param({"false", "true"})
+  public boolean componentIndex;
+
+  private Panel panel;
+  private int target;
+
+  @Setup
+  public void setUp() {
+    Benchmarks.init();
+    UISpec4J.setComponentIndexEnabled(componentIndex);
+    panel = new Panel(SyntheticHierarchies.create(shape, size));
+    target = size - 1;
+  }
+
+  @TearDown
+  public void tearDown() {
+    UISpec4J.setComponentIndexEnabled(false);
+  }
+
+  @Benchmark
+  public Object getButtonByDisplayedName() {
+    return panel.getButton(SyntheticHierarchies.getButtonText(target));
+  }
+
+  @Benchmark
+  public Object getTextBoxByLabel() {
+    return panel.getInputTextBox(SyntheticHierarchies.getLabelText(target));
+  }
+
+  @Benchmark
+  public Object getTextBoxByInnerName() {
+    return panel.getInputTextBox(SyntheticHierarchies.getFieldName(target));
+  }
+
+  @Benchmark
+  public Object findMissingButton() {
+    return panel.findSwingComponent(JButton.class, "missing");
+  }
+}
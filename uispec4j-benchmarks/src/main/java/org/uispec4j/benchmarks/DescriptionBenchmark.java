@@ -0,0 +1,64 @@
+package org.uispec4j.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.uispec4j.AbstractUIComponent;
+import org.uispec4j.DescriptionLimits;
+import org.uispec4j.Panel;
+import org.uispec4j.assertion.Assertion;
+import org.uispec4j.xml.XmlAssert;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AbstractUIComponent#getDescription()} on the synthetic hierarchies, as done when an assertion
+ * fails or when a component cannot be found, the same with the {@link DescriptionLimits#DEFAULT} limits
+ * used in error messages - and the comparison of the hierarchies with an expected
+ * description, through the text or directly with {@link AbstractUIComponent#descriptionEquals(String)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {Benchmarks.HEADLESS, Benchmarks.OPEN_AWT, Benchmarks.EXPORT_AWT_PEER,
+                                  Benchmarks.EXPORT_SUN_AWT, Benchmarks.EXPORT_SUN_AWT_X11})
+public class DescriptionBenchmark {
+
+  @Param({SyntheticHierarchies.DEEP, SyntheticHierarchies.WIDE})
+  public String shape;
+
+  @Param({"100", "1000"})
+  public int size;
+
+  private Panel panel;
+  private String expectedDescription;
+  private Assertion descriptionEquals;
+
+  @Setup
+  public void setUp() {
+    Benchmarks.init();
+    panel = new Panel(SyntheticHierarchies.create(shape, size));
+    expectedDescription = panel.getDescription();
+    descriptionEquals = panel.descriptionEquals(expectedDescription);
+  }
+
+  @Benchmark
+  public String getDescription() {
+    return panel.getDescription();
+  }
+
+  @Benchmark
+  public String getDescriptionWithDefaultLimits() {
+    return panel.getDescription(DescriptionLimits.DEFAULT);
+  }
+
+  @Benchmark
+  public void assertEquivalentToDescription() {
+    XmlAssert.assertEquivalent(expectedDescription, panel.getDescription());
+  }
+
+  @Benchmark
+  public void descriptionEquals() {
+    descriptionEquals.check();
+  }
+}
@@ -0,0 +1,80 @@
+package org.uispec4j.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.uispec4j.TextBox;
+import org.uispec4j.assertion.Assertion;
+import org.uispec4j.utils.Utils;
+
+import javax.swing.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks of the text of an HTML pane containing <code>size</code> paragraphs, as done by an assertion
+ * retried on a pane that does not change. <code>cleanupHtml</code> is the former check, which wrote
+ * and cleaned up the whole HTML on each attempt. <code>newHtmlEquals</code> creates and checks a new
+ * assertion each time, which normalizes the expected HTML with a pooled pane.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {Benchmarks.HEADLESS})
+public class HtmlTextBenchmark {
+
+  @Param({"1000"})
+  public int size;
+
+  private JTextPane textPane;
+  private Assertion textEquals;
+  private Assertion textContains;
+  private Assertion htmlEquals;
+  private TextBox textBox;
+  private String html;
+  private String expectedText;
+
+  @Setup
+  public void setUp() {
+    StringBuilder html = new StringBuilder("<html><body>");
+    StringBuilder text = new StringBuilder();
+    for (int i = 0; i < size; i++) {
+      html.append("<p>Line <b>").append(i).append("</b> &amp; more</p>");
+      text.append(i == 0 ? "" : " ").append("Line ").append(i).append(" & more");
+    }
+    html.append("</body></html>");
+    this.html = html.toString();
+    textPane = new JTextPane();
+    textPane.setContentType("text/html");
+    textPane.setText(this.html);
+    textBox = new TextBox(textPane);
+    expectedText = text.toString();
+    textEquals = textBox.textEquals(expectedText);
+    textContains = textBox.textContains("<b>" + (size - 1) + "</b>");
+    htmlEquals = textBox.htmlEquals(this.html);
+  }
+
+  @Benchmark
+  public void textEquals() {
+    textEquals.check();
+  }
+
+  @Benchmark
+  public void textContains() {
+    textContains.check();
+  }
+
+  @Benchmark
+  public void htmlEquals() {
+    htmlEquals.check();
+  }
+
+  @Benchmark
+  public void newHtmlEquals() {
+    textBox.htmlEquals(html).check();
+  }
+
+  @Benchmark
+  public boolean cleanupHtml() {
+    return Utils.cleanupHtml(textPane.getText()).equals(expectedText);
+  }
+}
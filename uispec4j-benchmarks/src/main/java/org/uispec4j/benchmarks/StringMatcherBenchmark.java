@@ -0,0 +1,78 @@
+package org.uispec4j.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.uispec4j.finder.StringMatcher;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link StringMatcher} strategies applied to the texts of <code>size</code> components, as done
+ * by a name lookup. <code>legacySubstring</code> is the former substring matching, which converted each
+ * text to upper case - run with <code>-prof gc</code> for comparing the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {Benchmarks.HEADLESS})
+public class StringMatcherBenchmark {
+
+  @Param({"1000"})
+  public int size;
+
+  private String[] texts;
+  private String searchedText;
+  private StringMatcher identity;
+  private StringMatcher substring;
+  private StringMatcher regexp;
+
+  @Setup
+  public void setUp() {
+    texts = new String[size];
+    for (int i = 0; i < size; i++) {
+      texts[i] = SyntheticHierarchies.getLabelText(i);
+    }
+    searchedText = "LABEL-" + String.format("%05d", size - 1);
+    identity = StringMatcher.identity(searchedText);
+    substring = StringMatcher.substring(searchedText);
+    regexp = StringMatcher.regexp(searchedText);
+  }
+
+  @Benchmark
+  public int identity() {
+    return count(identity);
+  }
+
+  @Benchmark
+  public int substring() {
+    return count(substring);
+  }
+
+  @Benchmark
+  public int regexp() {
+    return count(regexp);
+  }
+
+  @Benchmark
+  public int legacySubstring() {
+    String uppercasedReference = searchedText.toUpperCase();
+    int count = 0;
+    for (String text : texts) {
+      if (text.toUpperCase().indexOf(uppercasedReference) >= 0) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private int count(StringMatcher matcher) {
+    int count = 0;
+    for (String text : texts) {
+      if (matcher.matches(text)) {
+        count++;
+      }
+    }
+    return count;
+  }
+}
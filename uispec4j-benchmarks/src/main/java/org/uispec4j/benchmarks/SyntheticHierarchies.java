@@ -0,0 +1,81 @@
+package org.uispec4j.benchmarks;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * Builds Swing hierarchies of a given shape, each containing <code>size</code> groups made of a
+ * labelled text field and a button. Names and texts use a fixed width so that no name is a
+ * substring of another one.
+ */
+public class SyntheticHierarchies {
+  public static final String DEEP = "deep";
+  public static final String WIDE = "wide";
+
+  private SyntheticHierarchies() {
+  }
+
+  public static JPanel create(String shape, int size) {
+    if (DEEP.equals(shape)) {
+      return createDeep(size);
+    }
+    if (WIDE.equals(shape)) {
+      return createWide(size);
+    }
+    throw new IllegalArgumentException("Unknown shape: " + shape);
+  }
+
+  public static String getButtonText(int index) {
+    return String.format("button-%05d", index);
+  }
+
+  public static String getFieldName(int index) {
+    return String.format("field-%05d", index);
+  }
+
+  public static String getLabelText(int index) {
+    return String.format("label-%05d", index);
+  }
+
+  /**
+   * One nested panel per group - the last groups are <code>size</code> levels deep.
+   */
+  private static JPanel createDeep(int size) {
+    JPanel root = new JPanel();
+    JPanel current = root;
+    for (int i = 0; i < size; i++) {
+      addGroup(current, i);
+      JPanel child = new JPanel();
+      current.add(child);
+      current = child;
+    }
+    return root;
+  }
+
+  /**
+   * Groups spread over a few levels of panels with many children each.
+   */
+  private static JPanel createWide(int size) {
+    JPanel root = new JPanel(new GridLayout(0, 10));
+    int groupsPerPanel = 25;
+    JPanel current = null;
+    for (int i = 0; i < size; i++) {
+      if (i % groupsPerPanel == 0) {
+        current = new JPanel(new GridLayout(0, 3));
+        root.add(new JScrollPane(current));
+      }
+      addGroup(current, i);
+    }
+    return root;
+  }
+
+  private static void addGroup(JPanel panel, int index) {
+    JLabel label = new JLabel(getLabelText(index));
+    JTextField field = new JTextField();
+    field.setName(getFieldName(index));
+    label.setLabelFor(field);
+    panel.add(label);
+    panel.add(field);
+    panel.add(new JButton(getButtonText(index)));
+  }
+}
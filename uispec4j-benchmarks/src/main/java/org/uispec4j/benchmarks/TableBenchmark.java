@@ -0,0 +1,79 @@
+package org.uispec4j.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.uispec4j.ModelTableCellValueConverter;
+import org.uispec4j.Table;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Table#contentEquals(Object[][])} on large models, with the values read either through the
+ * cell renderers (the default) or directly from the model.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {Benchmarks.HEADLESS, Benchmarks.OPEN_AWT, Benchmarks.EXPORT_AWT_PEER,
+                                  Benchmarks.EXPORT_SUN_AWT, Benchmarks.EXPORT_SUN_AWT_X11})
+public class TableBenchmark {
+
+  @Param({"1000", "10000"})
+  public int rowCount;
+
+  @Param({"10"})
+  public int columnCount;
+
+  @Param({"false", "true"})
+  public boolean modelConverter;
+
+  private Table table;
+  private Object[][] expected;
+  private Object[][] lastRowDifferent;
+
+  @Setup
+  public void setUp() {
+    Benchmarks.init();
+    expected = new Object[rowCount][columnCount];
+    for (int row = 0; row < rowCount; row++) {
+      for (int column = 0; column < columnCount; column++) {
+        expected[row][column] = getCellText(row, column);
+      }
+    }
+    String[] columnNames = new String[columnCount];
+    for (int column = 0; column < columnCount; column++) {
+      columnNames[column] = "column" + column;
+    }
+    table = new Table(new JTable(new DefaultTableModel(expected, columnNames)));
+    if (modelConverter) {
+      table.setDefaultCellValueConverter(ModelTableCellValueConverter.INSTANCE);
+    }
+
+    lastRowDifferent = new Object[rowCount][];
+    System.arraycopy(expected, 0, lastRowDifferent, 0, rowCount);
+    lastRowDifferent[rowCount - 1] = expected[rowCount - 1].clone();
+    lastRowDifferent[rowCount - 1][columnCount - 1] = "different";
+  }
+
+  @Benchmark
+  public boolean contentEquals() {
+    return table.contentEquals(expected).isTrue();
+  }
+
+  @Benchmark
+  public boolean contentDiffersOnLastRow() {
+    return table.contentEquals(lastRowDifferent).isTrue();
+  }
+
+  @Benchmark
+  public boolean rowEquals() {
+    return table.rowEquals(rowCount / 2, expected[rowCount / 2]).isTrue();
+  }
+
+  private static String getCellText(int row, int column) {
+    return String.format("cell-%05d-%02d", row, column);
+  }
+}
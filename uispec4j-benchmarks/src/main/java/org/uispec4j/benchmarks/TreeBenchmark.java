@@ -0,0 +1,113 @@
+package org.uispec4j.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.uispec4j.Tree;
+import org.uispec4j.UISpec4J;
+
+import javax.swing.*;
+import javax.swing.tree.DefaultMutableTreeNode;
+import javax.swing.tree.DefaultTreeCellRenderer;
+import java.awt.*;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Tree#contentEquals(String)} and path lookups on deep trees. The tree is made of
+ * <code>depth</code> levels of <code>width</code> nodes each, and only the last node of each level
+ * has children, so that looking up the deepest path means scanning every level. The nodes are
+ * rendered in black, so that the expected contents need no color properties.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {Benchmarks.HEADLESS, Benchmarks.OPEN_AWT, Benchmarks.EXPORT_AWT_PEER,
+                                  Benchmarks.EXPORT_SUN_AWT, Benchmarks.EXPORT_SUN_AWT_X11})
+public class TreeBenchmark {
+  private static final String SEPARATOR = "/";
+
+  @Param({"10", "50"})
+  public int depth;
+
+  @Param({"20"})
+  public int width;
+
+  @Param({"false", "true"})
+  public boolean treePathIndex;
+
+  private Tree tree;
+  private String expectedContents;
+  private String deepestPath;
+  private String missingPath;
+
+  @Setup
+  public void setUp() {
+    Benchmarks.init();
+    UISpec4J.setTreePathIndexEnabled(treePathIndex);
+    DefaultMutableTreeNode root = new DefaultMutableTreeNode("root");
+    StringBuilder contents = new StringBuilder("root");
+    StringJoiner path = new StringJoiner(SEPARATOR);
+    DefaultMutableTreeNode parent = root;
+    for (int level = 0; level < depth; level++) {
+      DefaultMutableTreeNode last = null;
+      for (int index = 0; index < width; index++) {
+        String name = getNodeName(level, index);
+        last = new DefaultMutableTreeNode(name);
+        parent.add(last);
+        if (index < width - 1) {
+          appendLine(contents, level, name);
+        }
+      }
+      path.add(getNodeName(level, width - 1));
+      appendLine(contents, level, getNodeName(level, width - 1));
+      parent = last;
+    }
+    JTree jTree = new JTree(root);
+    DefaultTreeCellRenderer renderer = new DefaultTreeCellRenderer();
+    renderer.setTextNonSelectionColor(Color.BLACK);
+    jTree.setCellRenderer(renderer);
+    tree = new Tree(jTree);
+    tree.setSeparator(SEPARATOR);
+    expectedContents = contents.toString();
+    deepestPath = path.toString();
+    missingPath = deepestPath + SEPARATOR + "missing";
+  }
+
+  @TearDown
+  public void tearDown() {
+    UISpec4J.setTreePathIndexEnabled(false);
+  }
+
+  @Benchmark
+  public boolean contentEquals() {
+    return tree.contentEquals(expectedContents).isTrue();
+  }
+
+  @Benchmark
+  public boolean findDeepestPath() {
+    return tree.contains(deepestPath).isTrue();
+  }
+
+  @Benchmark
+  public boolean findMissingPath() {
+    return tree.contains(missingPath).isTrue();
+  }
+
+  @Benchmark
+  public int getChildCount() {
+    return tree.getChildCount(deepestPath);
+  }
+
+  private static void appendLine(StringBuilder contents, int level, String name) {
+    contents.append('\n');
+    for (int i = 0; i <= level; i++) {
+      contents.append("  ");
+    }
+    contents.append(name);
+  }
+
+  private static String getNodeName(int level, int index) {
+    return String.format("node-%03d-%03d", level, index);
+  }
+}
@@ -0,0 +1,64 @@
+package org.uispec4j.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.uispec4j.Key;
+import org.uispec4j.TextBox;
+import org.uispec4j.UISpec4J;
+
+import javax.swing.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Typing a text of <code>length</code> characters into a text field, one {@link TextBox#typeKey(Key)}
+ * call per character or with a single {@link TextBox#typeText(String)} call, with and without the
+ * fast mode.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {Benchmarks.HEADLESS, Benchmarks.OPEN_AWT, Benchmarks.EXPORT_AWT_PEER,
+                                  Benchmarks.EXPORT_SUN_AWT, Benchmarks.EXPORT_SUN_AWT_X11})
+public class TypingBenchmark {
+
+  @Param({"200"})
+  public int length;
+
+  @Param({"false", "true"})
+  public boolean fastMode;
+
+  private JTextField textField;
+  private TextBox textBox;
+  private String text;
+
+  @Setup
+  public void setUp() {
+    Benchmarks.init();
+    UISpec4J.setFastKeyTypingEnabled(fastMode);
+    textField = new JTextField();
+    textBox = new TextBox(textField);
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < length; i++) {
+      builder.append((char)('a' + (i % 26)));
+    }
+    text = builder.toString();
+  }
+
+  @Setup(Level.Invocation)
+  public void clear() {
+    textField.setText("");
+  }
+
+  @Benchmark
+  public void typeKeys() {
+    for (int i = 0; i < text.length(); i++) {
+      textBox.typeKey(Key.forChar(text.charAt(i)));
+    }
+  }
+
+  @Benchmark
+  public void typeText() {
+    textBox.typeText(text);
+  }
+}
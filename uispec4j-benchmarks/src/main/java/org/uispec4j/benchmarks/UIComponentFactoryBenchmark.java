@@ -0,0 +1,61 @@
+package org.uispec4j.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.uispec4j.utils.UIComponentFactory;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link UIComponentFactory#createUIComponent(Component)} on all the components of a synthetic wide
+ * hierarchy, as done for each component when a description or a "not found" message is built - from
+ * a single thread and from several threads at once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {Benchmarks.HEADLESS, Benchmarks.OPEN_AWT, Benchmarks.EXPORT_AWT_PEER,
+                                  Benchmarks.EXPORT_SUN_AWT, Benchmarks.EXPORT_SUN_AWT_X11})
+public class UIComponentFactoryBenchmark {
+
+  @Param({"1000"})
+  public int size;
+
+  private Component[] components;
+
+  @Setup
+  public void setUp() {
+    Benchmarks.init();
+    List<Component> list = new ArrayList<Component>();
+    collect(SyntheticHierarchies.create(SyntheticHierarchies.WIDE, size), list);
+    components = list.toArray(new Component[list.size()]);
+  }
+
+  private static void collect(Component component, List<Component> list) {
+    list.add(component);
+    if (component instanceof Container) {
+      for (Component child : ((Container)component).getComponents()) {
+        collect(child, list);
+      }
+    }
+  }
+
+  @Benchmark
+  public void createUIComponents(Blackhole blackhole) {
+    for (Component component : components) {
+      blackhole.consume(UIComponentFactory.createUIComponent(component));
+    }
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void createUIComponentsFromFourThreads(Blackhole blackhole) {
+    createUIComponents(blackhole);
+  }
+}
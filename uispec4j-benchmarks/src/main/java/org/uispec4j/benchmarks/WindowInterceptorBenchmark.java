@@ -0,0 +1,77 @@
+package org.uispec4j.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.uispec4j.Button;
+import org.uispec4j.Trigger;
+import org.uispec4j.Window;
+import org.uispec4j.interception.BasicHandler;
+import org.uispec4j.interception.WindowInterceptor;
+import samples.addressbook.gui.MainWindow;
+import samples.addressbook.gui.panels.CategorySelectionDialog;
+import samples.addressbook.model.AddressBook;
+
+import javax.swing.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link WindowInterceptor} round-trips with the dialogs of the addressbook sample: the modal
+ * category creation dialog, which is handled in a separate thread, and the non-modal category
+ * selection dialog, which is simply returned.<p>
+ * Since frames and dialogs cannot be created by a headless JVM, this benchmark is not forked headless
+ * and needs a display - such as Xvfb on a build server.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {Benchmarks.OPEN_AWT, Benchmarks.EXPORT_AWT_PEER,
+                                  Benchmarks.EXPORT_SUN_AWT, Benchmarks.EXPORT_SUN_AWT_X11})
+public class WindowInterceptorBenchmark {
+
+  private AddressBook book;
+  private JFrame frame;
+  private Button newCategoryButton;
+
+  @Setup
+  public void setUp() {
+    Benchmarks.init();
+    book = new AddressBook();
+    frame = new MainWindow(book).getFrame();
+    Window window = WindowInterceptor.run(new Trigger() {
+      public void run() {
+        frame.pack();
+        frame.setVisible(true);
+      }
+    });
+    window.getTree().select("");
+    newCategoryButton = window.getButton("new category");
+  }
+
+  @TearDown
+  public void tearDown() {
+    frame.dispose();
+  }
+
+  @Benchmark
+  public void cancelModalCategoryCreation() {
+    WindowInterceptor
+      .init(newCategoryButton.triggerClick())
+      .process(BasicHandler.init()
+                 .assertContainsText("Category name:")
+                 .triggerButtonClick("Cancel"))
+      .run();
+  }
+
+  @Benchmark
+  public Window showCategorySelection() {
+    final CategorySelectionDialog dialog = new CategorySelectionDialog(book, frame);
+    Window window = WindowInterceptor.run(new Trigger() {
+      public void run() {
+        dialog.getDialog().setVisible(true);
+      }
+    });
+    dialog.getDialog().dispose();
+    return window;
+  }
+}
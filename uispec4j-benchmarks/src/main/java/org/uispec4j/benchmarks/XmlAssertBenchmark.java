@@ -0,0 +1,60 @@
+package org.uispec4j.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.uispec4j.Panel;
+import org.uispec4j.xml.XmlAssert;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link XmlAssert#assertEquivalent(String, String)} on documents made of <code>size</code> elements,
+ * the second document listing the elements and their attributes in reverse order, and on the
+ * description of a synthetic window of <code>size</code> component groups.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {Benchmarks.HEADLESS, Benchmarks.OPEN_AWT, Benchmarks.EXPORT_AWT_PEER,
+                                  Benchmarks.EXPORT_SUN_AWT, Benchmarks.EXPORT_SUN_AWT_X11})
+public class XmlAssertBenchmark {
+
+  @Param({"100", "1000"})
+  public int size;
+
+  private String document;
+  private String reversedDocument;
+  private String description;
+
+  @Setup
+  public void setUp() {
+    Benchmarks.init();
+    StringBuilder builder = new StringBuilder("<panel>");
+    StringBuilder reversedBuilder = new StringBuilder("<panel>");
+    for (int i = 0; i < size; i++) {
+      builder.append("<button label='button").append(i).append("' name='name").append(i).append("'/>");
+    }
+    for (int i = size - 1; i >= 0; i--) {
+      reversedBuilder.append("<button name='name").append(i).append("' label='button").append(i).append("'/>");
+    }
+    document = builder.append("</panel>").toString();
+    reversedDocument = reversedBuilder.append("</panel>").toString();
+    description = new Panel(SyntheticHierarchies.create(SyntheticHierarchies.WIDE, size)).getDescription();
+  }
+
+  @Benchmark
+  public void assertEquivalentToItself() {
+    XmlAssert.assertEquivalent(document, document);
+  }
+
+  @Benchmark
+  public void assertEquivalentInReverseOrder() {
+    XmlAssert.assertEquivalent(document, reversedDocument);
+  }
+
+  @Benchmark
+  public void assertEquivalentDescription() {
+    XmlAssert.assertEquivalent(description, description);
+  }
+}
@@ -1,5 +1,6 @@
 module org.uispec4j {
   requires java.desktop;
+  requires static jdk.jfr;
   requires org.objectweb.asm;
   requires org.junit.jupiter.api;
   requires static org.testng;
@@ -39,7 +39,7 @@ public abstract class AbstractButton extends AbstractSwingUIComponent {
   }
 
   public Assertion textEquals(final String text) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         String label = abstractButton.getText();
         if (label != null) {
@@ -57,7 +57,7 @@ public abstract class AbstractButton extends AbstractSwingUIComponent {
    * this method mostly suited to unit testing.
    */
   public Assertion iconEquals(final Icon expected) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         Icon actual = abstractButton.getIcon();
         if (expected != null) {
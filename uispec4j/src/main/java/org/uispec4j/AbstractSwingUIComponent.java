@@ -13,7 +13,7 @@ public abstract class AbstractSwingUIComponent extends AbstractUIComponent imple
   public abstract JComponent getAwtComponent();
 
   public Assertion tooltipEquals(final String text) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         String actualText = getAwtComponent().getToolTipText();
         AssertAdapter.assertEquals(actualText, text);
@@ -22,7 +22,7 @@ public abstract class AbstractSwingUIComponent extends AbstractUIComponent imple
   }
 
   public Assertion tooltipContains(final String text) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         String actualText = getAwtComponent().getToolTipText();
         AssertAdapter.assertNotNull("No tooltip set", actualText);
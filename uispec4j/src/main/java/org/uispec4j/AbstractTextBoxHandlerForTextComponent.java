@@ -61,9 +61,9 @@ abstract class AbstractTextBoxHandlerForTextComponent implements TextBox.Handler
   }
 
   public Assertion textContains(final String text) {
-    return new Assertion() {
+    return new Assertion(jTextComponent) {
       public void check() {
-        String actual = jTextComponent.getText().replaceAll("\n    ", "").replaceAll("\n  </body>", "</body>");
+        String actual = getText().replace("\n    ", "").replace("\n  </body>", "</body>");
         AssertAdapter.assertTrue("The component text does not contain '" + text + "' - actual content is:" + actual,
                                  actual.indexOf(text.trim()) >= 0);
       }
@@ -71,9 +71,9 @@ abstract class AbstractTextBoxHandlerForTextComponent implements TextBox.Handler
   }
 
   public Assertion textDoesNotContain(final String text) {
-    return new Assertion() {
+    return new Assertion(jTextComponent) {
       public void check() {
-        String actual = jTextComponent.getText();
+        String actual = getText();
         AssertAdapter.assertTrue("The component text should not contain '" + text +
                                  "' - actual content is:" + actual,
                                  actual.indexOf(text) < 0);
@@ -82,7 +82,7 @@ abstract class AbstractTextBoxHandlerForTextComponent implements TextBox.Handler
   }
 
   public Assertion isEditable() {
-    return new Assertion() {
+    return new Assertion(jTextComponent) {
       public void check() {
         AssertAdapter.assertTrue("The text box is not editable", jTextComponent.isEditable());
       }
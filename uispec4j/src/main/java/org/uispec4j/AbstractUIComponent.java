@@ -5,6 +5,8 @@ import org.uispec4j.assertion.testlibrairies.AssertAdapter;
 import org.uispec4j.utils.ColorUtils;
 import org.uispec4j.utils.KeyUtils;
 import org.uispec4j.utils.UIComponentFactory;
+import org.uispec4j.xml.EquivalentXml;
+import org.uispec4j.xml.Node;
 import org.uispec4j.xml.XmlWriter;
 
 import javax.swing.*;
@@ -16,17 +18,75 @@ import java.io.StringWriter;
  * Base class for UIComponent implementations.
  */
 public abstract class AbstractUIComponent implements UIComponent {
+  private static final ThreadLocal<DescriptionScope> SCOPE = new ThreadLocal<DescriptionScope>();
 
   public final String getDescription() {
     StringWriter writer = new StringWriter();
-    XmlWriter.Tag tag = XmlWriter.startTag(writer, getDescriptionTypeName());
+    writeDescription(XmlWriter.startTag(writer, getDescriptionTypeName()));
+    return writer.toString();
+  }
+
+  /**
+   * Returns an XML representation of the component and its subcomponents, in which the subcomponents
+   * beyond the given limits are omitted. The omitted subcomponents are not looked at, so this is much
+   * cheaper than {@link #getDescription()} for big windows.
+   *
+   * @see UISpec4J#getFailureDescriptionLimits()
+   */
+  public final String getDescription(DescriptionLimits limits) {
+    StringWriter writer = new StringWriter();
+    DescriptionScope previousScope = SCOPE.get();
+    SCOPE.set(new DescriptionScope(limits, writer.getBuffer()));
+    try {
+      writeDescription(XmlWriter.startTag(writer, getDescriptionTypeName()));
+    }
+    finally {
+      SCOPE.set(previousScope);
+    }
+    return writer.toString();
+  }
+
+  /**
+   * Checks that the XML representation returned by {@link #getDescription()} is equivalent to the
+   * given one, as with {@link org.uispec4j.xml.XmlAssert#assertEquivalent(String, String)}.<p>
+   * The expected XML is parsed once when the assertion is created, and the components are then
+   * compared with it on each check without being written as text - the description is only
+   * written for reporting a failure.
+   */
+  public Assertion descriptionEquals(String expectedXml) {
+    final EquivalentXml expected = new EquivalentXml(expectedXml);
+    return new Assertion() {
+      public void check() {
+        Node document = expected.createDocument();
+        writeDescription(XmlWriter.startTag(document, getDescriptionTypeName()));
+        if (expected.matches(document)) {
+          return;
+        }
+        if (!isFailureMessageReported()) {
+          AssertAdapter.fail("Unexpected description");
+        }
+        expected.assertEquivalent(getDescription());
+      }
+    };
+  }
+
+  private void writeDescription(XmlWriter.Tag tag) {
     Component component = getAwtComponent();
     addAttributes(component, tag);
     if (component instanceof Container) {
-      getSubDescription((Container)component, tag);
+      writeSubDescription(this, (Container)component, tag);
     }
     tag.end();
-    return writer.toString();
+  }
+
+  private static void writeSubDescription(AbstractUIComponent guiComponent, Container container, XmlWriter.Tag tag) {
+    DescriptionScope scope = SCOPE.get();
+    if (scope == null) {
+      guiComponent.getSubDescription(container, tag);
+    }
+    else {
+      scope.writeSubDescription(guiComponent, container, tag);
+    }
   }
 
   protected void getSubDescription(Container container, XmlWriter.Tag tag) {
@@ -44,6 +104,10 @@ public abstract class AbstractUIComponent implements UIComponent {
     if (showVisibleOnly && !jComponent.isVisible()) {
       return;
     }
+    DescriptionScope scope = SCOPE.get();
+    if ((scope != null) && !scope.accepts(tag)) {
+      return;
+    }
     if (jComponent instanceof JScrollPane) {
       getSubDescription(((JScrollPane)jComponent).getViewport(), tag);
       return;
@@ -56,10 +120,58 @@ public abstract class AbstractUIComponent implements UIComponent {
     }
     XmlWriter.Tag childTag = tag.start(guiComponent.getDescriptionTypeName());
     guiComponent.addAttributes(jComponent, childTag);
-    guiComponent.getSubDescription(jComponent, childTag);
+    writeSubDescription(guiComponent, jComponent, childTag);
     childTag.end();
   }
 
+  /**
+   * State of a description written by {@link #getDescription(DescriptionLimits)}, shared by the
+   * components being described within the current thread.
+   */
+  private static class DescriptionScope {
+    private final DescriptionLimits limits;
+    private final StringBuffer text;
+    private int depth;
+    private int maxDepth;
+    private XmlWriter.Tag truncatedTag;
+
+    DescriptionScope(DescriptionLimits limits, StringBuffer text) {
+      this.limits = limits;
+      this.text = text;
+      this.maxDepth = limits.getMaxDepth();
+    }
+
+    /**
+     * Returns false if a subcomponent cannot be added to the given element, in which case the
+     * element is marked as truncated.
+     */
+    boolean accepts(XmlWriter.Tag tag) {
+      if ((depth <= maxDepth) && (text.length() < limits.getMaxLength())) {
+        return true;
+      }
+      if (truncatedTag != tag) {
+        truncatedTag = tag;
+        tag.addValue(DescriptionLimits.OMITTED);
+      }
+      return false;
+    }
+
+    void writeSubDescription(AbstractUIComponent guiComponent, Container container, XmlWriter.Tag tag) {
+      int previousMaxDepth = maxDepth;
+      if (limits.isPruned(guiComponent.getDescriptionTypeName())) {
+        maxDepth = depth;
+      }
+      depth++;
+      try {
+        guiComponent.getSubDescription(container, tag);
+      }
+      finally {
+        depth--;
+        maxDepth = previousMaxDepth;
+      }
+    }
+  }
+
   protected void addAttributes(Component component, XmlWriter.Tag tag) {
     if ((component.getName() != null) && (component.getName().length() != 0)) {
       tag.addAttribute("name", computeComponentName(component));
@@ -98,7 +210,7 @@ public abstract class AbstractUIComponent implements UIComponent {
   }
 
   public Assertion isVisible() {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         AssertAdapter.assertTrue(getAwtComponent().isVisible());
       }
@@ -106,7 +218,7 @@ public abstract class AbstractUIComponent implements UIComponent {
   }
 
   public Assertion isEnabled() {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         AssertAdapter.assertTrue(getAwtComponent().isEnabled());
       }
@@ -120,7 +232,7 @@ public abstract class AbstractUIComponent implements UIComponent {
    * @see <a href="http://www.uispec4j.org/colors">Using colors</a>
    */
   public Assertion foregroundEquals(final String expectedColor) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         Color foreground = getAwtComponent().getForeground();
         if (foreground == null) {
@@ -138,7 +250,7 @@ public abstract class AbstractUIComponent implements UIComponent {
    * @see <a href="http://www.uispec4j.org/colors">Using colors</a>
    */
   public Assertion foregroundNear(final String expectedColor) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         Color foreground = getAwtComponent().getForeground();
         if (foreground == null) {
@@ -156,7 +268,7 @@ public abstract class AbstractUIComponent implements UIComponent {
    * @see <a href="http://www.uispec4j.org/colors">Using colors</a>
    */
   public Assertion backgroundEquals(final String expectedColor) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         ColorUtils.assertEquals(expectedColor, getAwtComponent().getBackground());
       }
@@ -170,7 +282,7 @@ public abstract class AbstractUIComponent implements UIComponent {
    * @see <a href="http://www.uispec4j.org/colors">Using colors</a>
    */
   public Assertion backgroundNear(final String expectedColor) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         Color background = getAwtComponent().getBackground();
         if (background == null) {
@@ -214,6 +326,27 @@ public abstract class AbstractUIComponent implements UIComponent {
     return this;
   }
 
+  /**
+   * Types the given text, each character being pressed and released as with {@link #typeKey(Key)}.
+   * All the events are dispatched within a single task of the AWT event dispatch thread.
+   *
+   * @see UISpec4J#setFastKeyTypingEnabled(boolean)
+   */
+  public AbstractUIComponent typeText(String text) {
+    UIComponent.super.typeText(text);
+    return this;
+  }
+
+  /**
+   * Types the keys of the given sequence within a single task of the AWT event dispatch thread.
+   *
+   * @see UISpec4J#setFastKeyTypingEnabled(boolean)
+   */
+  public AbstractUIComponent typeKeys(KeySequence sequence) {
+    UIComponent.super.typeKeys(sequence);
+    return this;
+  }
+
   public AbstractUIComponent pressKey(Key key) {
     KeyUtils.pressKey(getAwtComponent(), key);
     return this;
@@ -40,7 +40,7 @@ public class CheckBox extends AbstractButton {
   }
 
   public Assertion isSelected() {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         AssertAdapter.assertTrue(jCheckBox.isSelected());
       }
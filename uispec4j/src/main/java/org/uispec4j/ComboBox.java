@@ -62,30 +62,47 @@ public class ComboBox extends AbstractSwingUIComponent {
   }
 
   public void select(String value) {
-    ListModel model = jComboBox.getModel();
-    StringMatcher[] stringMatchers = FinderUtils.getMatchers(value);
-    for (StringMatcher stringMatcher : stringMatchers) {
-      List<Integer> indexes = new ArrayList<Integer>();
-      for (int modelIndex = 0, max = model.getSize(); modelIndex < max; modelIndex++) {
-        if (stringMatcher.matches(getRenderedValue(modelIndex))) {
-          indexes.add(modelIndex);
+    int index = getIndexForString(value);
+    if (index != -1) {
+      jComboBox.setSelectedIndex(index);
+    }
+  }
+
+  private int getIndexForString(String value) {
+    RenderedListValues renderedValues =
+      new RenderedListValues(jComboBox.getModel(), new RenderedListValues.Renderer() {
+        public String getRenderedValue(int index) {
+          return ComboBox.this.getRenderedValue(index);
         }
-      }
-      if (indexes.size() == 1) {
-        jComboBox.setSelectedIndex(indexes.get(0));
-        return;
-      }
-      if (indexes.size() > 1) {
-        String[] items = new String[indexes.size()];
-        for (int j = 0; j < items.length; j++) {
-          items[j] = getRenderedValue(j);
+      });
+    try {
+      StringMatcher[] stringMatchers = FinderUtils.getMatchers(value);
+      for (StringMatcher stringMatcher : stringMatchers) {
+        List<Integer> indexes = new ArrayList<Integer>();
+        for (int modelIndex = 0, max = renderedValues.getSize(); modelIndex < max; modelIndex++) {
+          if (stringMatcher.matches(renderedValues.get(modelIndex))) {
+            indexes.add(modelIndex);
+          }
+        }
+        if (indexes.size() == 1) {
+          return indexes.get(0);
+        }
+        if (indexes.size() > 1) {
+          String[] items = new String[indexes.size()];
+          for (int j = 0; j < items.length; j++) {
+            items[j] = renderedValues.get(indexes.get(j));
+          }
+          throw new ItemAmbiguityException(value, items);
         }
-        throw new ItemAmbiguityException(value, items);
       }
-    }
 
-    List content = Arrays.asList(getContent());
-    AssertAdapter.fail(value + " not found in ComboBox - actual content: " + content);
+      List content = Arrays.asList(renderedValues.getAll());
+      AssertAdapter.fail(value + " not found in ComboBox - actual content: " + content);
+      return -1;
+    }
+    finally {
+      renderedValues.dispose();
+    }
   }
 
   /**
@@ -98,7 +115,7 @@ public class ComboBox extends AbstractSwingUIComponent {
   }
 
   public Assertion contentEquals(final String... expected) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         ArrayUtils.assertEquals(expected, getContent());
       }
@@ -110,7 +127,7 @@ public class ComboBox extends AbstractSwingUIComponent {
   }
 
   public Assertion contains(final String... items) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         List content = Arrays.asList(getContent());
         for (String item : items) {
@@ -126,7 +143,7 @@ public class ComboBox extends AbstractSwingUIComponent {
    * Checks that the combo box displays the given value and that it shows no elements when expanded.
    */
   public Assertion isEmpty(final String displayedValue) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         if (jComboBox.getItemCount() != 0) {
           AssertAdapter.fail("Unexpected content: " + ArrayUtils.toString(getContent()));
@@ -137,7 +154,7 @@ public class ComboBox extends AbstractSwingUIComponent {
   }
 
   public Assertion selectionEquals(final String selection) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         if (jComboBox.getSelectedItem() == null) {
           if (selection != null) {
@@ -152,7 +169,7 @@ public class ComboBox extends AbstractSwingUIComponent {
   }
 
   public Assertion isEditable() {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         if (!jComboBox.isEditable()) {
           AssertAdapter.fail("The combo box is not editable");
@@ -161,7 +178,7 @@ public class ComboBox extends AbstractSwingUIComponent {
     };
   }
 
-  private String[] getContent() {
+  String[] getContent() {
     ComboBoxModel model = jComboBox.getModel();
     String[] comboContents = new String[model.getSize()];
     for (int i = 0; i < comboContents.length; i++) {
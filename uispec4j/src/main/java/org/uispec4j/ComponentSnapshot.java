@@ -0,0 +1,420 @@
+package org.uispec4j;
+
+import org.uispec4j.assertion.Assertion;
+import org.uispec4j.assertion.testlibrairies.AssertAdapter;
+import org.uispec4j.utils.ArrayUtils;
+
+import javax.swing.*;
+import javax.swing.text.JTextComponent;
+import javax.swing.tree.TreeModel;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable copy of the state of a component and of its descendants, captured at once within the
+ * AWT event dispatch thread by {@link Panel#snapshot()}.<p>
+ * The snapshot holds the name, text, enabled and visible flags of each component, together with the
+ * displayed values and selection of tables, lists, combo boxes and trees. The values are rendered
+ * with the default cell value converters, as done by {@link Table#contentEquals(Object[][])},
+ * {@link ListBox#contentEquals(String[])}, {@link ComboBox#contentEquals(String[])} and
+ * {@link Tree#contentEquals(String)}, so that the same expectations can be checked against a snapshot:
+ * <pre><code>
+ * ComponentSnapshot snapshot = panel.snapshot();
+ * assertThat(snapshot.getTable("results").contentEquals(new Object[][]{{"a", "1"}}));
+ * assertThat(snapshot.getListBox("choices").contentEquals("one", "two"));
+ * </code></pre>
+ * Since reading a snapshot does not involve Swing anymore, several checks can be performed on a
+ * consistent state without going back and forth to the event dispatch thread. A snapshot is not
+ * updated afterwards, so that the assertions returned by a snapshot are not retried by
+ * {@link org.uispec4j.assertion.UISpecAssert}: they fail at once, and checks that must wait for the
+ * GUI to change should take a new snapshot on each attempt.
+ */
+public class ComponentSnapshot {
+  private static final int[] NO_INDICES = new int[0];
+
+  private final Class<? extends Component> swingClass;
+  private final String name;
+  private final String text;
+  private final boolean enabled;
+  private final boolean visible;
+  private final List<ComponentSnapshot> children;
+  private final String[] columnNames;
+  private final Object[][] tableValues;
+  private final String[] listValues;
+  private final Node treeRoot;
+  private final String treeContent;
+  private final int[] selectedIndices;
+
+  private ComponentSnapshot(Component component, List<ComponentSnapshot> children) {
+    this.swingClass = component.getClass();
+    this.name = component.getName();
+    this.text = getText(component);
+    this.enabled = component.isEnabled();
+    this.visible = component.isVisible();
+    this.children = children;
+    this.columnNames = (component instanceof JTable) ? getColumnNames((JTable)component) : null;
+    this.tableValues = (component instanceof JTable) ? new Table((JTable)component).getAllValues() : null;
+    this.listValues = getListValues(component);
+    Tree tree = (component instanceof JTree) ? new Tree((JTree)component) : null;
+    this.treeRoot = (tree != null) ? getTreeRoot(tree) : null;
+    this.treeContent = ((tree != null) && (treeRoot != null)) ? tree.getContent() : null;
+    this.selectedIndices = getSelectedIndices(component);
+  }
+
+  /**
+   * Captures the state of the given component and of its descendants. This method must be called
+   * from the AWT event dispatch thread.
+   */
+  static ComponentSnapshot capture(Component component) {
+    List<ComponentSnapshot> children = Collections.emptyList();
+    if (component instanceof Container) {
+      Component[] components = ((Container)component).getComponents();
+      if (components.length > 0) {
+        children = new ArrayList<ComponentSnapshot>(components.length);
+        for (Component child : components) {
+          children.add(capture(child));
+        }
+        children = Collections.unmodifiableList(children);
+      }
+    }
+    return new ComponentSnapshot(component, children);
+  }
+
+  public Class<? extends Component> getSwingClass() {
+    return swingClass;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the text displayed by labels, buttons and text components, or the title of frames
+   * and dialogs - null for the other components.
+   */
+  public String getText() {
+    return text;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public boolean isVisible() {
+    return visible;
+  }
+
+  public List<ComponentSnapshot> getChildren() {
+    return children;
+  }
+
+  /**
+   * Returns the column names of a table, in view order - null for the other components.
+   */
+  public String[] getColumnNames() {
+    return (columnNames == null) ? null : columnNames.clone();
+  }
+
+  /**
+   * Returns the displayed values of a table, with rows and columns in view order - null for the
+   * other components.
+   */
+  public Object[][] getTableValues() {
+    if (tableValues == null) {
+      return null;
+    }
+    Object[][] result = new Object[tableValues.length][];
+    for (int row = 0; row < result.length; row++) {
+      result[row] = tableValues[row].clone();
+    }
+    return result;
+  }
+
+  /**
+   * Returns the displayed elements of a list or combo box - null for the other components.
+   */
+  public String[] getListValues() {
+    return (listValues == null) ? null : listValues.clone();
+  }
+
+  /**
+   * Returns the root node of a tree - null for the other components, or if the tree is empty.
+   */
+  public Node getTreeRoot() {
+    return treeRoot;
+  }
+
+  /**
+   * Returns the selected rows of a table, the selected indices of a list or combo box, or the
+   * selected rows of a tree.
+   */
+  public int[] getSelectedIndices() {
+    return selectedIndices.clone();
+  }
+
+  /**
+   * Returns the first component of this subtree, in traversal order, with the given name - or null.
+   */
+  public ComponentSnapshot findByName(String name) {
+    if (name.equals(this.name)) {
+      return this;
+    }
+    for (ComponentSnapshot child : children) {
+      ComponentSnapshot result = child.findByName(name);
+      if (result != null) {
+        return result;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns the components of this subtree, in traversal order, that are instances of the given class.
+   */
+  public List<ComponentSnapshot> findAll(Class<? extends Component> swingClass) {
+    List<ComponentSnapshot> result = new ArrayList<ComponentSnapshot>();
+    collect(swingClass, result);
+    return result;
+  }
+
+  private void collect(Class<? extends Component> swingClass, List<ComponentSnapshot> result) {
+    if (swingClass.isAssignableFrom(this.swingClass)) {
+      result.add(this);
+    }
+    for (ComponentSnapshot child : children) {
+      child.collect(swingClass, result);
+    }
+  }
+
+  /**
+   * Returns the table of this subtree with the given name.
+   *
+   * @throws ItemNotFoundException if there is no such table
+   */
+  public ComponentSnapshot getTable(String name) {
+    return get(JTable.class, "table", name);
+  }
+
+  /**
+   * Returns the list of this subtree with the given name.
+   *
+   * @throws ItemNotFoundException if there is no such list
+   */
+  public ComponentSnapshot getListBox(String name) {
+    return get(JList.class, "listBox", name);
+  }
+
+  /**
+   * Returns the combo box of this subtree with the given name.
+   *
+   * @throws ItemNotFoundException if there is no such combo box
+   */
+  public ComponentSnapshot getComboBox(String name) {
+    return get(JComboBox.class, "comboBox", name);
+  }
+
+  /**
+   * Returns the tree of this subtree with the given name.
+   *
+   * @throws ItemNotFoundException if there is no such tree
+   */
+  public ComponentSnapshot getTree(String name) {
+    return get(JTree.class, "tree", name);
+  }
+
+  private ComponentSnapshot get(Class<? extends Component> swingClass, String typeName, String name) {
+    for (ComponentSnapshot snapshot : findAll(swingClass)) {
+      if (name.equals(snapshot.name)) {
+        return snapshot;
+      }
+    }
+    throw new ItemNotFoundException("Component '" + name + "' of type '" + typeName + "' not found");
+  }
+
+  /**
+   * Checks the displayed values of a table.
+   *
+   * @see Table#contentEquals(Object[][])
+   */
+  public Assertion contentEquals(final Object[][] expected) {
+    return new SnapshotAssertion() {
+      public void check() {
+        assertKind(tableValues != null, "a table");
+        if (Arrays.deepEquals(expected, tableValues)) {
+          return;
+        }
+        if (!Assertion.isFailureMessageReported()) {
+          AssertAdapter.fail("Unexpected table content");
+        }
+        int focusedRow = Table.getFirstDifferentRow(expected, tableValues);
+        AssertAdapter.assertEquals(ArrayUtils.toString(expected, focusedRow),
+                                   ArrayUtils.toString(tableValues, focusedRow));
+        AssertAdapter.fail("Unexpected table content");
+      }
+    };
+  }
+
+  /**
+   * Checks the displayed elements of a list or combo box.
+   *
+   * @see ListBox#contentEquals(String[])
+   * @see ComboBox#contentEquals(String[])
+   */
+  public Assertion contentEquals(final String... expected) {
+    return new SnapshotAssertion() {
+      public void check() {
+        assertKind(listValues != null, "a list or combo box");
+        ArrayUtils.assertEquals(expected, listValues);
+      }
+    };
+  }
+
+  /**
+   * Checks the contents of a tree, given in the format of {@link Tree#contentEquals(String)} - or
+   * the single element of a list or combo box.
+   */
+  public Assertion contentEquals(final String expected) {
+    if (treeContent == null) {
+      return contentEquals(new String[]{expected});
+    }
+    return new SnapshotAssertion() {
+      public void check() {
+        String trimmedExpected = expected.trim();
+        AssertAdapter.assertTrue("Expected tree description should not be empty",
+                                 trimmedExpected.length() > 0);
+        Tree.compareContents(trimmedExpected, treeContent);
+      }
+    };
+  }
+
+  /**
+   * Checks the text displayed by a label, button or text component, or the title of a frame or dialog.
+   */
+  public Assertion textEquals(final String expected) {
+    return new SnapshotAssertion() {
+      public void check() {
+        AssertAdapter.assertEquals(expected, text);
+      }
+    };
+  }
+
+  private void assertKind(boolean isExpectedKind, String expectedKind) {
+    if (!isExpectedKind) {
+      AssertAdapter.fail("Component '" + name + "' is not " + expectedKind);
+    }
+  }
+
+  private abstract static class SnapshotAssertion extends Assertion {
+    protected boolean isConstant() {
+      return true;
+    }
+  }
+
+  public String toString() {
+    return swingClass.getName() + "[name=" + name + ",text=" + text + "]";
+  }
+
+  private static String getText(Component component) {
+    if (component instanceof JLabel) {
+      return ((JLabel)component).getText();
+    }
+    if (component instanceof javax.swing.AbstractButton) {
+      return ((javax.swing.AbstractButton)component).getText();
+    }
+    if (component instanceof JTextComponent) {
+      return ((JTextComponent)component).getText();
+    }
+    if (component instanceof Frame) {
+      return ((Frame)component).getTitle();
+    }
+    if (component instanceof Dialog) {
+      return ((Dialog)component).getTitle();
+    }
+    return null;
+  }
+
+  private static String[] getColumnNames(JTable table) {
+    String[] result = new String[table.getColumnCount()];
+    for (int column = 0; column < result.length; column++) {
+      result[column] = table.getColumnName(column);
+    }
+    return result;
+  }
+
+  private static String[] getListValues(Component component) {
+    if (component instanceof JList) {
+      return new ListBox((JList)component).getContent();
+    }
+    if (component instanceof JComboBox) {
+      return new ComboBox((JComboBox)component).getContent();
+    }
+    return null;
+  }
+
+  private static Node getTreeRoot(Tree tree) {
+    TreeModel model = tree.getAwtComponent().getModel();
+    if ((model == null) || (model.getRoot() == null)) {
+      return null;
+    }
+    return new Node(tree, model, model.getRoot());
+  }
+
+  private static int[] getSelectedIndices(Component component) {
+    if (component instanceof JTable) {
+      return ((JTable)component).getSelectedRows();
+    }
+    if (component instanceof JList) {
+      return ((JList)component).getSelectedIndices();
+    }
+    if (component instanceof JComboBox) {
+      int selectedIndex = ((JComboBox)component).getSelectedIndex();
+      return (selectedIndex < 0) ? NO_INDICES : new int[]{selectedIndex};
+    }
+    if (component instanceof JTree) {
+      int[] selectionRows = ((JTree)component).getSelectionRows();
+      return (selectionRows == null) ? NO_INDICES : selectionRows;
+    }
+    return NO_INDICES;
+  }
+
+  /**
+   * Immutable copy of the text displayed for a tree node, and of its descendants.
+   */
+  public static class Node {
+    private final String text;
+    private final List<Node> children;
+
+    private Node(Tree tree, TreeModel model, Object node) {
+      this.text = tree.getShownText(node);
+      int childCount = model.getChildCount(node);
+      if (childCount == 0) {
+        this.children = Collections.emptyList();
+      }
+      else {
+        List<Node> nodes = new ArrayList<Node>(childCount);
+        for (int i = 0; i < childCount; i++) {
+          nodes.add(new Node(tree, model, model.getChild(node, i)));
+        }
+        this.children = Collections.unmodifiableList(nodes);
+      }
+    }
+
+    /**
+     * Returns the text displayed for the node, as given by the default tree cell value converter.
+     */
+    public String getText() {
+      return text;
+    }
+
+    public List<Node> getChildren() {
+      return children;
+    }
+
+    public String toString() {
+      return text;
+    }
+  }
+}
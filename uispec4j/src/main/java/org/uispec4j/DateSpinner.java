@@ -29,7 +29,7 @@ public class DateSpinner extends Spinner {
    * @see DateUtils to format the date as String
    */
   public Assertion startDateEquals(final String expectedStartDate) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         AssertAdapter.assertEquals(extractDate(expectedStartDate), model.getStart());
       }
@@ -42,7 +42,7 @@ public class DateSpinner extends Spinner {
    * @see DateUtils to format the date as String
    */
   public Assertion endDateEquals(final String expectedEndDate) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         AssertAdapter.assertEquals(extractDate(expectedEndDate), model.getEnd());
       }
@@ -54,7 +54,7 @@ public class DateSpinner extends Spinner {
    * {@link java.util.Calendar} constants
    */
   public Assertion calendarFieldsEquals(final int expectedCalendarFields) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         AssertAdapter.assertEquals(expectedCalendarFields, model.getCalendarField());
       }
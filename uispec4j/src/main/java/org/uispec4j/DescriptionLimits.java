@@ -0,0 +1,80 @@
+package org.uispec4j;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Limits applied by {@link AbstractUIComponent#getDescription(DescriptionLimits)} for keeping the
+ * descriptions of big windows short, for instance in failure messages.<p>
+ * The subcomponents of an element are omitted when the element is deeper than the maximum depth,
+ * when its type is pruned, or when the description is already longer than the maximum length.
+ * Omitted subcomponents are replaced with "..." in the element.
+ *
+ * @see UISpec4J#setFailureDescriptionLimits(DescriptionLimits)
+ */
+public class DescriptionLimits {
+  public static final String OMITTED = "...";
+
+  /**
+   * No limits - the description is the same as the one returned by {@link UIComponent#getDescription()}.
+   */
+  public static final DescriptionLimits NONE =
+    new DescriptionLimits(Integer.MAX_VALUE, Integer.MAX_VALUE, Collections.<String>emptySet());
+
+  /**
+   * Limits used by default in failure messages: 20 levels and 20000 characters.
+   */
+  public static final DescriptionLimits DEFAULT =
+    new DescriptionLimits(20, 20000, Collections.<String>emptySet());
+
+  private final int maxDepth;
+  private final int maxLength;
+  private final Set<String> prunedTypeNames;
+
+  public DescriptionLimits(int maxDepth, int maxLength) {
+    this(maxDepth, maxLength, Collections.<String>emptySet());
+  }
+
+  private DescriptionLimits(int maxDepth, int maxLength, Set<String> prunedTypeNames) {
+    this.maxDepth = maxDepth;
+    this.maxLength = maxLength;
+    this.prunedTypeNames = prunedTypeNames;
+  }
+
+  /**
+   * Returns limits that also omit the subcomponents of the elements of the given types, as returned
+   * by {@link UIComponent#getDescriptionTypeName()} - for instance "table" for leaving out the
+   * components used for editing the cells.
+   */
+  public DescriptionLimits prune(String... typeNames) {
+    Set<String> names = new HashSet<String>(prunedTypeNames);
+    names.addAll(Arrays.asList(typeNames));
+    return new DescriptionLimits(maxDepth, maxLength, Collections.unmodifiableSet(names));
+  }
+
+  /**
+   * Returns the depth of the deepest elements, the described component being at depth 0.
+   */
+  public int getMaxDepth() {
+    return maxDepth;
+  }
+
+  /**
+   * Returns the length beyond which no more subcomponents are described. The description can
+   * be slightly longer, since the elements being described are still closed.
+   */
+  public int getMaxLength() {
+    return maxLength;
+  }
+
+  public boolean isPruned(String typeName) {
+    return prunedTypeNames.contains(typeName);
+  }
+
+  public String toString() {
+    return "DescriptionLimits[maxDepth=" + maxDepth + ",maxLength=" + maxLength +
+           ",pruned=" + prunedTypeNames + "]";
+  }
+}
@@ -41,7 +41,7 @@ public class Desktop extends AbstractUIComponent {
   }
 
   public Assertion containsWindow(final String title) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         JInternalFrame[] allFrames = jDesktopPane.getAllFrames();
         for (JInternalFrame allFrame : allFrames) {
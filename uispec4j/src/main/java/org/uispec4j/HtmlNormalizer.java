@@ -0,0 +1,55 @@
+package org.uispec4j;
+
+import javax.swing.*;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Normalizes HTML texts into the form returned by an HTML text pane, for comparing them with the
+ * text of the components checked by {@link TextBoxHandlerForHtmlTextComponent}.<p>
+ * The panes used for normalizing are kept in a small pool and given a new document after each use,
+ * so that the assertions do not create Swing components on each attempt.
+ */
+class HtmlNormalizer {
+  private static final int MAX_POOLED_PANES = 4;
+  private static final Deque<JTextPane> PANES = new ArrayDeque<JTextPane>();
+
+  private HtmlNormalizer() {
+  }
+
+  /**
+   * Returns the text of a new HTML pane to which the given texts were set in turn.
+   */
+  static String normalize(String... successiveTexts) {
+    JTextPane pane = acquire();
+    try {
+      for (String text : successiveTexts) {
+        pane.setText(text);
+      }
+      return pane.getText();
+    }
+    finally {
+      release(pane);
+    }
+  }
+
+  private static JTextPane acquire() {
+    synchronized (PANES) {
+      if (!PANES.isEmpty()) {
+        return PANES.pop();
+      }
+    }
+    JTextPane pane = new JTextPane();
+    pane.setContentType("text/html; charset=UTF-8");
+    return pane;
+  }
+
+  private static void release(JTextPane pane) {
+    pane.setDocument(pane.getEditorKit().createDefaultDocument());
+    synchronized (PANES) {
+      if (PANES.size() < MAX_POOLED_PANES) {
+        PANES.push(pane);
+      }
+    }
+  }
+}
@@ -0,0 +1,110 @@
+package org.uispec4j;
+
+import org.uispec4j.utils.Utils;
+
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.text.Document;
+import javax.swing.text.JTextComponent;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * HTML text of a text component and its plain text version, as checked by the assertions of
+ * {@link TextBoxHandlerForHtmlTextComponent}.<p>
+ * The values are computed at most once between two changes of the document, so that retrying an
+ * assertion on a big pane does not write and clean up the whole HTML again while the pane is left
+ * unchanged. A single cache is shared by all the TextBox instances created for a given component.
+ */
+class HtmlTextCache implements DocumentListener, PropertyChangeListener {
+  private static final Object CLIENT_PROPERTY = HtmlTextCache.class;
+
+  private final JTextComponent textComponent;
+  private final AtomicInteger version = new AtomicInteger();
+  private volatile Text text;
+
+  static HtmlTextCache get(JTextComponent textComponent) {
+    synchronized (CLIENT_PROPERTY) {
+      HtmlTextCache cache = (HtmlTextCache)textComponent.getClientProperty(CLIENT_PROPERTY);
+      if (cache == null) {
+        cache = new HtmlTextCache(textComponent);
+        textComponent.putClientProperty(CLIENT_PROPERTY, cache);
+      }
+      return cache;
+    }
+  }
+
+  private HtmlTextCache(JTextComponent textComponent) {
+    this.textComponent = textComponent;
+    textComponent.getDocument().addDocumentListener(this);
+    textComponent.addPropertyChangeListener("document", this);
+    textComponent.addPropertyChangeListener("editorKit", this);
+  }
+
+  /**
+   * Returns the text of the component, as returned by {@link JTextComponent#getText()}.
+   */
+  String getHtml() {
+    return getText().html;
+  }
+
+  /**
+   * Returns the text of the component without its tags, as returned by {@link Utils#cleanupHtml(String)}.
+   */
+  String getPlainText() {
+    return getText().getPlainText();
+  }
+
+  private Text getText() {
+    Text current = text;
+    int currentVersion = version.get();
+    if ((current == null) || (current.version != currentVersion)) {
+      // The document is not locked while its text is written, so a change occurring meanwhile
+      // leaves the new value outdated and it will be computed again on the next call
+      current = new Text(currentVersion, textComponent.getText());
+      text = current;
+    }
+    return current;
+  }
+
+  public void insertUpdate(DocumentEvent e) {
+    version.incrementAndGet();
+  }
+
+  public void removeUpdate(DocumentEvent e) {
+    version.incrementAndGet();
+  }
+
+  public void changedUpdate(DocumentEvent e) {
+    version.incrementAndGet();
+  }
+
+  public void propertyChange(PropertyChangeEvent event) {
+    if (event.getOldValue() instanceof Document) {
+      ((Document)event.getOldValue()).removeDocumentListener(this);
+    }
+    if (event.getNewValue() instanceof Document) {
+      ((Document)event.getNewValue()).addDocumentListener(this);
+    }
+    version.incrementAndGet();
+  }
+
+  private static class Text {
+    private final int version;
+    private final String html;
+    private String plainText;
+
+    Text(int version, String html) {
+      this.version = version;
+      this.html = html;
+    }
+
+    synchronized String getPlainText() {
+      if (plainText == null) {
+        plainText = Utils.cleanupHtml(html);
+      }
+      return plainText;
+    }
+  }
+}
@@ -1,7 +1,40 @@
 package org.uispec4j;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.function.Supplier;
+
 public class ItemNotFoundException extends RuntimeException {
+  private transient Supplier<String> messageSupplier;
+  private String message;
+
   public ItemNotFoundException(String message) {
     super(message);
+    this.message = message;
+  }
+
+  /**
+   * Creates an exception whose message is only computed the first time it is read. This is meant for
+   * messages that are expensive to build, since the exception is often caught without being reported -
+   * for instance while an assertion is retried.
+   */
+  public ItemNotFoundException(Supplier<String> messageSupplier) {
+    this.messageSupplier = messageSupplier;
+  }
+
+  public synchronized String getMessage() {
+    if (messageSupplier != null) {
+      message = messageSupplier.get();
+      messageSupplier = null;
+    }
+    return message;
+  }
+
+  /**
+   * The message is computed before the exception is serialized, since the supplier is not.
+   */
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    getMessage();
+    out.defaultWriteObject();
   }
 }
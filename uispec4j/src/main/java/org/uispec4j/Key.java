@@ -164,6 +164,28 @@ public final class Key {
     return KEYS.get(chr);
   }
 
+  /**
+   * Returns the key for typing the given character: the constant of this class if there is one,
+   * {@link #shift(Key)} for upper case letters, {@link #ENTER} for line breaks, or else a printable
+   * key with the extended key code of the character.
+   */
+  public static Key forChar(char chr) {
+    Key key = KEYS.get(chr);
+    if (key != null) {
+      return key;
+    }
+    if ((chr == '\n') || (chr == '\r')) {
+      return ENTER;
+    }
+    if (Character.isUpperCase(chr)) {
+      Key lowerCaseKey = KEYS.get(Character.toLowerCase(chr));
+      if (lowerCaseKey != null) {
+        return shift(lowerCaseKey);
+      }
+    }
+    return new Key(KeyEvent.getExtendedKeyCodeForChar(chr), chr, Modifier.NONE, true);
+  }
+
   public static Key control(Key key) {
     return new Key(key.getCode(), key.getChar(), Modifier.CONTROL, false);
   }
@@ -0,0 +1,47 @@
+package org.uispec4j;
+
+import java.util.Arrays;
+
+/**
+ * Immutable sequence of keys, typed at once by {@link UIComponent#typeKeys(KeySequence)}.
+ * Sequences can be built from texts and keys:
+ * <pre><code>
+ * textBox.typeKeys(KeySequence.text("John Smith").then(Key.TAB).then("London"));
+ * </code></pre>
+ */
+public final class KeySequence {
+  private final Key[] keys;
+
+  public KeySequence(Key... keys) {
+    this.keys = keys.clone();
+  }
+
+  /**
+   * Returns the keys typing the given text, as returned by {@link Key#forChar(char)}.
+   */
+  public static KeySequence text(String text) {
+    Key[] keys = new Key[text.length()];
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = Key.forChar(text.charAt(i));
+    }
+    return new KeySequence(keys);
+  }
+
+  public KeySequence then(Key... keys) {
+    Key[] result = Arrays.copyOf(this.keys, this.keys.length + keys.length);
+    System.arraycopy(keys, 0, result, this.keys.length, keys.length);
+    return new KeySequence(result);
+  }
+
+  public KeySequence then(String text) {
+    return then(text(text).keys);
+  }
+
+  public Key[] getKeys() {
+    return keys.clone();
+  }
+
+  public int size() {
+    return keys.length;
+  }
+}
@@ -47,9 +47,12 @@ public class ListBox extends AbstractSwingUIComponent {
   }
 
   public Assertion isEmpty() {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         if (getSize() != 0) {
+          if (!Assertion.isFailureMessageReported()) {
+            AssertAdapter.fail("List should be empty");
+          }
           AssertAdapter.fail("List should be empty but contains: " + ArrayUtils.toString(getContent()));
         }
       }
@@ -57,7 +60,7 @@ public class ListBox extends AbstractSwingUIComponent {
   }
 
   public Assertion contentEquals(final String... displayedValues) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         ArrayUtils.assertEquals(displayedValues, getContent());
       }
@@ -69,7 +72,7 @@ public class ListBox extends AbstractSwingUIComponent {
   }
 
   public Assertion contains(final String... items) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         List content = Arrays.asList(getContent());
         for (String item : items) {
@@ -93,13 +96,19 @@ public class ListBox extends AbstractSwingUIComponent {
 
   public void select(String... values) {
     int[] indices = new int[values.length];
-    for (int i = 0; i < values.length; i++) {
-      indices[i] = getIndexForString(values[i]);
-      if (indices[i] == -1) {
-        AssertAdapter.fail("Item '" + values[i] + "' not found in " +
-                           ArrayUtils.toString(getContent()));
+    RenderedListValues renderedValues = getRenderedValues();
+    try {
+      for (int i = 0; i < values.length; i++) {
+        indices[i] = getIndexForString(values[i], renderedValues);
+        if (indices[i] == -1) {
+          AssertAdapter.fail("Item '" + values[i] + "' not found in " +
+                             ArrayUtils.toString(renderedValues.getAll()));
+        }
       }
     }
+    finally {
+      renderedValues.dispose();
+    }
     selectIndices(indices);
   }
 
@@ -159,7 +168,7 @@ public class ListBox extends AbstractSwingUIComponent {
   }
 
   public Assertion selectionIsEmpty() {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         if (jList.getSelectedIndices().length != 0) {
           String[] names = getSelectedItemNames();
@@ -170,7 +179,7 @@ public class ListBox extends AbstractSwingUIComponent {
   }
 
   public Assertion selectionEquals(final String... items) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         ArrayUtils.assertEquals(items, getSelectedItemNames());
       }
@@ -183,7 +192,7 @@ public class ListBox extends AbstractSwingUIComponent {
    * @see <a href="http://www.uispec4j.org/usingcolors.html">Using colors</a>
    */
   public Assertion foregroundEquals(final Object[] colors) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         checkColors(colors, ComponentColorChecker.FOREGROUND);
       }
@@ -191,7 +200,7 @@ public class ListBox extends AbstractSwingUIComponent {
   }
 
   public Assertion foregroundNear(final int index, final Object expected) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         final Component component = getSwingRendererComponentAt(index);
         ColorUtils.assertSimilar("Error at (" + index + ")",
@@ -201,7 +210,7 @@ public class ListBox extends AbstractSwingUIComponent {
   }
 
   public Assertion backgroundNear(final int index, final Object expected) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         final Component component = getSwingRendererComponentAt(index);
         ColorUtils.assertSimilar("Error at (" + index + ")",
@@ -216,7 +225,7 @@ public class ListBox extends AbstractSwingUIComponent {
    * @see <a href="http://www.uispec4j.org/usingcolors.html">Using colors</a>
    */
   public Assertion backgroundEquals(final Object[] colors) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         checkColors(colors, ComponentColorChecker.BACKGROUND);
       }
@@ -239,7 +248,7 @@ public class ListBox extends AbstractSwingUIComponent {
     }
   }
 
-  private String[] getContent() {
+  String[] getContent() {
     String[] names = new String[jList.getModel().getSize()];
     for (int i = 0, max = jList.getModel().getSize(); i < max; i++) {
       names[i] = getRenderedValue(i);
@@ -267,13 +276,20 @@ public class ListBox extends AbstractSwingUIComponent {
                                                  index, false, false);
   }
 
-  private int getIndexForString(String searchedValue) {
+  private RenderedListValues getRenderedValues() {
+    return new RenderedListValues(jList.getModel(), new RenderedListValues.Renderer() {
+      public String getRenderedValue(int index) {
+        return ListBox.this.getRenderedValue(index);
+      }
+    });
+  }
+
+  private int getIndexForString(String searchedValue, RenderedListValues renderedValues) {
     StringMatcher[] matchers = FinderUtils.getMatchers(searchedValue);
     for (StringMatcher matcher : matchers) {
       List<Integer> indexes = new ArrayList<Integer>();
-      for (int listIndex = 0, max = jList.getModel().getSize(); listIndex < max; listIndex++) {
-        String renderedValue = getRenderedValue(listIndex);
-        if (matcher.matches(renderedValue)) {
+      for (int listIndex = 0, max = renderedValues.getSize(); listIndex < max; listIndex++) {
+        if (matcher.matches(renderedValues.get(listIndex))) {
           indexes.add(listIndex);
         }
       }
@@ -283,7 +299,7 @@ public class ListBox extends AbstractSwingUIComponent {
       if (indexes.size() > 1) {
         String[] items = new String[indexes.size()];
         for (int j = 0; j < items.length; j++) {
-          items[j] = getRenderedValue(j);
+          items[j] = renderedValues.get(indexes.get(j));
         }
         throw new ItemAmbiguityException(searchedValue, items);
       }
@@ -25,7 +25,7 @@ public class ListSpinner extends Spinner {
    * Checks the list spinner contents
    */
   public Assertion contentEquals(final Object... expectedContents) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         List list = model.getList();
         Utils.assertEquals(expectedContents, list.toArray(new Object[list.size()]));
@@ -44,7 +44,7 @@ public class MenuBar extends AbstractUIComponent {
    * Checks the names displayed in the menu, ommiting separators.
    */
   public Assertion contentEquals(final String... menuNames) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         String[] actual = new String[jMenuBar.getMenuCount()];
         for (int i = 0; i < actual.length; i++) {
@@ -68,7 +68,7 @@ public class MenuItem extends AbstractUIComponent {
   }
 
   public Assertion contentEquals(final String... expectedNames) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         ArrayUtils.assertEquals(expectedNames, getSubElementNames());
       }
@@ -89,7 +89,7 @@ public class MenuItem extends AbstractUIComponent {
   }
 
   public Assertion contentEquals(final String xmlContent) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         StringWriter writer = new StringWriter();
         XmlWriter.Tag tag = XmlWriter.startTag(writer, getDescriptionTypeName());
@@ -6,6 +6,8 @@ import java.awt.*;
  * Converter that returns the object managed by the underlying JTable's model. This is to be used sparingly since
  * it can disclose the application's internals, and you probably want the tests to be as independent as possible
  * from the implementation.
+ * <p>Since the cell renderers are not called, this converter is also much faster than the default one for
+ * checking the content of large tables.</p>
  */
 public class ModelTableCellValueConverter implements TableCellValueConverter {
 
@@ -14,4 +16,8 @@ public class ModelTableCellValueConverter implements TableCellValueConverter {
   public Object getValue(int row, int column, Component renderedComponent, Object modelObject) {
     return modelObject;
   }
+
+  public boolean usesRenderedComponent() {
+    return false;
+  }
 }
@@ -24,7 +24,7 @@ public class NumberSpinner extends Spinner {
    * Checks that the list spinner displays starts with the given value
    */
   public Assertion minEquals(final int expectedMin) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         AssertAdapter.assertEquals(new Integer(expectedMin), model.getMinimum());
       }
@@ -35,7 +35,7 @@ public class NumberSpinner extends Spinner {
    * Checks that the list spinner displays starts with the given value
    */
   public Assertion maxEquals(final int expectedMax) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         AssertAdapter.assertEquals(new Integer(expectedMax), model.getMaximum());
       }
@@ -46,7 +46,7 @@ public class NumberSpinner extends Spinner {
    * Checks that the list spinner computes previous and next value with the given value.
    */
   public Assertion stepSizeEquals(final int expectedStepSize) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         AssertAdapter.assertEquals(new Integer(expectedStepSize), model.getStepSize());
       }
@@ -6,10 +6,12 @@ import org.uispec4j.finder.ComponentFinder;
 import org.uispec4j.finder.ComponentMatcher;
 import org.uispec4j.utils.UIComponentAnalyzer;
 import org.uispec4j.utils.UIComponentFactory;
+import org.uispec4j.utils.Utils;
 
 import javax.swing.*;
 import java.awt.*;
 import java.util.ArrayList;
+import java.util.concurrent.Callable;
 
 import static org.uispec4j.finder.ComponentMatchers.*;
 
@@ -442,7 +444,7 @@ public class Panel extends AbstractUIComponent {
   }
 
   public <T extends UIComponent> Assertion containsUIComponent(final Class<T> uicomponentClass) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         UIComponent[] uiComponents = getUIComponents(uicomponentClass);
         AssertAdapter.assertTrue(uiComponents.length > 0);
@@ -451,7 +453,7 @@ public class Panel extends AbstractUIComponent {
   }
 
   public <T extends Component> Assertion containsSwingComponent(final Class<T> swingComponentClass) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         Component[] swingComponents = getSwingComponents(swingComponentClass);
         AssertAdapter.assertTrue(swingComponents.length > 0);
@@ -460,7 +462,7 @@ public class Panel extends AbstractUIComponent {
   }
 
   public <T extends UIComponent> Assertion containsUIComponent(final Class<T> uiComponentClass, final String name) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         UIComponent[] uiComponents = getUIComponents(uiComponentClass, name);
         AssertAdapter.assertTrue(uiComponents.length > 0);
@@ -469,7 +471,7 @@ public class Panel extends AbstractUIComponent {
   }
 
   public <T extends Component> Assertion containsSwingComponent(final Class<T> swingComponentClass, final String name) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         Component[] swingComponents = getSwingComponents(swingComponentClass, name);
         AssertAdapter.assertTrue(swingComponents.length > 0);
@@ -478,7 +480,7 @@ public class Panel extends AbstractUIComponent {
   }
 
   public Assertion containsComponent(final ComponentMatcher matcher) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         AssertAdapter.assertTrue(getSwingComponents(matcher).length > 0);
       }
@@ -491,7 +493,7 @@ public class Panel extends AbstractUIComponent {
    * NB: Only JLabel components are taken into account.
    */
   public Assertion containsLabel(final String text) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         Component[] result = getSwingComponents(and(fromClass(JLabel.class), displayedNameSubstring(text)));
         if (result.length == 0) {
@@ -501,6 +503,21 @@ public class Panel extends AbstractUIComponent {
     };
   }
 
+  /**
+   * Captures the state of this panel and of all its components within a single call to the AWT
+   * event dispatch thread. The returned snapshot can then be checked without reading Swing
+   * components from the test thread.
+   *
+   * @see ComponentSnapshot
+   */
+  public ComponentSnapshot snapshot() {
+    return Utils.invokeAndWait(new Callable<ComponentSnapshot>() {
+      public ComponentSnapshot call() {
+        return ComponentSnapshot.capture(container);
+      }
+    });
+  }
+
   private static ComponentMatcher getMatcherFromName(String componentName) {
     return or(innerNameIdentity(componentName),
               innerNameSubstring(componentName),
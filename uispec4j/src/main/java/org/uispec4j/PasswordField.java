@@ -27,7 +27,7 @@ public class PasswordField extends AbstractUIComponent {
   }
 
   public Assertion passwordEquals(final String hiddenPassword) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         AssertAdapter.assertEquals(hiddenPassword, new String(jPasswordField.getPassword()));
       }
@@ -36,7 +36,7 @@ public class ProgressBar extends AbstractUIComponent {
    * @see #setPrecision
    */
   public Assertion completionEquals(final int expectedValue) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         if (expectedValue == -1) {
           AssertAdapter.assertTrue("The progress bar status is not indeterminate",
@@ -62,7 +62,7 @@ public class ProgressBar extends AbstractUIComponent {
   }
 
   public Assertion displayedValueEquals(final String expectedProgressString) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         AssertAdapter.assertEquals(expectedProgressString, jProgressBar.getString());
       }
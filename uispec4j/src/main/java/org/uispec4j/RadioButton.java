@@ -28,7 +28,7 @@ public class RadioButton extends AbstractButton {
   }
 
   public Assertion isSelected() {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         AssertAdapter.assertTrue(jRadioButton.isSelected());
       }
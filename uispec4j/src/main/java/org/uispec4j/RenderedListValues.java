@@ -0,0 +1,75 @@
+package org.uispec4j;
+
+import javax.swing.*;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+import java.util.Arrays;
+
+/**
+ * Rendered values of the elements of a list model, used by {@link ListBox} and {@link ComboBox} so
+ * that each element is rendered at most once during an operation, whatever the number of matchers
+ * tried on it.<p>
+ * The values are only kept until {@link #dispose()} is called, and they are dropped if the model
+ * is changed meanwhile.
+ */
+class RenderedListValues implements ListDataListener {
+  private static final Object NOT_RENDERED = new Object();
+
+  interface Renderer {
+    String getRenderedValue(int index);
+  }
+
+  private final ListModel model;
+  private final Renderer renderer;
+  private Object[] values;
+
+  RenderedListValues(ListModel model, Renderer renderer) {
+    this.model = model;
+    this.renderer = renderer;
+    model.addListDataListener(this);
+  }
+
+  synchronized int getSize() {
+    return getValues().length;
+  }
+
+  synchronized String get(int index) {
+    Object[] values = getValues();
+    if (values[index] == NOT_RENDERED) {
+      values[index] = renderer.getRenderedValue(index);
+    }
+    return (String)values[index];
+  }
+
+  synchronized String[] getAll() {
+    String[] result = new String[getSize()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = get(i);
+    }
+    return result;
+  }
+
+  void dispose() {
+    model.removeListDataListener(this);
+  }
+
+  private Object[] getValues() {
+    if (values == null) {
+      values = new Object[model.getSize()];
+      Arrays.fill(values, NOT_RENDERED);
+    }
+    return values;
+  }
+
+  public synchronized void intervalAdded(ListDataEvent e) {
+    values = null;
+  }
+
+  public synchronized void intervalRemoved(ListDataEvent e) {
+    values = null;
+  }
+
+  public synchronized void contentsChanged(ListDataEvent e) {
+    values = null;
+  }
+}
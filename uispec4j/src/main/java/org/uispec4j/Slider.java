@@ -38,7 +38,7 @@ public class Slider extends AbstractUIComponent {
    * Checks the slider labels in order.
    */
   public Assertion labelsEqual(final String... expected) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         TreeMap<Integer, String> sortedTree = getSortedTree();
         Utils.assertEquals(expected, sortedTree.values().toArray(new Object[sortedTree.values().size()]));
@@ -61,7 +61,7 @@ public class Slider extends AbstractUIComponent {
    * Checks that the current position corresponds to the specified label
    */
   public Assertion positionEquals(final String expectedLabel) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         AssertAdapter.assertEquals(expectedLabel, getCurrentLabel());
       }
@@ -76,7 +76,7 @@ public class Slider extends AbstractUIComponent {
    * @see #setPrecision(int)
    */
   public Assertion relativePositionEquals(final int expectedValue) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         int relativePosition = getRelativePosition();
         AssertAdapter.assertTrue("Expected " + expectedValue + " but was " + relativePosition,
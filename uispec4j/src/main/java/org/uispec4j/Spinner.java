@@ -32,7 +32,7 @@ public class Spinner extends AbstractSwingUIComponent {
    * Checks that the spinner displays the given value
    */
   public Assertion valueEquals(final Object expectedValue) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         AssertAdapter.assertEquals(expectedValue, jSpinner.getValue());
       }
@@ -43,7 +43,7 @@ public class Spinner extends AbstractSwingUIComponent {
    * Checks that the previous value is the given value
    */
   public Assertion previousValueEquals(final Object expectedPreviousValue) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         Object previousValue = jSpinner.getPreviousValue();
         if (previousValue == null) {
@@ -58,7 +58,7 @@ public class Spinner extends AbstractSwingUIComponent {
    * Checks that the next value is the given value
    */
   public Assertion nextValueEquals(final Object expectedNextValue) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         Object nextValue = jSpinner.getNextValue();
         if (nextValue == null) {
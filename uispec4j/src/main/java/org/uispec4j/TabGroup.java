@@ -44,7 +44,7 @@ public class TabGroup extends AbstractUIComponent {
     final int index = getTabIndex(tabLabel);
     AssertAdapter.assertTrue(tabNotFound(tabLabel), index >= 0);
     jTabbedPane.setSelectedIndex(index);
-    UISpecAssert.assertTrue(new Assertion() {
+    UISpecAssert.assertTrue(new Assertion(getAwtComponent()) {
       public void check() {
         AssertAdapter.assertTrue(jTabbedPane.getSelectedIndex() == index);
       }
@@ -52,7 +52,7 @@ public class TabGroup extends AbstractUIComponent {
   }
 
   public Assertion tabColorEquals(final String[] colors) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         int tabCount = jTabbedPane.getTabCount();
         AssertAdapter.assertEquals("You specified " + colors.length + " colors but there are " +
@@ -71,7 +71,7 @@ public class TabGroup extends AbstractUIComponent {
   }
 
   public Assertion selectedTabEquals(final String tabLabel) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         AssertAdapter.assertEquals(tabLabel, jTabbedPane.getTitleAt(jTabbedPane.getSelectedIndex()));
       }
@@ -79,7 +79,7 @@ public class TabGroup extends AbstractUIComponent {
   }
 
   public Assertion tabNamesEquals(final String[] tabLabels) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         AssertAdapter.assertEquals(tabLabels.length, jTabbedPane.getTabCount());
         for (int i = 0; i < tabLabels.length; i++) {
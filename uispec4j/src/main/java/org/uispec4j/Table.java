@@ -15,6 +15,7 @@ import javax.swing.table.TableColumn;
 import javax.swing.table.TableModel;
 import java.awt.*;
 import java.util.*;
+import java.util.concurrent.Callable;
 
 /**
  * <p>Wrapper for JTable components.</p>
@@ -127,7 +128,7 @@ public class Table extends AbstractSwingUIComponent {
   }
 
   public Assertion rowCountEquals(final int count) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         AssertAdapter.assertEquals("Unexpected number of rows -", count, getRowCount());
       }
@@ -139,7 +140,7 @@ public class Table extends AbstractSwingUIComponent {
   }
 
   public Assertion columnCountEquals(final int count) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         AssertAdapter.assertEquals("Unexpected number of columns -", count, getColumnCount());
       }
@@ -162,9 +163,7 @@ public class Table extends AbstractSwingUIComponent {
    * Returns the value displayed in a given cell using a specific converter.
    */
   public Object getContentAt(int row, int column, TableCellValueConverter converter) {
-    return converter.getValue(row, column,
-                              getSwingRendererComponentAt(row, column),
-                              jTable.getValueAt(row, column));
+    return getValueAt(row, column, converter);
   }
 
   /**
@@ -186,9 +185,9 @@ public class Table extends AbstractSwingUIComponent {
   }
 
   public int getRowIndex(int column, Object value) {
-    int count = jTable.getRowCount();
-    for (int i = 0; i < count; i++) {
-      if (value.equals(getValueAt(i, column))) {
+    Object[] columnValues = getColumnValues(column);
+    for (int i = 0; i < columnValues.length; i++) {
+      if (value.equals(columnValues[i])) {
         return i;
       }
     }
@@ -197,9 +196,9 @@ public class Table extends AbstractSwingUIComponent {
 
   public int[] getRowIndices(int column, Object value) {
     java.util.List<Integer> list = new ArrayList<Integer>();
-    int count = jTable.getRowCount();
-    for (int i = 0; i < count; i++) {
-      if (value.equals(getValueAt(i, column))) {
+    Object[] columnValues = getColumnValues(column);
+    for (int i = 0; i < columnValues.length; i++) {
+      if (value.equals(columnValues[i])) {
         list.add(i);
       }
     }
@@ -258,7 +257,7 @@ public class Table extends AbstractSwingUIComponent {
    * Checks whether a header is displayed for this table.
    */
   public Assertion hasHeader() {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         if (jTable.getTableHeader() == null) {
           AssertAdapter.fail("The table contains an header");
@@ -281,18 +280,23 @@ public class Table extends AbstractSwingUIComponent {
    * {@link #setCellValueConverter(int,TableCellValueConverter)}
    */
   public Assertion contentEquals(final Object[][] expected) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         try {
           int expectedLength = expected.length;
           AssertAdapter.assertEquals(lengthErrorMessage(expectedLength),
                                      expectedLength, getRowCount());
+          Object[][] actual = getValues(0, expectedLength, getColumnRange(0, jTable.getColumnCount()));
           for (int i = 0; i < expectedLength; i++) {
-            checkRow(i, expected[i]);
+            checkRow(i, 0, expected[i], actual[i]);
           }
         }
         catch (Error e) {
-          AssertAdapter.assertEquals(ArrayUtils.toString(expected), getContent());
+          if (Assertion.isFailureMessageReported()) {
+            Object[][] actual = getAllValues();
+            int focusedRow = getFirstDifferentRow(expected, actual);
+            AssertAdapter.assertEquals(ArrayUtils.toString(expected, focusedRow), ArrayUtils.toString(actual, focusedRow));
+          }
           throw e;
         }
       }
@@ -301,17 +305,26 @@ public class Table extends AbstractSwingUIComponent {
 
   public Assertion blockEquals(final int fromRowIndex, final int fromColumnIndex,
                                final int columnCount, final int rowCount, final Object[][] expected) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
+        int checkedRow = 0;
         try {
           AssertAdapter.assertTrue(lengthErrorMessage(fromRowIndex),
                                      fromColumnIndex + rowCount <= getRowCount());
-          for (int i = fromColumnIndex; i < fromColumnIndex + rowCount; i++) {
-            checkRow(i, fromRowIndex, columnCount, expected[i - fromColumnIndex]);
+          if (rowCount > 0) {
+            AssertAdapter.assertTrue(fromRowIndex + columnCount <= jTable.getColumnCount());
+          }
+          Object[][] actual = getValues(fromColumnIndex, rowCount, getColumnRange(fromRowIndex, columnCount));
+          for (int i = 0; i < rowCount; i++) {
+            checkedRow = i;
+            checkValues(fromColumnIndex + i, fromRowIndex, expected[i], actual[i]);
           }
         }
         catch (Error e) {
-          AssertAdapter.assertEquals(ArrayUtils.toString(expected), getContent());
+          if (Assertion.isFailureMessageReported()) {
+            AssertAdapter.assertEquals(ArrayUtils.toString(expected, checkedRow),
+                                       ArrayUtils.toString(getAllValues(), fromColumnIndex + checkedRow));
+          }
           throw e;
         }
       }
@@ -324,7 +337,7 @@ public class Table extends AbstractSwingUIComponent {
    * @see #contentEquals(Object[][])
    */
   public Assertion contentEquals(final String[] columnNames, final Object[][] expected) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         int rowCount = jTable.getRowCount();
         if (expected.length != rowCount) {
@@ -338,10 +351,12 @@ public class Table extends AbstractSwingUIComponent {
             AssertAdapter.fail("Expected array should have " + columnNames.length + " elements for each row " +
                                "- invalid row " + rowIndex + ": " + ArrayUtils.toString(row));
           }
+        }
 
+        Object[][] actual = getValues(0, expected.length, getColumnIndices(columnNames));
+        for (int rowIndex = 0; rowIndex < expected.length; rowIndex++) {
           for (int columnIndex = 0; columnIndex < columnNames.length; columnIndex++) {
-            int actualIndex = getColumnIndex(columnNames[columnIndex]);
-            if (!Utils.equals(expected[rowIndex][columnIndex], getValueAt(rowIndex, actualIndex))) {
+            if (!Utils.equals(expected[rowIndex][columnIndex], actual[rowIndex][columnIndex])) {
               throwError("Error at (" + rowIndex + ", " + columnIndex + ")", columnNames, expected);
             }
           }
@@ -351,8 +366,13 @@ public class Table extends AbstractSwingUIComponent {
   }
 
   private void throwError(String message, String[] columnNames, Object[][] expected) {
-    String actualContent = getContent(columnNames);
-    AssertAdapter.assertEquals(message, ArrayUtils.toString(expected), actualContent);
+    if (!Assertion.isFailureMessageReported()) {
+      AssertAdapter.fail(message);
+    }
+    Object[][] actual = getValues(0, jTable.getRowCount(), getColumnIndices(columnNames));
+    int focusedRow = getFirstDifferentRow(expected, actual);
+    String actualContent = ArrayUtils.toString(actual, focusedRow);
+    AssertAdapter.assertEquals(message, ArrayUtils.toString(expected, focusedRow), actualContent);
     AssertAdapter.fail("Actual: " + actualContent);// in case the string comparison didn't fail
   }
 
@@ -379,7 +399,7 @@ public class Table extends AbstractSwingUIComponent {
   public Assertion cellEquals(final int row, final int column,
                               final Object expectedValue,
                               final TableCellValueConverter converter) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         AssertAdapter.assertEquals("Error at (" + row + "," + column + ") -",
                                    expectedValue, getContentAt(row, column, converter));
@@ -388,7 +408,7 @@ public class Table extends AbstractSwingUIComponent {
   }
 
   public Assertion rowEquals(final int rowIndex, final Object[] expectedRow) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         if (rowIndex < 0) {
           AssertAdapter.fail("Row index should be positive");
@@ -396,12 +416,16 @@ public class Table extends AbstractSwingUIComponent {
         if (rowIndex >= jTable.getRowCount()) {
           AssertAdapter.fail("Table contains only " + jTable.getRowCount() + " rows, unable to access row " + rowIndex);
         }
+        Object[] actualRow = getValues(rowIndex, 1, getColumnRange(0, jTable.getColumnCount()))[0];
         try {
-          checkRow(rowIndex, expectedRow);
+          checkRow(rowIndex, 0, expectedRow, actualRow);
         }
         catch (Error e) {
+          if (!Assertion.isFailureMessageReported()) {
+            throw e;
+          }
           StringBuffer buffer = new StringBuffer();
-          dumpRow(jTable, rowIndex, buffer, ",");
+          dumpValues(actualRow, buffer, ",");
           AssertAdapter.assertEquals(ArrayUtils.toString(expectedRow), buffer);
         }
       }
@@ -409,7 +433,7 @@ public class Table extends AbstractSwingUIComponent {
   }
 
   public Assertion rowEquals(final int rowIndex, final int fromColumnIndex, final int columnCount, final Object[] expectedRow) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         if (rowIndex < 0) {
           AssertAdapter.fail("Row index should be positive");
@@ -417,12 +441,18 @@ public class Table extends AbstractSwingUIComponent {
         if (rowIndex >= jTable.getRowCount()) {
           AssertAdapter.fail("Table contains only " + jTable.getRowCount() + " rows, unable to access row " + rowIndex);
         }
+        Object[] actualRow = getValues(rowIndex, 1, getColumnRange(0, jTable.getColumnCount()))[0];
         try {
-          checkRow(rowIndex, fromColumnIndex, columnCount, expectedRow);
+          AssertAdapter.assertTrue(fromColumnIndex + columnCount <= actualRow.length);
+          checkValues(rowIndex, fromColumnIndex, expectedRow,
+                      Arrays.copyOfRange(actualRow, fromColumnIndex, fromColumnIndex + columnCount));
         }
         catch (Error e) {
+          if (!Assertion.isFailureMessageReported()) {
+            throw e;
+          }
           StringBuffer buffer = new StringBuffer();
-          dumpRow(jTable, rowIndex, buffer, ",");
+          dumpValues(actualRow, buffer, ",");
           AssertAdapter.assertEquals(ArrayUtils.toString(expectedRow), buffer);
         }
       }
@@ -430,7 +460,7 @@ public class Table extends AbstractSwingUIComponent {
   }
 
   public Assertion rowEquals(final int rowIndex, final String[] columnNames, final Object[] expected) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         if (rowIndex < 0) {
           AssertAdapter.fail("Row index should be positive");
@@ -442,18 +472,14 @@ public class Table extends AbstractSwingUIComponent {
           AssertAdapter.fail("Expected array should have " + columnNames.length + " elements for each row " +
                              "- invalid row " + rowIndex + ": " + ArrayUtils.toString(expected));
         }
-        Object[] actual = new Object[expected.length];
-        for (int columnIndex = 0; columnIndex < columnNames.length; columnIndex++) {
-          int actualIndex = getColumnIndex(columnNames[columnIndex]);
-          actual[columnIndex] = getValueAt(rowIndex, actualIndex);
-        }
+        Object[] actual = getValues(rowIndex, 1, getColumnIndices(columnNames))[0];
         ArrayUtils.assertEquals("Unexpected content at row " + rowIndex, expected, actual);
       }
     };
   }
 
   public Assertion columnEquals(final int columnIndex, final Object[] expectedColumn) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         if (columnIndex < 0) {
           AssertAdapter.fail("Column index should be positive");
@@ -461,12 +487,16 @@ public class Table extends AbstractSwingUIComponent {
         if (columnIndex >= jTable.getColumnCount()) {
           AssertAdapter.fail("Table contains only " + jTable.getColumnCount() + " columns, unable to access column " + columnIndex);
         }
+        Object[] actualColumn = getColumnValues(columnIndex);
         try {
-          checkColumn(columnIndex, expectedColumn);
+          checkColumn(columnIndex, expectedColumn, actualColumn);
         }
         catch (Error e) {
+          if (!Assertion.isFailureMessageReported()) {
+            throw e;
+          }
           StringBuffer buffer = new StringBuffer();
-          dumpColumn(jTable, columnIndex, buffer, ",");
+          dumpValues(actualColumn, buffer, ",");
           AssertAdapter.assertEquals(ArrayUtils.toString(expectedColumn), buffer.toString());
         }
       }
@@ -474,13 +504,16 @@ public class Table extends AbstractSwingUIComponent {
   }
 
   public Assertion isEmpty() {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         try {
           AssertAdapter.assertEquals(0, jTable.getRowCount());
         }
         catch (Error e) {
-          AssertAdapter.fail("Expected: empty table but was:" + getContent());
+          if (!Assertion.isFailureMessageReported()) {
+            throw e;
+          }
+          AssertAdapter.fail("Expected: empty table but was:" + ArrayUtils.toString(getAllValues(), 0));
         }
       }
     };
@@ -492,7 +525,7 @@ public class Table extends AbstractSwingUIComponent {
    * @see <a href="http://www.uispec4j.org/colors">Using colors</a>
    */
   public Assertion foregroundEquals(final Object[][] colors) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         checkColors(colors, ComponentColorChecker.FOREGROUND);
       }
@@ -500,7 +533,7 @@ public class Table extends AbstractSwingUIComponent {
   }
 
   public Assertion foregroundNear(final int row, final int column, final Object expected) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         final Component component = getSwingRendererComponentAt(row, column);
         ColorUtils.assertSimilar("Error at (" + row + ", " + column + ")",
@@ -510,7 +543,7 @@ public class Table extends AbstractSwingUIComponent {
   }
 
   public Assertion backgroundNear(final int row, final int column, final Object expected) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         final Component component = getSwingRendererComponentAt(row, column);
         ColorUtils.assertSimilar("Error at (" + row + ", " + column + ")",
@@ -525,7 +558,7 @@ public class Table extends AbstractSwingUIComponent {
    * @see <a href="http://www.uispec4j.org/colors">Using colors</a>
    */
   public Assertion backgroundEquals(final Object[][] colors) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         checkColors(colors, ComponentColorChecker.BACKGROUND);
       }
@@ -537,7 +570,7 @@ public class Table extends AbstractSwingUIComponent {
   }
 
   public Assertion borderEquals(final Border[][] borders) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         assertCellPropertyEquals(borders, new ComponentPropertyAccessor() {
           public Object getProperty(Component component) {
@@ -567,7 +600,7 @@ public class Table extends AbstractSwingUIComponent {
   }
 
   public Assertion isEditable(final boolean[][] expected) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         Boolean[][] actual = new Boolean[jTable.getRowCount()][jTable.getColumnCount()];
         for (int i = 0; i < actual.length; i++) {
@@ -582,7 +615,7 @@ public class Table extends AbstractSwingUIComponent {
   }
 
   public Assertion columnIsEditable(final int columnIndex, final boolean isEditable) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         for (int i = 0; i < jTable.getRowCount(); i++) {
           if (jTable.isCellEditable(i, columnIndex) != isEditable) {
@@ -599,7 +632,7 @@ public class Table extends AbstractSwingUIComponent {
   }
 
   public Assertion cellIsEditable(final int rowIndex, final int columnIndex) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         AssertAdapter.assertTrue(jTable.isCellEditable(rowIndex, columnIndex));
       }
@@ -611,7 +644,7 @@ public class Table extends AbstractSwingUIComponent {
   }
 
   public Assertion selectionIsEmpty() {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         AssertAdapter.assertTrue("Selection is not empty", jTable.getSelectionModel().isSelectionEmpty());
       }
@@ -622,7 +655,7 @@ public class Table extends AbstractSwingUIComponent {
    * Checks the selection on a cell-by-cell basis.
    */
   public Assertion selectionEquals(final boolean[][] expected) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         int rowCount = expected.length;
         int columnCount = expected[0].length;
@@ -648,7 +681,7 @@ public class Table extends AbstractSwingUIComponent {
   }
 
   public Assertion rowIsSelected(final int rowIndex) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         AssertAdapter.assertTrue(jTable.isRowSelected(rowIndex));
       }
@@ -656,7 +689,7 @@ public class Table extends AbstractSwingUIComponent {
   }
 
   public Assertion cellIsSelected(final int rowIndex, final int columnIndex) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         if (!jTable.getCellSelectionEnabled()) {
           AssertAdapter.fail("Cell-level selection is not supported on this table");
@@ -671,51 +704,29 @@ public class Table extends AbstractSwingUIComponent {
   }
 
   private String getContent() {
-    StringBuffer buffer = new StringBuffer();
-    buffer.append('[');
-    for (int row = 0, rowCount = jTable.getRowCount(); row < rowCount; row++) {
-      if (row > 0) {
-        buffer.append("\n ");
-      }
-      buffer.append('[');
-      dumpRow(jTable, row, buffer, ",\t");
-      buffer.append(']');
-    }
-    buffer.append(']');
-    return buffer.toString();
+    return ArrayUtils.toString(getAllValues());
   }
 
-  private String getContent(String[] columnNames) {
-    StringBuffer buffer = new StringBuffer();
-    buffer.append('[');
-    for (int row = 0, rowCount = jTable.getRowCount(); row < rowCount; row++) {
-      if (row > 0) {
-        buffer.append("\n ");
-      }
-      buffer.append('[');
-      for (int col = 0, colCount = columnNames.length; col < colCount; col++) {
-        buffer.append(getValueAt(row, getColumnIndex(columnNames[col])));
-        if (col < (colCount - 1)) {
-          buffer.append(",\t");
-        }
+  Object[][] getAllValues() {
+    return getValues(0, jTable.getRowCount(), getColumnRange(0, jTable.getColumnCount()));
+  }
+
+  static int getFirstDifferentRow(Object[][] expected, Object[][] actual) {
+    int rowCount = Math.min(expected.length, actual.length);
+    for (int row = 0; row < rowCount; row++) {
+      if (!Arrays.equals(expected[row], actual[row])) {
+        return row;
       }
-      buffer.append(']');
     }
-    buffer.append(']');
-    return buffer.toString();
+    return rowCount;
   }
 
   private String getColumnContent(int column) {
-    StringBuilder builder = new StringBuilder();
-    builder.append("[");
-    for (int row = 0; row < jTable.getRowCount(); row++) {
-      builder.append(getContentAt(row, column));
-      if (row < jTable.getRowCount() - 1) {
-        builder.append(", ");
-      }
-    }
-    builder.append("]");
-    return builder.toString();
+    StringBuffer buffer = new StringBuffer();
+    buffer.append("[");
+    dumpValues(getColumnValues(column), buffer, ", ");
+    buffer.append("]");
+    return buffer.toString();
   }
 
   public Component getSwingEditorComponentAt(int row, int column) {
@@ -738,7 +749,7 @@ public class Table extends AbstractSwingUIComponent {
   }
 
   public Assertion columnSizeEquals(final String columnName, final int expectedWidth) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         AssertAdapter.assertEquals(expectedWidth, findColumn(columnName).getPreferredWidth());
       }
@@ -746,7 +757,7 @@ public class Table extends AbstractSwingUIComponent {
   }
 
   public Assertion columnSizeEquals(final int columnIndex, final int expectedWidth) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         AssertAdapter.assertEquals(expectedWidth,
                                    jTable.getColumnModel().getColumn(columnIndex).getPreferredWidth());
@@ -755,7 +766,7 @@ public class Table extends AbstractSwingUIComponent {
   }
 
   public Assertion rowsAreSelected(final int... rowIndexes) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         int[] actualSelection = jTable.getSelectedRows();
         Arrays.sort(actualSelection);
@@ -866,7 +877,7 @@ public class Table extends AbstractSwingUIComponent {
    * just check that the first few are correct.
    */
   public Assertion startsWith(final Object[][] expectedFirstRows) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         int expectedLength = expectedFirstRows.length;
         checkLengthGreaterThan(expectedLength);
@@ -883,7 +894,7 @@ public class Table extends AbstractSwingUIComponent {
    * just check that the last few are correct.
    */
   public Assertion endsWith(final Object[][] expectedEndRows) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         int expectedLength = expectedEndRows.length;
         checkLengthGreaterThan(expectedLength);
@@ -898,11 +909,14 @@ public class Table extends AbstractSwingUIComponent {
    * Checks that the table contains a complete row.
    */
   public Assertion containsRow(final Object[] expectedRow) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
-        for (int i = 0; i < getRowCount(); i++) {
-          if (rowEquals(i, expectedRow).isTrue()) {
-            return;
+        if (expectedRow.length == jTable.getColumnCount()) {
+          Object[][] actual = getValues(0, jTable.getRowCount(), getColumnRange(0, expectedRow.length));
+          for (Object[] actualRow : actual) {
+            if (Arrays.equals(expectedRow, actualRow)) {
+              return;
+            }
           }
         }
         AssertAdapter.fail("row " + ArrayUtils.toString(expectedRow) + " not found in table.");
@@ -914,7 +928,7 @@ public class Table extends AbstractSwingUIComponent {
    * Checks that the table contains a row with a given cell.
    */
   public Assertion containsRow(final int columnIndex, final Object cellContent) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         int index = getRowIndex(columnIndex, cellContent);
         if (index < 0) {
@@ -945,7 +959,7 @@ public class Table extends AbstractSwingUIComponent {
      * Checks the column names.
      */
     public Assertion contentEquals(final String... expectedHeaders) {
-      return new Assertion() {
+      return new Assertion(getAwtComponent()) {
         public void check() {
           checkHeader();
           try {
@@ -963,7 +977,7 @@ public class Table extends AbstractSwingUIComponent {
     }
 
     public Assertion contentEquals(final int countHeaderToCheck, final String... expectedHeaders) {
-      return new Assertion() {
+      return new Assertion(getAwtComponent()) {
         public void check() {
           checkHeader();
           try {
@@ -992,7 +1006,7 @@ public class Table extends AbstractSwingUIComponent {
      * Checks the background color on each column of the table header.
      */
     public Assertion backgroundEquals(final Object[] expectedColors) {
-      return new Assertion() {
+      return new Assertion(getAwtComponent()) {
         public void check() {
           checkHeader();
           TableModel model = jTable.getModel();
@@ -1093,55 +1107,97 @@ public class Table extends AbstractSwingUIComponent {
     return jTable.getColumnModel().getColumn(columnIndex);
   }
 
-  private void dumpRow(JTable table, int row, StringBuffer buffer, String separator) {
-    for (int col = 0, colCount = table.getColumnCount(); col < colCount; col++) {
-      buffer.append(getValueAt(row, col));
-      if (col < (colCount - 1)) {
-        buffer.append(separator);
-      }
-    }
-  }
-
-  private void dumpColumn(JTable table, int col, StringBuffer buffer, String separator) {
-    for (int row = 0, rowCount = table.getRowCount(); row < rowCount; row++) {
-      buffer.append(getValueAt(row, col));
-      if (row < (rowCount - 1)) {
+  private static void dumpValues(Object[] values, StringBuffer buffer, String separator) {
+    for (int i = 0; i < values.length; i++) {
+      buffer.append(values[i]);
+      if (i < (values.length - 1)) {
         buffer.append(separator);
       }
     }
   }
 
-  private void checkRow(int rowIndex, Object[] expectedRow) {
-    AssertAdapter.assertEquals(expectedRow.length, jTable.getColumnCount());
-    for (int columnIndex = 0; columnIndex < expectedRow.length; columnIndex++) {
-      checkValueAt(rowIndex, columnIndex, expectedRow[columnIndex]);
-    }
+  private void checkRow(int rowIndex, int fromColumnIndex, Object[] expectedRow, Object[] actualRow) {
+    AssertAdapter.assertEquals(expectedRow.length, actualRow.length);
+    checkValues(rowIndex, fromColumnIndex, expectedRow, actualRow);
   }
 
-  private void checkRow(int rowIndex, int fromColumnIndex, int columnCount, Object[] expectedRow) {
-    AssertAdapter.assertTrue(fromColumnIndex + columnCount <= jTable.getColumnCount());
-    for (int columnIndex = fromColumnIndex; columnIndex < fromColumnIndex + columnCount; columnIndex++) {
-      checkValueAt(rowIndex, columnIndex, expectedRow[columnIndex - fromColumnIndex]);
+  private void checkValues(int rowIndex, int fromColumnIndex, Object[] expectedValues, Object[] actualValues) {
+    for (int i = 0; i < actualValues.length; i++) {
+      checkValueAt(rowIndex, fromColumnIndex + i, expectedValues[i], actualValues[i]);
     }
   }
 
-  private void checkColumn(int columnIndex, Object[] expectedColumn) {
-    AssertAdapter.assertEquals(expectedColumn.length, jTable.getRowCount());
+  private void checkColumn(int columnIndex, Object[] expectedColumn, Object[] actualColumn) {
+    AssertAdapter.assertEquals(expectedColumn.length, actualColumn.length);
     for (int rowIndex = 0; rowIndex < expectedColumn.length; rowIndex++) {
-      checkValueAt(rowIndex, columnIndex, expectedColumn[rowIndex]);
+      checkValueAt(rowIndex, columnIndex, expectedColumn[rowIndex], actualColumn[rowIndex]);
     }
   }
 
-  private void checkValueAt(int rowIndex, int columnIndex, Object expectedValue) {
+  private void checkValueAt(int rowIndex, int columnIndex, Object expectedValue, Object actualValue) {
     AssertAdapter.assertEquals("Element at (" + rowIndex + ", " + columnIndex + ") does not match",
                                expectedValue,
-                               getValueAt(rowIndex, columnIndex));
+                               actualValue);
   }
 
   private Object getValueAt(int rowIndex, int columnIndex) {
-    return getCellValueConverter(columnIndex).getValue(rowIndex, columnIndex,
-                                                       getSwingRendererComponentAt(rowIndex, columnIndex),
-                                                       jTable.getValueAt(rowIndex, columnIndex));
+    return getValueAt(rowIndex, columnIndex, getCellValueConverter(columnIndex));
+  }
+
+  private Object getValueAt(int rowIndex, int columnIndex, TableCellValueConverter converter) {
+    if (!converter.usesRenderedComponent()) {
+      return converter.getValue(rowIndex, columnIndex, null, jTable.getValueAt(rowIndex, columnIndex));
+    }
+    return converter.getValue(rowIndex, columnIndex,
+                              getSwingRendererComponentAt(rowIndex, columnIndex),
+                              jTable.getValueAt(rowIndex, columnIndex));
+  }
+
+  /**
+   * Reads the values of a block of cells within a single hop to the event dispatch thread, so that
+   * large tables are read consistently and without one thread switch per cell.
+   */
+  private Object[][] getValues(final int fromRow, final int rowCount, final int[] columns) {
+    return Utils.invokeAndWait(new Callable<Object[][]>() {
+      public Object[][] call() {
+        TableCellValueConverter[] converters = new TableCellValueConverter[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+          converters[i] = getCellValueConverter(columns[i]);
+        }
+        Object[][] values = new Object[rowCount][columns.length];
+        for (int row = 0; row < rowCount; row++) {
+          for (int i = 0; i < columns.length; i++) {
+            values[row][i] = getValueAt(fromRow + row, columns[i], converters[i]);
+          }
+        }
+        return values;
+      }
+    });
+  }
+
+  private Object[] getColumnValues(int column) {
+    Object[][] values = getValues(0, jTable.getRowCount(), new int[]{column});
+    Object[] result = new Object[values.length];
+    for (int row = 0; row < values.length; row++) {
+      result[row] = values[row][0];
+    }
+    return result;
+  }
+
+  private static int[] getColumnRange(int fromColumn, int columnCount) {
+    int[] columns = new int[columnCount];
+    for (int i = 0; i < columnCount; i++) {
+      columns[i] = fromColumn + i;
+    }
+    return columns;
+  }
+
+  private int[] getColumnIndices(String[] columnNames) {
+    int[] columns = new int[columnNames.length];
+    for (int i = 0; i < columnNames.length; i++) {
+      columns[i] = getColumnIndex(columnNames[i]);
+    }
+    return columns;
   }
 
   private TableCellValueConverter getCellValueConverter(int columnIndex) {
@@ -10,4 +10,13 @@ import java.awt.*;
  */
 public interface TableCellValueConverter {
   Object getValue(int row, int column, Component renderedComponent, Object modelObject);
+
+  /**
+   * Returns false if {@link #getValue} only uses the model object. In that case the table does not call
+   * the cell renderer, and <code>renderedComponent</code> is null - which makes a big difference
+   * when checking the content of large tables.
+   */
+  default boolean usesRenderedComponent() {
+    return true;
+  }
 }
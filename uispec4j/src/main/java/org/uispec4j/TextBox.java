@@ -113,7 +113,7 @@ public class TextBox extends AbstractSwingUIComponent {
    * without being too dependent on the actual wording.
    */
   public Assertion textContains(final String... orderedTexts) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         String actual = handler.getText();
         int index = 0;
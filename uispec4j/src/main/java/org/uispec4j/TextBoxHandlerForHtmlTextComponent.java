@@ -4,7 +4,7 @@ import org.uispec4j.assertion.Assertion;
 import org.uispec4j.assertion.UISpecAssert;
 import org.uispec4j.assertion.testlibrairies.AssertAdapter;
 import org.uispec4j.utils.Utils;
-import org.uispec4j.xml.XmlAssert;
+import org.uispec4j.xml.EquivalentXml;
 
 import javax.swing.*;
 import javax.swing.event.HyperlinkEvent;
@@ -25,38 +25,34 @@ class TextBoxHandlerForHtmlTextComponent extends AbstractTextBoxHandlerForTextCo
     return (accept(textComponent)) ? new TextBoxHandlerForHtmlTextComponent(textComponent) : null;
   }
 
+  private final HtmlTextCache textCache;
+
   private TextBoxHandlerForHtmlTextComponent(JTextComponent textComponent) {
     super(textComponent);
+    this.textCache = HtmlTextCache.get(textComponent);
+  }
+
+  public String getText() {
+    return textCache.getHtml();
   }
 
   public Assertion textIsEmpty() {
-    return new Assertion() {
+    return new Assertion(jTextComponent) {
       public void check() {
-        String actualText = jTextComponent.getText();
-        JTextPane dummyPane = createHtmlTextPane();
-        if (isEquivalent(dummyPane, actualText)) {
-          return;
-        }
-
-        dummyPane.setText("<html><p></html>");
-        dummyPane.setText("");
-        if (isEquivalent(dummyPane, actualText)) {
-          return;
-        }
-
-        dummyPane.setText("<p></p>");
-        if (isEquivalent(dummyPane, actualText)) {
-          return;
+        String actualText = getText();
+        for (EquivalentXml emptyText : EmptyTexts.VALUES) {
+          if (isEquivalent(emptyText, actualText)) {
+            return;
+          }
         }
-
         AssertAdapter.fail("Text should be empty but contains: " + actualText);
       }
     };
   }
 
-  private boolean isEquivalent(JTextPane dummyPane, String actualText) {
+  private boolean isEquivalent(EquivalentXml expectedText, String actualText) {
     try {
-      XmlAssert.assertEquivalent(dummyPane.getText(), actualText);
+      expectedText.assertEquivalent(actualText);
       return true;
     }
     catch (Error e) {
@@ -68,24 +64,26 @@ class TextBoxHandlerForHtmlTextComponent extends AbstractTextBoxHandlerForTextCo
   }
 
   public Assertion textEquals(final String text) {
-    return new Assertion() {
+    return new Assertion(jTextComponent) {
       public void check() {
-        String actual = Utils.cleanupHtml(jTextComponent.getText());
-        AssertAdapter.assertEquals(text, actual);
+        AssertAdapter.assertEquals(text, textCache.getPlainText());
       }
     };
   }
 
   public Assertion htmlEquals(final String html) {
-    return new Assertion() {
+    return new Assertion(jTextComponent) {
+      private String expectedHtml;
+
       public void check() {
         if (html.equals("")) {
           textIsEmpty();
           return;
         }
-        JTextPane dummyPane = createHtmlTextPane();
-        dummyPane.setText(html);
-        AssertAdapter.assertEquals(dummyPane.getText(), jTextComponent.getText());
+        if (expectedHtml == null) {
+          expectedHtml = HtmlNormalizer.normalize(html);
+        }
+        AssertAdapter.assertEquals(expectedHtml, getText());
       }
     };
   }
@@ -117,12 +115,6 @@ class TextBoxHandlerForHtmlTextComponent extends AbstractTextBoxHandlerForTextCo
     }
   }
 
-  private JTextPane createHtmlTextPane() {
-    JTextPane dummyPane = new JTextPane();
-    dummyPane.setContentType("text/html; charset=UTF-8");
-    return dummyPane;
-  }
-
   private static boolean accept(JTextComponent jTextComponent) {
     if (!JEditorPane.class.isInstance(jTextComponent)) {
       return false;
@@ -131,6 +123,17 @@ class TextBoxHandlerForHtmlTextComponent extends AbstractTextBoxHandlerForTextCo
     return editorPane.getEditorKit().getContentType().startsWith("text/html");
   }
 
+  /**
+   * Texts of an HTML pane that contains nothing, parsed once for all the components.
+   */
+  private static class EmptyTexts {
+    static final EquivalentXml[] VALUES = {
+      new EquivalentXml(HtmlNormalizer.normalize()),
+      new EquivalentXml(HtmlNormalizer.normalize("<html><p></html>", "")),
+      new EquivalentXml(HtmlNormalizer.normalize("<html><p></html>", "", "<p></p>"))
+    };
+  }
+
   private class HyperLinkFoundAssertion extends Assertion {
     private String link;
     private String href;
@@ -148,7 +151,7 @@ class TextBoxHandlerForHtmlTextComponent extends AbstractTextBoxHandlerForTextCo
     }
 
     private String getHyperLink(String link) {
-      String text = jTextComponent.getText();
+      String text = getText();
       Matcher matcher = HYPERLINK_PATTERN.matcher(text);
       String lowerCaseLink = link.toLowerCase();
       List<String> exactResults = new ArrayList<String>();
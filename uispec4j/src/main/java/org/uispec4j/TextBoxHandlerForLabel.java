@@ -39,7 +39,7 @@ class TextBoxHandlerForLabel implements TextBox.Handler {
   }
 
   public Assertion textIsEmpty() {
-    return new Assertion() {
+    return new Assertion(jLabel) {
       public void check() {
         AssertAdapter.assertTrue("Text should be empty but contains: " + jLabel.getText(),
                                   jLabel.getText().length() == 0);
@@ -48,7 +48,7 @@ class TextBoxHandlerForLabel implements TextBox.Handler {
   }
 
   public Assertion textEquals(final String text) {
-    return new Assertion() {
+    return new Assertion(jLabel) {
       public void check() {
         AssertAdapter.assertEquals(text, jLabel.getText());
       }
@@ -56,7 +56,7 @@ class TextBoxHandlerForLabel implements TextBox.Handler {
   }
 
   public Assertion htmlEquals(String html) {
-    return new Assertion() {
+    return new Assertion(jLabel) {
       public void check() {
         AssertAdapter.fail("This component does not support html.");
       }
@@ -64,7 +64,7 @@ class TextBoxHandlerForLabel implements TextBox.Handler {
   }
 
   public Assertion textContains(final String text) {
-    return new Assertion() {
+    return new Assertion(jLabel) {
       public void check() {
         String actualText = jLabel.getText();
         AssertAdapter.assertTrue("The component text does not contain '" + text +
@@ -75,7 +75,7 @@ class TextBoxHandlerForLabel implements TextBox.Handler {
   }
 
   public Assertion textDoesNotContain(final String text) {
-    return new Assertion() {
+    return new Assertion(jLabel) {
       public void check() {
         String actualText = jLabel.getText();
         AssertAdapter.assertTrue("The component text should not contain '" + text +
@@ -86,7 +86,7 @@ class TextBoxHandlerForLabel implements TextBox.Handler {
   }
 
   public Assertion isEditable() {
-    return new Assertion() {
+    return new Assertion(jLabel) {
       public void check() {
         AssertAdapter.fail("Text is not editable");
       }
@@ -98,7 +98,7 @@ class TextBoxHandlerForLabel implements TextBox.Handler {
   }
 
   public Assertion iconEquals(final Icon icon) {
-    return new Assertion() {
+    return new Assertion(jLabel) {
       public void check() {
         AssertAdapter.assertEquals("Unexpected icon", icon, jLabel.getIcon());
       }
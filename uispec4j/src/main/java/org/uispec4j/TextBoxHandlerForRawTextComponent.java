@@ -11,7 +11,7 @@ class TextBoxHandlerForRawTextComponent extends AbstractTextBoxHandlerForTextCom
   }
 
   public Assertion textIsEmpty() {
-    return new Assertion() {
+    return new Assertion(jTextComponent) {
       public void check() {
         String actualText = jTextComponent.getText();
         AssertAdapter.assertTrue("Text should be empty but contains: " + actualText,
@@ -22,7 +22,7 @@ class TextBoxHandlerForRawTextComponent extends AbstractTextBoxHandlerForTextCom
 
   public Assertion textEquals(final String text) {
     return "".equals(text) ? textIsEmpty() :
-           new Assertion() {
+           new Assertion(jTextComponent) {
              public void check() {
                AssertAdapter.assertEquals(text, jTextComponent.getText());
              }
@@ -34,7 +34,7 @@ class TextBoxHandlerForRawTextComponent extends AbstractTextBoxHandlerForTextCom
   }
 
   public Assertion htmlEquals(String html) {
-    return new Assertion() {
+    return new Assertion(jTextComponent) {
       public void check() {
         AssertAdapter.fail("This component does not support html.");
       }
@@ -28,7 +28,7 @@ public class ToggleButton extends AbstractButton {
   }
 
   public Assertion isSelected() {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         AssertAdapter.assertTrue(jToggleButton.isSelected());
       }
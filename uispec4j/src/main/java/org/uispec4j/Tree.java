@@ -76,11 +76,12 @@ public class Tree extends AbstractSwingUIComponent {
   public static final String TYPE_NAME = "tree";
   public static final Class[] SWING_CLASSES = {JTree.class};
   static final String SEPARATOR_PROPERTY = "uispec4j.tree.separator";
+  private static final TreeCellValueConverter DEFAULT_CELL_VALUE_CONVERTER = new DefaultTreeCellValueConverter();
 
   private JTree jTree;
   static String defaultSeparator = "/";
   private String separator;
-  private TreeCellValueConverter cellValueConverter = new DefaultTreeCellValueConverter();
+  private TreeCellValueConverter cellValueConverter = DEFAULT_CELL_VALUE_CONVERTER;
 
   private static final Pattern COLOR_PROPERTY_PATTERN =
     Pattern.compile(" #\\(.*color=([\\w]+)\\)");
@@ -182,7 +183,7 @@ public class Tree extends AbstractSwingUIComponent {
    * </ul>
    */
   public Assertion contentEquals(final String expectedContents) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         String trimmedExpected = expectedContents.trim();
         AssertAdapter.assertTrue("Expected tree description should not be empty",
@@ -196,7 +197,7 @@ public class Tree extends AbstractSwingUIComponent {
    * Checks that a node identified by the given path is present in the jTree.
    */
   public Assertion contains(final String path) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         getTreePath(path);
       }
@@ -369,7 +370,7 @@ public class Tree extends AbstractSwingUIComponent {
    * Checks that a given node is selected, and that is is the only selection.
    */
   public Assertion selectionEquals(final String path) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         TreePath selectionPath = jTree.getSelectionPath();
         AssertAdapter.assertNotNull("The current tree selection is null.", selectionPath);
@@ -384,7 +385,7 @@ public class Tree extends AbstractSwingUIComponent {
    * Checks the selection contents.
    */
   public Assertion selectionEquals(final String[] paths) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         String[] expectedPaths = paths.clone();
         TreePath[] selectionPaths = jTree.getSelectionPaths();
@@ -408,7 +409,7 @@ public class Tree extends AbstractSwingUIComponent {
    * Checks that the selection is empty.
    */
   public Assertion selectionIsEmpty() {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         AssertAdapter.assertEquals(0, jTree.getSelectionCount());
       }
@@ -419,7 +420,7 @@ public class Tree extends AbstractSwingUIComponent {
    * Checks the font color used on a given node.
    */
   public Assertion foregroundEquals(final String path, final String color) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         Object userObject = getTreePath(path).getLastPathComponent();
         ColorUtils.assertEquals(color, getShownColor(userObject));
@@ -433,7 +434,7 @@ public class Tree extends AbstractSwingUIComponent {
    * @param path a String identifying the path to be expanded or collapsed
    */
   public Assertion pathIsExpanded(final String path) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         AssertAdapter.assertTrue(jTree.isExpanded(getTreePath(path)));
       }
@@ -499,7 +500,7 @@ public class Tree extends AbstractSwingUIComponent {
     return jTree.getRowBounds(jTree.getRowForPath(treePath));
   }
 
-  private String getShownText(Object object) {
+  String getShownText(Object object) {
     return cellValueConverter.getValue(getRenderedComponent(object), object);
   }
 
@@ -527,44 +528,16 @@ public class Tree extends AbstractSwingUIComponent {
 
   private TreePath findTreePath(String path) {
     String[] pathArray = toArray(path, separator);
-    TreeModel model = jTree.getModel();
     Object[] objects = new Object[pathArray.length + 1];
-    Object node = model.getRoot();
+    Object node = jTree.getModel().getRoot();
     objects[0] = node;
     for (int i = 0; i < pathArray.length; i++) {
-      Object exactMatch = null;
-      Object substringMatch = null;
-      boolean substringAmbiguity = false;
-      for (int j = 0; (j < model.getChildCount(node)); j++) {
-        Object child = model.getChild(node, j);
-        String shownText = getShownText(child);
-        if (pathArray[i].equals(shownText)) {
-          if (exactMatch != null) {
-            AssertAdapter.fail("Naming ambiguity: there are several '" +
-                               pathArray[i] + "' under '" +
-                               getShownText(node) + "'");
-          }
-          exactMatch = child;
-        }
-        else if (shownText.indexOf(pathArray[i]) >= 0) {
-          if (substringMatch != null) {
-            substringAmbiguity = true;
-          }
-          substringMatch = child;
-        }
-      }
-      Object result = null;
-      if (exactMatch != null) {
-        result = exactMatch;
-      }
-      else if (substringAmbiguity) {
+      Object result = findChild(node, pathArray[i]);
+      if (result == TreePathIndex.AMBIGUOUS) {
         AssertAdapter.fail("Naming ambiguity: there are several '" +
                            pathArray[i] + "' under '" +
                            getShownText(node) + "'");
       }
-      else {
-        result = substringMatch;
-      }
       if (result == null) {
         return null;
       }
@@ -574,6 +547,43 @@ public class Tree extends AbstractSwingUIComponent {
     return new TreePath(objects);
   }
 
+  /**
+   * Returns the child showing exactly the given name, or else the only child whose shown text
+   * contains it - or {@link TreePathIndex#AMBIGUOUS} if several children match.
+   */
+  private Object findChild(Object node, String name) {
+    if (!UISpec4J.isTreePathIndexEnabled()) {
+      return createLevel(node).find(name);
+    }
+    TreePathIndex index = TreePathIndex.get(jTree);
+    TreePathIndex.Level level = index.getLevel(node, cellValueConverter);
+    if (level != null) {
+      Object result = level.find(name);
+      if ((result != null) && (result != TreePathIndex.AMBIGUOUS)) {
+        return result;
+      }
+      // The shown texts may have changed without the model telling it
+      index.removeLevel(node);
+    }
+    int modificationCount = index.getModificationCount();
+    level = createLevel(node);
+    index.putLevel(node, level, modificationCount);
+    return level.find(name);
+  }
+
+  private TreePathIndex.Level createLevel(Object node) {
+    TreeModel model = jTree.getModel();
+    int childCount = model.getChildCount(node);
+    List<Object> children = new ArrayList<Object>(childCount);
+    List<String> texts = new ArrayList<String>(childCount);
+    for (int i = 0; i < childCount; i++) {
+      Object child = model.getChild(node, i);
+      children.add(child);
+      texts.add(getShownText(child));
+    }
+    return new TreePathIndex.Level(children, texts);
+  }
+
   private static String[] toArray(String path, String separator) {
     List<String> result = new ArrayList<String>();
     for (int index = 0; index < path.length();) {
@@ -616,28 +626,61 @@ public class Tree extends AbstractSwingUIComponent {
     return buffer.toString();
   }
 
+  /**
+   * The tree is compared while it is walked, so that the comparison stops at the first different
+   * line. The whole tree contents is only built for reporting the failure.
+   */
   private void checkContents(String trimmedExpected) {
+    ContentsComparison comparison = new ContentsComparison(trimmedExpected);
+    TreeModel model = jTree.getModel();
+    if (comparison.matches(model.getRoot(), model, 0) && !comparison.hasNextExpectedLine()) {
+      return;
+    }
+    if (!Assertion.isFailureMessageReported() && !comparison.hasMultiLineText()) {
+      AssertAdapter.fail("Unexpected tree content");
+    }
     compareContents(trimmedExpected, getContent());
   }
 
-  private String getContent() {
+  String getContent() {
     TreeModel model = jTree.getModel();
     Object root = model.getRoot();
-    StringBuffer buffer = new StringBuffer();
-    fillBuffer(root, model, buffer, "");
-    return buffer.toString();
+    StringBuilder builder = new StringBuilder();
+    fillBuffer(root, model, builder, 0);
+    return builder.toString();
   }
 
-  private void compareContents(String expected, String actual) {
+  static void compareContents(String expected, String actual) {
     if (expected.equals(actual)) {
       return;
     }
-    if (!areLinesEqual(toLines(expected), toLines(actual))) {
-      AssertAdapter.assertEquals(expected, actual);
+    List<String> expectedLines = toLines(expected);
+    List<String> actualLines = toLines(actual);
+    if (!areLinesEqual(expectedLines, actualLines)) {
+      if (!Assertion.isFailureMessageReported()) {
+        AssertAdapter.fail("Unexpected tree content");
+      }
+      int rowLimit = UISpec4J.getFailureMessageRowLimit();
+      if ((expectedLines.size() <= rowLimit) && (actualLines.size() <= rowLimit)) {
+        AssertAdapter.assertEquals(expected, actual);
+      }
+      int focusedLine = getFirstDifferentLine(expectedLines, actualLines);
+      AssertAdapter.assertEquals(ArrayUtils.toVerticalString(expectedLines.toArray(), focusedLine),
+                                 ArrayUtils.toVerticalString(actualLines.toArray(), focusedLine));
+    }
+  }
+
+  private static int getFirstDifferentLine(List<String> expected, List<String> actual) {
+    int lineCount = Math.min(expected.size(), actual.size());
+    for (int i = 0; i < lineCount; i++) {
+      if (!areLinesEqual(expected.get(i), actual.get(i))) {
+        return i;
+      }
     }
+    return lineCount;
   }
 
-  private boolean areLinesEqual(List expected, List actual) {
+  private static boolean areLinesEqual(List expected, List actual) {
     if (expected.size() != actual.size()) {
       return false;
     }
@@ -651,10 +694,13 @@ public class Tree extends AbstractSwingUIComponent {
     return true;
   }
 
-  private boolean areLinesEqual(String expected, String actual) {
+  private static boolean areLinesEqual(String expected, String actual) {
     if (expected.equals(actual)) {
       return true;
     }
+    if (!expected.contains("color=") || !actual.contains("color=")) {
+      return false;
+    }
     Matcher expectedMatcher = COLOR_PROPERTY_PATTERN.matcher(expected);
     Matcher actualMatcher = COLOR_PROPERTY_PATTERN.matcher(actual);
     String expectedWithoutColor = expectedMatcher.replaceFirst("C");
@@ -667,7 +713,7 @@ public class Tree extends AbstractSwingUIComponent {
     return ColorUtils.equals(expectedColor, ColorUtils.getColor(actualColor));
   }
 
-  private List<String> toLines(String text) {
+  private static List<String> toLines(String text) {
     StringTokenizer tokenizer = new StringTokenizer(text, "\n");
     List<String> result = new ArrayList<String>();
     while (tokenizer.hasMoreTokens()) {
@@ -678,20 +724,33 @@ public class Tree extends AbstractSwingUIComponent {
 
   private void fillBuffer(Object obj,
                           TreeModel model,
-                          StringBuffer buffer,
-                          String indent) {
-    String text = getShownText(obj);
-    buffer.append(indent).append(text);
-    boolean bold = isBold(obj);
-    fillNodeProperties(bold, getShownColor(obj), buffer);
-    buffer.append('\n');
+                          StringBuilder builder,
+                          int depth) {
+    int start = builder.length();
+    fillLine(obj, depth, builder);
+    int childDepth = depth;
+    if (builder.length() > start) {
+      builder.append('\n');
+      childDepth++;
+    }
     for (int i = 0, max = model.getChildCount(obj); i < max; i++) {
       Object child = model.getChild(obj, i);
-      fillBuffer(child, model, buffer, indent + "  ");
+      fillBuffer(child, model, builder, childDepth);
     }
   }
 
-  private void fillNodeProperties(boolean bold, Color shownColor, StringBuffer buffer) {
+  private void fillLine(Object obj, int depth, StringBuilder builder) {
+    for (int i = 0; i < depth; i++) {
+      builder.append("  ");
+    }
+    Component renderedComponent = getRenderedComponent(obj);
+    builder.append(cellValueConverter.getValue(renderedComponent, obj));
+    fillNodeProperties(cellValueConverter.isBold(renderedComponent, obj),
+                       cellValueConverter.getForeground(renderedComponent, obj),
+                       builder);
+  }
+
+  private void fillNodeProperties(boolean bold, Color shownColor, StringBuilder buffer) {
     String shownColorDescription = getShownColorDescription(shownColor);
     if (bold || (shownColorDescription != null)) {
       buffer.append(" #(");
@@ -724,6 +783,86 @@ public class Tree extends AbstractSwingUIComponent {
     return null;
   }
 
+  /**
+   * Walks the tree model together with the expected lines. Empty expected lines are skipped, as done
+   * when the whole contents are compared. A root node without text has no line either, and its
+   * children are shown without indentation, as in {@link Tree#getContent()}.
+   */
+  private class ContentsComparison {
+    private final String expected;
+    private final StringBuilder line = new StringBuilder();
+    private int position;
+    private boolean multiLineText;
+
+    ContentsComparison(String expected) {
+      this.expected = expected;
+      skipEmptyLines();
+    }
+
+    boolean matches(Object node, TreeModel model, int depth) {
+      line.setLength(0);
+      fillLine(node, depth, line);
+      int childDepth = depth;
+      if (line.length() > 0) {
+        if (!matchesNextExpectedLine()) {
+          return false;
+        }
+        childDepth++;
+      }
+      for (int i = 0, max = model.getChildCount(node); i < max; i++) {
+        if (!matches(model.getChild(node, i), model, childDepth)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private boolean matchesNextExpectedLine() {
+      if (!hasNextExpectedLine()) {
+        return false;
+      }
+      String expectedLine = nextExpectedLine();
+      if (expectedLine.contentEquals(line)) {
+        return true;
+      }
+      String actualLine = line.toString();
+      if (actualLine.indexOf('\n') >= 0) {
+        multiLineText = true;
+        return false;
+      }
+      return areLinesEqual(expectedLine, actualLine);
+    }
+
+    boolean hasNextExpectedLine() {
+      return position < expected.length();
+    }
+
+    /**
+     * Returns true if a shown text spans several lines, in which case lines cannot be compared
+     * one node at a time.
+     */
+    boolean hasMultiLineText() {
+      return multiLineText;
+    }
+
+    private String nextExpectedLine() {
+      int end = expected.indexOf('\n', position);
+      if (end < 0) {
+        end = expected.length();
+      }
+      String result = expected.substring(position, end);
+      position = end;
+      skipEmptyLines();
+      return result;
+    }
+
+    private void skipEmptyLines() {
+      while ((position < expected.length()) && (expected.charAt(position) == '\n')) {
+        position++;
+      }
+    }
+  }
+
   static String badTreePath(String path) {
     return "Could not find element '" + path + "'";
   }
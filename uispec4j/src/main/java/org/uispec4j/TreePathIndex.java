@@ -0,0 +1,204 @@
+package org.uispec4j;
+
+import javax.swing.*;
+import javax.swing.event.TreeModelEvent;
+import javax.swing.event.TreeModelListener;
+import javax.swing.tree.TreeModel;
+import javax.swing.tree.TreePath;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.*;
+import java.util.List;
+
+/**
+ * Per-tree index of the texts shown by the children of each node, used by {@link Tree} for resolving
+ * paths without rendering every child of the traversed nodes.<p>
+ * The children of a node are indexed the first time a path goes through it. The entry is dropped when
+ * the model reports a change on these children, together with the entries of the removed subtrees.
+ * The whole index is dropped when the model, the renderer or the cell value converter is changed.
+ * The nodes are compared by identity, since equal nodes may have different children.
+ *
+ * @see UISpec4J#setTreePathIndexEnabled(boolean)
+ */
+class TreePathIndex {
+  private static final String CLIENT_PROPERTY = TreePathIndex.class.getName();
+
+  static final Object AMBIGUOUS = new Object();
+
+  private final JTree jTree;
+  private final Listener listener = new Listener();
+  private TreeModel model;
+  private TreeCellValueConverter converter;
+  private Map<Object, Level> levels = new IdentityHashMap<Object, Level>();
+  private int modificationCount;
+
+  private TreePathIndex(JTree jTree) {
+    this.jTree = jTree;
+    this.model = jTree.getModel();
+    jTree.addPropertyChangeListener(listener);
+    if (model != null) {
+      model.addTreeModelListener(listener);
+    }
+  }
+
+  /**
+   * Returns the index of the given tree, which is created the first time and then shared by all
+   * the {@link Tree} instances wrapping this tree.
+   */
+  static TreePathIndex get(JTree jTree) {
+    synchronized (jTree) {
+      TreePathIndex index = (TreePathIndex)jTree.getClientProperty(CLIENT_PROPERTY);
+      if (index == null) {
+        index = new TreePathIndex(jTree);
+        jTree.putClientProperty(CLIENT_PROPERTY, index);
+      }
+      return index;
+    }
+  }
+
+  /**
+   * Returns the indexed children of the given node, or null if they must be computed with the given
+   * converter and stored with {@link #putLevel(Object, Level, int)}.
+   */
+  synchronized Level getLevel(Object node, TreeCellValueConverter converter) {
+    if (this.converter != converter) {
+      this.converter = converter;
+      clear();
+      return null;
+    }
+    return levels.get(node);
+  }
+
+  synchronized int getModificationCount() {
+    return modificationCount;
+  }
+
+  /**
+   * Stores the children of a node, unless the model was changed since <code>modificationCount</code>
+   * was read - the level may then be out of date already.
+   */
+  synchronized void putLevel(Object node, Level level, int modificationCount) {
+    if (this.modificationCount == modificationCount) {
+      levels.put(node, level);
+    }
+  }
+
+  synchronized void removeLevel(Object node) {
+    modificationCount++;
+    levels.remove(node);
+  }
+
+  private synchronized void removeSubtree(Object node) {
+    modificationCount++;
+    removeLevels(node);
+  }
+
+  private void removeLevels(Object node) {
+    Level level = levels.remove(node);
+    if (level != null) {
+      for (Object child : level.children) {
+        removeLevels(child);
+      }
+    }
+  }
+
+  private synchronized void clear() {
+    modificationCount++;
+    levels = new IdentityHashMap<Object, Level>();
+  }
+
+  private synchronized void setModel(TreeModel newModel) {
+    if (model != null) {
+      model.removeTreeModelListener(listener);
+    }
+    model = newModel;
+    if (model != null) {
+      model.addTreeModelListener(listener);
+    }
+    clear();
+  }
+
+  /**
+   * The children of a node and their shown texts, in the order of the model.
+   */
+  static class Level {
+    private final List<Object> children;
+    private final List<String> texts;
+    private final Map<String, Object> exactMatches = new HashMap<String, Object>();
+
+    Level(List<Object> children, List<String> texts) {
+      this.children = children;
+      this.texts = texts;
+      for (int i = 0; i < children.size(); i++) {
+        String text = texts.get(i);
+        exactMatches.put(text, exactMatches.containsKey(text) ? AMBIGUOUS : children.get(i));
+      }
+    }
+
+    /**
+     * Returns the child showing exactly the given text, or else the only child whose text contains it.
+     * Returns {@link TreePathIndex#AMBIGUOUS} if several children match, and null if none does.
+     */
+    Object find(String name) {
+      Object exactMatch = exactMatches.get(name);
+      if (exactMatch != null) {
+        return exactMatch;
+      }
+      Object substringMatch = null;
+      for (int i = 0; i < children.size(); i++) {
+        if (texts.get(i).contains(name)) {
+          if (substringMatch != null) {
+            return AMBIGUOUS;
+          }
+          substringMatch = children.get(i);
+        }
+      }
+      return substringMatch;
+    }
+  }
+
+  private class Listener implements TreeModelListener, PropertyChangeListener {
+    public void treeNodesChanged(TreeModelEvent e) {
+      removeLevel(getNode(e));
+    }
+
+    public void treeNodesInserted(TreeModelEvent e) {
+      removeLevel(getNode(e));
+    }
+
+    public void treeNodesRemoved(TreeModelEvent e) {
+      removeLevel(getNode(e));
+      Object[] children = e.getChildren();
+      if (children != null) {
+        for (Object child : children) {
+          removeSubtree(child);
+        }
+      }
+    }
+
+    public void treeStructureChanged(TreeModelEvent e) {
+      TreePath path = e.getTreePath();
+      if (path == null) {
+        clear();
+      }
+      else {
+        removeSubtree(path.getLastPathComponent());
+      }
+    }
+
+    private Object getNode(TreeModelEvent e) {
+      TreePath path = e.getTreePath();
+      return (path == null) ? null : path.getLastPathComponent();
+    }
+
+    public void propertyChange(PropertyChangeEvent event) {
+      String propertyName = event.getPropertyName();
+      if (JTree.TREE_MODEL_PROPERTY.equals(propertyName)) {
+        setModel((TreeModel)event.getNewValue());
+      }
+      else if (JTree.CELL_RENDERER_PROPERTY.equals(propertyName)) {
+        clear();
+      }
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package org.uispec4j;
 
 import org.uispec4j.assertion.Assertion;
+import org.uispec4j.utils.KeyUtils;
 
 import java.awt.*;
 
@@ -50,6 +51,28 @@ public interface UIComponent {
    */
   UIComponent typeKey(Key key);
 
+  /**
+   * Simulates typing the given text while the focus is on the component, all the key events being
+   * dispatched within a single task of the AWT event dispatch thread.
+   *
+   * @see UISpec4J#setFastKeyTypingEnabled(boolean)
+   */
+  default UIComponent typeText(String text) {
+    KeyUtils.typeText(getAwtComponent(), text);
+    return this;
+  }
+
+  /**
+   * Simulates typing the keys of the given sequence while the focus is on the component, within a
+   * single task of the AWT event dispatch thread.
+   *
+   * @see UISpec4J#setFastKeyTypingEnabled(boolean)
+   */
+  default UIComponent typeKeys(KeySequence sequence) {
+    KeyUtils.enterKeys(getAwtComponent(), sequence, UISpec4J.isFastKeyTypingEnabled());
+    return this;
+  }
+
   /**
    * Simulates pressing a key while the focus is on the component.
    */
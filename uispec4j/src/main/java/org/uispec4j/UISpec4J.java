@@ -1,5 +1,6 @@
 package org.uispec4j;
 
+import org.uispec4j.interception.toolkit.UISpecDisplay;
 import org.uispec4j.interception.toolkit.UISpecToolkit;
 import org.uispec4j.interception.ui.UISpecLF;
 
@@ -15,9 +16,22 @@ public class UISpec4J {
   private static long windowInterceptionTimeLimit = 10000;
   public static final int DEFAULT_ASSERTION_TIME_LIMIT = 500;
   private static long assertionTimeLimit = DEFAULT_ASSERTION_TIME_LIMIT;
+  private static boolean componentIndexEnabled = false;
+  private static boolean treePathIndexEnabled = false;
+  public static final int DEFAULT_FAILURE_MESSAGE_ROW_LIMIT = 100;
+  private static int failureMessageRowLimit = DEFAULT_FAILURE_MESSAGE_ROW_LIMIT;
+  private static DescriptionLimits failureDescriptionLimits = DescriptionLimits.DEFAULT;
+  private static boolean isolatedDisplayEnabled = false;
+  public static final int DEFAULT_MAX_INTERCEPTION_THREAD_COUNT = 256;
+  private static int maxInterceptionThreadCount = DEFAULT_MAX_INTERCEPTION_THREAD_COUNT;
+  private static boolean virtualThreadsEnabled = false;
+  private static boolean fastKeyTypingEnabled = false;
+  private static boolean environmentResetEnabled = false;
 
   /**
-   * Initializes UISpec4J, for instance by setting up the interception mechanism.
+   * Initializes UISpec4J, for instance by setting up the interception mechanism.<p>
+   * Headless mode is not supported, since AWT does not allow creating frames and dialogs without a
+   * display - a warning is printed. Only the tests that do not create windows can be run that way.
    */
   public static void init() {
     if (GraphicsEnvironment.isHeadless()) {
@@ -74,4 +88,171 @@ public class UISpec4J {
   public static void setAssertionTimeLimit(long assertionTimeLimit) {
     UISpec4J.assertionTimeLimit = assertionTimeLimit;
   }
+
+  /**
+   * Enables or disables the indexing of the components of each window, so that searches performed
+   * with the {@link Panel} "getXxx" methods do not traverse the whole window every time.
+   * The index is kept up to date when the window contents change.
+   * Default value is false.
+   */
+  public static void setComponentIndexEnabled(boolean enabled) {
+    UISpec4J.componentIndexEnabled = enabled;
+  }
+
+  /**
+   * Returns true if components are looked up using a per-window index.
+   * Default value is false.
+   */
+  public static boolean isComponentIndexEnabled() {
+    return componentIndexEnabled;
+  }
+
+  /**
+   * Enables or disables the indexing of the texts shown by the nodes of each tree, so that the paths
+   * given to the {@link Tree} methods are resolved without rendering all the children of each node.
+   * The index is kept up to date with the events sent by the tree model, so it should only be
+   * enabled if the texts shown by the renderers depend on the model contents only.
+   * Default value is false.
+   */
+  public static void setTreePathIndexEnabled(boolean enabled) {
+    UISpec4J.treePathIndexEnabled = enabled;
+  }
+
+  /**
+   * Returns true if tree paths are resolved using a per-tree index.
+   * Default value is false.
+   */
+  public static boolean isTreePathIndexEnabled() {
+    return treePathIndexEnabled;
+  }
+
+  /**
+   * Sets the maximum number of rows (or list items, or tree nodes) displayed in the failure messages
+   * of content assertions. Only the rows around the first difference are displayed.
+   * Default value is 100.
+   */
+  public static void setFailureMessageRowLimit(int rowLimit) {
+    UISpec4J.failureMessageRowLimit = rowLimit;
+  }
+
+  /**
+   * Returns the maximum number of rows (or list items, or tree nodes) displayed in the failure messages
+   * of content assertions.
+   * Default value is 100.
+   */
+  public static int getFailureMessageRowLimit() {
+    return failureMessageRowLimit;
+  }
+
+  /**
+   * Sets the limits applied to the window descriptions included in error messages, for instance when
+   * an unexpected window is shown. {@link DescriptionLimits#NONE} includes the whole descriptions.
+   * Default value is {@link DescriptionLimits#DEFAULT}.
+   */
+  public static void setFailureDescriptionLimits(DescriptionLimits limits) {
+    UISpec4J.failureDescriptionLimits = limits;
+  }
+
+  /**
+   * Returns the limits applied to the window descriptions included in error messages.
+   * Default value is {@link DescriptionLimits#DEFAULT}.
+   */
+  public static DescriptionLimits getFailureDescriptionLimits() {
+    return failureDescriptionLimits;
+  }
+
+  /**
+   * Enables or disables the use of a separate {@link UISpecDisplay} for each {@link UISpecTestCase},
+   * attached to the thread running the test. Handlers, popups and unexpected exceptions are then
+   * isolated from the other tests, which makes it possible to run UISpecTestCase classes in parallel.
+   * Windows shown by threads that were not started by the test or by UISpec4J (for instance by a
+   * Swing timer) are processed by the shared display.
+   * Default value is false.
+   */
+  public static void setIsolatedDisplayEnabled(boolean enabled) {
+    UISpec4J.isolatedDisplayEnabled = enabled;
+  }
+
+  /**
+   * Returns true if each {@link UISpecTestCase} uses its own {@link UISpecDisplay}.
+   * Default value is false.
+   */
+  public static boolean isIsolatedDisplayEnabled() {
+    return isolatedDisplayEnabled;
+  }
+
+  /**
+   * Sets the maximum number of threads used at the same time by the interception mechanism.
+   * Interceptions needing more threads fail instead of waiting, since they could wait forever
+   * for each other.
+   * Default value is 256.
+   */
+  public static void setMaxInterceptionThreadCount(int count) {
+    UISpec4J.maxInterceptionThreadCount = count;
+  }
+
+  /**
+   * Returns the maximum number of threads used at the same time by the interception mechanism.
+   * Default value is 256.
+   */
+  public static int getMaxInterceptionThreadCount() {
+    return maxInterceptionThreadCount;
+  }
+
+  /**
+   * Enables or disables the use of virtual threads by the interception mechanism, when they are
+   * supported by the JVM (JDK 21 and above) - pooled platform threads are used otherwise.
+   * Default value is false.
+   *
+   * @see org.uispec4j.utils.ThreadManager#isVirtualThreadSupported()
+   */
+  public static void setVirtualThreadsEnabled(boolean enabled) {
+    UISpec4J.virtualThreadsEnabled = enabled;
+  }
+
+  /**
+   * Returns true if the interception mechanism uses virtual threads when they are supported by the JVM.
+   * Default value is false.
+   */
+  public static boolean isVirtualThreadsEnabled() {
+    return virtualThreadsEnabled;
+  }
+
+  /**
+   * Enables or disables the fast mode of {@link UIComponent#typeText(String)}, in which no
+   * KEY_RELEASED events are sent to the components that have no KeyListener.
+   * Default value is false.
+   */
+  public static void setFastKeyTypingEnabled(boolean enabled) {
+    UISpec4J.fastKeyTypingEnabled = enabled;
+  }
+
+  /**
+   * Returns true if {@link UIComponent#typeText(String)} skips the KEY_RELEASED events when
+   * possible.
+   * Default value is false.
+   */
+  public static boolean isFastKeyTypingEnabled() {
+    return fastKeyTypingEnabled;
+  }
+
+  /**
+   * Enables or disables the reset of the JVM-wide state at the end of each {@link UISpecTestCase}:
+   * the windows are disposed, the AWT event queue is flushed, and the test fails if interception
+   * threads are still running. This makes it possible to run many test classes in the same JVM.
+   * Default value is false.
+   *
+   * @see org.uispec4j.interception.toolkit.UISpecEnvironment
+   */
+  public static void setEnvironmentResetEnabled(boolean enabled) {
+    UISpec4J.environmentResetEnabled = enabled;
+  }
+
+  /**
+   * Returns true if the JVM-wide state is reset at the end of each {@link UISpecTestCase}.
+   * Default value is false.
+   */
+  public static boolean isEnvironmentResetEnabled() {
+    return environmentResetEnabled;
+  }
 }
@@ -4,7 +4,9 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.uispec4j.assertion.Assertion;
 import org.uispec4j.assertion.UISpecAssert;
+import org.uispec4j.assertion.testlibrairies.AssertAdapter;
 import org.uispec4j.interception.toolkit.UISpecDisplay;
+import org.uispec4j.interception.toolkit.UISpecEnvironment;
 
 /**
  * UISpec4J-enabled TestCase class.<p>
@@ -42,17 +44,37 @@ public abstract class UISpecTestCase {
    */
   @BeforeEach
   final protected void uispec4JSetUp() {
+    if (UISpec4J.isIsolatedDisplayEnabled()) {
+      UISpecDisplay.setInstanceForCurrentThread(UISpecDisplay.createIsolatedInstance());
+    }
     UISpecDisplay.instance().reset();
   }
 
   /**
-   * Checks whether an unexpected exception had occurred, and releases the test resources.
+   * Checks whether an unexpected exception had occurred, and releases the test resources.<br>
+   * If {@link UISpec4J#setEnvironmentResetEnabled(boolean)} was called, all the windows are disposed
+   * and the test fails if interception threads are still running.
    */
   @AfterEach
   final protected void uispec4JTearDown() {
     adapter = null;
-    UISpecDisplay.instance().rethrowIfNeeded();
-    UISpecDisplay.instance().reset();
+    UISpecDisplay display = UISpecDisplay.instance();
+    UISpecEnvironment.Report report = null;
+    try {
+      display.rethrowIfNeeded();
+    }
+    finally {
+      UISpecDisplay.setInstanceForCurrentThread(null);
+      if (UISpec4J.isEnvironmentResetEnabled()) {
+        report = UISpecEnvironment.reset(display);
+      }
+      else {
+        display.reset();
+      }
+    }
+    if ((report != null) && report.hasLeaks()) {
+      AssertAdapter.fail("Resources were not released by the test - " + report);
+    }
   }
 
   private void retrieveAdapter() throws AdapterNotFoundException {
@@ -55,7 +55,7 @@ public class Window extends Panel {
   }
 
   public Assertion containsMenuBar() {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         if (adapter.getJMenuBar() == null) {
           AssertAdapter.fail("No menuBar available");
@@ -73,7 +73,7 @@ public class Window extends Panel {
   }
 
   public Assertion titleEquals(final String expected) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         AssertAdapter.assertEquals("Unexpected title -", expected, getTitle());
       }
@@ -81,7 +81,7 @@ public class Window extends Panel {
   }
 
   public Assertion titleContains(final String expected) {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         AssertAdapter.assertTrue("expected to contain:<" + expected + "> but was: <" + getTitle() + ">",
                                   getTitle().contains(expected));
@@ -112,7 +112,7 @@ public class Window extends Panel {
   }
 
   public Assertion isModal() {
-    return new Assertion() {
+    return new Assertion(getAwtComponent()) {
       public void check() {
         AssertAdapter.assertTrue(adapter.isModal());
       }
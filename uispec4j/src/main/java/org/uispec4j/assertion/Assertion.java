@@ -1,17 +1,37 @@
 package org.uispec4j.assertion;
 
+import java.awt.*;
+
 /**
  * Interface used for defining conditions. These assertions are meant to be used
  * essentially with the {@link UISpecAssert} "assertXxx" and "waitUntil" methods.
  */
 public abstract class Assertion {
+  private static final Component[] NO_COMPONENTS = new Component[0];
+  private static final ThreadLocal<Boolean> QUIET = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+  private final Component[] observedComponents;
+
+  public Assertion() {
+    this.observedComponents = NO_COMPONENTS;
+  }
+
+  /**
+   * Creates an assertion whose result only depends on the state of the given components.
+   * When the assertion fails, {@link UISpecAssert} will check it again as soon as one of these
+   * components (or one of their models) changes, in addition to the polling done for all the
+   * assertions - every 20ms at first, then every 200ms.
+   */
+  public Assertion(Component... observedComponents) {
+    this.observedComponents = observedComponents == null ? NO_COMPONENTS : observedComponents;
+  }
 
   /**
    * Returns true if the {@link #check()} method does not fail.
    */
   public final boolean isTrue() {
     try {
-      check();
+      checkQuietly(this);
       return true;
     }
     catch (Throwable e) {
@@ -23,4 +43,41 @@ public abstract class Assertion {
    * Throws an exception if the condition is not true.
    */
   public abstract void check();
-}
\ No newline at end of file
+
+  /**
+   * Returns the components read by {@link #check()}, or an empty array if the
+   * assertion cannot be observed - in which case it is polled.
+   */
+  protected Component[] getObservedComponents() {
+    return observedComponents;
+  }
+
+  /**
+   * Returns true if the result of {@link #check()} cannot change over time, for instance because
+   * it only reads a {@link org.uispec4j.ComponentSnapshot}. {@link UISpecAssert} then reports a
+   * failure at once instead of checking the assertion again until the time limit.
+   */
+  protected boolean isConstant() {
+    return false;
+  }
+
+  /**
+   * Returns false when the failure message of the assertion being checked will be discarded, for instance
+   * because {@link UISpecAssert} is going to check it again or because it is evaluated with {@link #isTrue()}.
+   * Assertions with expensive failure messages can then fail without computing them.
+   */
+  public static boolean isFailureMessageReported() {
+    return !QUIET.get();
+  }
+
+  static void checkQuietly(Assertion assertion) {
+    Boolean previous = QUIET.get();
+    QUIET.set(Boolean.TRUE);
+    try {
+      assertion.check();
+    }
+    finally {
+      QUIET.set(previous);
+    }
+  }
+}
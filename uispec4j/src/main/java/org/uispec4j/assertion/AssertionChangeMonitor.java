@@ -0,0 +1,364 @@
+package org.uispec4j.assertion;
+
+import javax.swing.*;
+import javax.swing.event.*;
+import javax.swing.text.Document;
+import javax.swing.text.JTextComponent;
+import javax.swing.tree.TreeModel;
+import java.awt.*;
+import java.awt.event.*;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.*;
+import java.util.List;
+
+/**
+ * Wakes up the {@link UISpecAssert} retry loop whenever something that may change the result
+ * of an assertion happens: AWT events dispatched by the event queue, or property, model and
+ * document changes on the components observed by the assertion.<p>
+ * The listeners are only registered while an {@link Observation} is in progress, and they are
+ * all removed by {@link Observation#stop()}, so that no reference to the checked components is kept.
+ */
+class AssertionChangeMonitor {
+  private static final long AWT_EVENT_MASK =
+    AWTEvent.COMPONENT_EVENT_MASK | AWTEvent.CONTAINER_EVENT_MASK | AWTEvent.WINDOW_EVENT_MASK |
+    AWTEvent.FOCUS_EVENT_MASK | AWTEvent.KEY_EVENT_MASK | AWTEvent.MOUSE_EVENT_MASK |
+    AWTEvent.ACTION_EVENT_MASK | AWTEvent.ITEM_EVENT_MASK | AWTEvent.TEXT_EVENT_MASK |
+    AWTEvent.HIERARCHY_EVENT_MASK;
+
+  private AssertionChangeMonitor() {
+  }
+
+  /**
+   * Starts listening to the AWT events and to the given components, until
+   * {@link Observation#stop()} is called.
+   */
+  static Observation observe(Component[] components) {
+    Observation observation = new Observation();
+    observation.start(components);
+    return observation;
+  }
+
+  static class Observation {
+    private final ChangeNotifier notifier = new ChangeNotifier(this);
+    private final Set<Component> components = Collections.newSetFromMap(new IdentityHashMap<Component, Boolean>());
+    private final Set<Object> models = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+    private Toolkit toolkit;
+    private long changeCount;
+    private boolean stopped;
+
+    private Observation() {
+    }
+
+    private void start(Component[] components) {
+      toolkit = Toolkit.getDefaultToolkit();
+      toolkit.addAWTEventListener(notifier, AWT_EVENT_MASK);
+      for (Component component : components) {
+        observeComponent(component);
+      }
+    }
+
+    synchronized long getChangeCount() {
+      return changeCount;
+    }
+
+    /**
+     * Waits until a change occurs after <code>lastChangeCount</code> was read, or until the
+     * timeout is reached. Returns the new change count.
+     */
+    synchronized long waitForChange(long lastChangeCount, long timeout) {
+      long deadline = System.currentTimeMillis() + timeout;
+      while (changeCount == lastChangeCount) {
+        long remaining = deadline - System.currentTimeMillis();
+        if (remaining <= 0) {
+          break;
+        }
+        try {
+          wait(remaining);
+        }
+        catch (InterruptedException e) {
+          throw new RuntimeException(e);
+        }
+      }
+      return changeCount;
+    }
+
+    synchronized void notifyChange() {
+      changeCount++;
+      notifyAll();
+    }
+
+    /**
+     * Removes all the listeners registered by this observation.
+     */
+    void stop() {
+      List<Component> observedComponents;
+      List<Object> observedModels;
+      synchronized (this) {
+        stopped = true;
+        observedComponents = new ArrayList<Component>(components);
+        observedModels = new ArrayList<Object>(models);
+        components.clear();
+        models.clear();
+      }
+      toolkit.removeAWTEventListener(notifier);
+      for (Component component : observedComponents) {
+        removeComponentListeners(component);
+      }
+      for (Object model : observedModels) {
+        removeModelListeners(model);
+      }
+    }
+
+    private synchronized boolean markObserved(Set set, Object target) {
+      return !stopped && set.add(target);
+    }
+
+    private void observeComponent(Component component) {
+      if ((component == null) || !markObserved(components, component)) {
+        return;
+      }
+      component.addPropertyChangeListener(notifier);
+      component.addComponentListener(notifier);
+      if (component instanceof Container) {
+        ((Container)component).addContainerListener(notifier);
+      }
+      if (component instanceof AbstractButton) {
+        ((AbstractButton)component).addChangeListener(notifier);
+      }
+      if (component instanceof JComboBox) {
+        JComboBox comboBox = (JComboBox)component;
+        comboBox.addItemListener(notifier);
+        observeModel(comboBox.getModel());
+      }
+      if (component instanceof JList) {
+        JList list = (JList)component;
+        observeModel(list.getModel());
+        observeModel(list.getSelectionModel());
+      }
+      if (component instanceof JTable) {
+        JTable table = (JTable)component;
+        observeModel(table.getModel());
+        observeModel(table.getSelectionModel());
+        observeModel(table.getColumnModel().getSelectionModel());
+      }
+      if (component instanceof JTree) {
+        JTree tree = (JTree)component;
+        tree.addTreeSelectionListener(notifier);
+        tree.addTreeExpansionListener(notifier);
+        observeModel(tree.getModel());
+      }
+      if (component instanceof JTextComponent) {
+        observeModel(((JTextComponent)component).getDocument());
+      }
+      if (component instanceof JSpinner) {
+        ((JSpinner)component).addChangeListener(notifier);
+      }
+      if (component instanceof JSlider) {
+        ((JSlider)component).addChangeListener(notifier);
+      }
+      if (component instanceof JProgressBar) {
+        ((JProgressBar)component).addChangeListener(notifier);
+      }
+      if (component instanceof JTabbedPane) {
+        ((JTabbedPane)component).addChangeListener(notifier);
+      }
+    }
+
+    private void removeComponentListeners(Component component) {
+      component.removePropertyChangeListener(notifier);
+      component.removeComponentListener(notifier);
+      if (component instanceof Container) {
+        ((Container)component).removeContainerListener(notifier);
+      }
+      if (component instanceof AbstractButton) {
+        ((AbstractButton)component).removeChangeListener(notifier);
+      }
+      if (component instanceof JComboBox) {
+        ((JComboBox)component).removeItemListener(notifier);
+      }
+      if (component instanceof JTree) {
+        JTree tree = (JTree)component;
+        tree.removeTreeSelectionListener(notifier);
+        tree.removeTreeExpansionListener(notifier);
+      }
+      if (component instanceof JSpinner) {
+        ((JSpinner)component).removeChangeListener(notifier);
+      }
+      if (component instanceof JSlider) {
+        ((JSlider)component).removeChangeListener(notifier);
+      }
+      if (component instanceof JProgressBar) {
+        ((JProgressBar)component).removeChangeListener(notifier);
+      }
+      if (component instanceof JTabbedPane) {
+        ((JTabbedPane)component).removeChangeListener(notifier);
+      }
+    }
+
+    private void observeModel(Object model) {
+      if ((model == null) || !markObserved(models, model)) {
+        return;
+      }
+      if (model instanceof ListModel) {
+        ((ListModel)model).addListDataListener(notifier);
+      }
+      if (model instanceof ListSelectionModel) {
+        ((ListSelectionModel)model).addListSelectionListener(notifier);
+      }
+      if (model instanceof javax.swing.table.TableModel) {
+        ((javax.swing.table.TableModel)model).addTableModelListener(notifier);
+      }
+      if (model instanceof TreeModel) {
+        ((TreeModel)model).addTreeModelListener(notifier);
+      }
+      if (model instanceof Document) {
+        ((Document)model).addDocumentListener(notifier);
+      }
+    }
+
+    private void removeModelListeners(Object model) {
+      if (model instanceof ListModel) {
+        ((ListModel)model).removeListDataListener(notifier);
+      }
+      if (model instanceof ListSelectionModel) {
+        ((ListSelectionModel)model).removeListSelectionListener(notifier);
+      }
+      if (model instanceof javax.swing.table.TableModel) {
+        ((javax.swing.table.TableModel)model).removeTableModelListener(notifier);
+      }
+      if (model instanceof TreeModel) {
+        ((TreeModel)model).removeTreeModelListener(notifier);
+      }
+      if (model instanceof Document) {
+        ((Document)model).removeDocumentListener(notifier);
+      }
+    }
+  }
+
+  private static class ChangeNotifier
+    implements AWTEventListener, PropertyChangeListener, ComponentListener, ContainerListener,
+               ItemListener, ChangeListener, ListDataListener, ListSelectionListener,
+               TableModelListener, TreeModelListener, TreeSelectionListener, TreeExpansionListener,
+               DocumentListener {
+    private final Observation observation;
+
+    ChangeNotifier(Observation observation) {
+      this.observation = observation;
+    }
+
+    private void notifyChange() {
+      observation.notifyChange();
+    }
+
+    public void eventDispatched(AWTEvent event) {
+      notifyChange();
+    }
+
+    public void propertyChange(PropertyChangeEvent event) {
+      Object newValue = event.getNewValue();
+      if ((newValue != null) && isModelProperty(event.getPropertyName())) {
+        observation.observeModel(newValue);
+      }
+      notifyChange();
+    }
+
+    private boolean isModelProperty(String propertyName) {
+      return "model".equals(propertyName)
+             || "selectionModel".equals(propertyName)
+             || "document".equals(propertyName);
+    }
+
+    public void componentResized(ComponentEvent e) {
+      notifyChange();
+    }
+
+    public void componentMoved(ComponentEvent e) {
+      notifyChange();
+    }
+
+    public void componentShown(ComponentEvent e) {
+      notifyChange();
+    }
+
+    public void componentHidden(ComponentEvent e) {
+      notifyChange();
+    }
+
+    public void componentAdded(ContainerEvent e) {
+      notifyChange();
+    }
+
+    public void componentRemoved(ContainerEvent e) {
+      notifyChange();
+    }
+
+    public void itemStateChanged(ItemEvent e) {
+      notifyChange();
+    }
+
+    public void stateChanged(ChangeEvent e) {
+      notifyChange();
+    }
+
+    public void intervalAdded(ListDataEvent e) {
+      notifyChange();
+    }
+
+    public void intervalRemoved(ListDataEvent e) {
+      notifyChange();
+    }
+
+    public void contentsChanged(ListDataEvent e) {
+      notifyChange();
+    }
+
+    public void valueChanged(ListSelectionEvent e) {
+      notifyChange();
+    }
+
+    public void tableChanged(TableModelEvent e) {
+      notifyChange();
+    }
+
+    public void treeNodesChanged(TreeModelEvent e) {
+      notifyChange();
+    }
+
+    public void treeNodesInserted(TreeModelEvent e) {
+      notifyChange();
+    }
+
+    public void treeNodesRemoved(TreeModelEvent e) {
+      notifyChange();
+    }
+
+    public void treeStructureChanged(TreeModelEvent e) {
+      notifyChange();
+    }
+
+    public void valueChanged(TreeSelectionEvent e) {
+      notifyChange();
+    }
+
+    public void treeExpanded(TreeExpansionEvent event) {
+      notifyChange();
+    }
+
+    public void treeCollapsed(TreeExpansionEvent event) {
+      notifyChange();
+    }
+
+    public void insertUpdate(DocumentEvent e) {
+      notifyChange();
+    }
+
+    public void removeUpdate(DocumentEvent e) {
+      notifyChange();
+    }
+
+    public void changedUpdate(DocumentEvent e) {
+      notifyChange();
+    }
+  }
+}
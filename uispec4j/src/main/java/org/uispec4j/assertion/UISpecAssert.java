@@ -4,12 +4,20 @@ import org.uispec4j.UISpec4J;
 import org.uispec4j.assertion.testlibrairies.AssertAdapter;
 import org.uispec4j.utils.Utils;
 
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Checks the validity of Assertion objects.
  *
  * @see <a href="http://www.uispec4j.org/assertions">Using Assertions</a>
  */
 public class UISpecAssert {
+  private static final int SHORT_POLLING_DELAY = 20;
+  private static final int SHORT_POLLING_COUNT = 10;
+  private static final int POLLING_DELAY = 200;
 
   /**
    * Checks that the given assertion succeeds (with a retry strategy).
@@ -119,10 +127,14 @@ public class UISpecAssert {
    * Returns a negation of the given assertion.
    */
   public static Assertion not(final Assertion assertion) {
-    return new Assertion() {
+    return new Assertion(assertion.getObservedComponents()) {
+      protected boolean isConstant() {
+        return assertion.isConstant();
+      }
+
       public void check() {
         try {
-          assertion.check();
+          Assertion.checkQuietly(assertion);
           throw new FailureNotDetectedError();
         }
         catch (FailureNotDetectedError e) {
@@ -139,7 +151,11 @@ public class UISpecAssert {
    * Returns the intersection of the {@link Assertion} parameters.
    */
   public static Assertion and(final Assertion... assertions) {
-    return new Assertion() {
+    return new Assertion(getObservedComponents(assertions)) {
+      protected boolean isConstant() {
+        return areConstant(assertions);
+      }
+
       public void check() {
         for (Assertion assertion : assertions) {
           assertion.check();
@@ -152,7 +168,11 @@ public class UISpecAssert {
    * Returns the union of the {@link Assertion} parameters.
    */
   public static Assertion or(final Assertion... assertions) {
-    return new Assertion() {
+    return new Assertion(getObservedComponents(assertions)) {
+      protected boolean isConstant() {
+        return areConstant(assertions);
+      }
+
       public void check() {
         for (int i = 0; i < assertions.length; i++) {
           try {
@@ -172,30 +192,55 @@ public class UISpecAssert {
   private static void checkAssertion(String message, Assertion assertion, long waitTimeLimit) {
     try {
       Utils.waitForPendingAwtEventsToBeProcessed();
-      assertion.check();
+      Assertion.checkQuietly(assertion);
     }
     catch (Throwable e) {
-      retry(message, assertion, waitTimeLimit);
+      if (assertion.isConstant()) {
+        report(message, assertion);
+      }
+      else {
+        retry(message, assertion, waitTimeLimit);
+      }
     }
   }
 
   /**
-   * @noinspection ForLoopThatDoesntUseLoopVariable
+   * The assertion is checked again each time one of its observed components changes, or when an
+   * AWT event is dispatched. Changes inside the observed components, such as the text of a nested
+   * label, are not notified, so that all the assertions are also polled every 20ms at first, then
+   * every 200ms - which also covers the changes that occur before the listeners are registered.
+   * The listeners are removed at the end of the retries.
+   * Failure messages are only computed by the last check, the previous ones being done quietly.
    */
   private static void retry(String message, Assertion assertion, long waitTimeLimit) {
-    long elapsedTime = 0;
-    for (int i = 0; elapsedTime < waitTimeLimit; i++) {
-      int waitTime = i < 10 ? 20 : 200;
-      Utils.sleep(waitTime);
-      elapsedTime += waitTime;
-      try {
-        assertion.check();
-        return;
-      }
-      catch (Throwable e) {
-        // OK
+    long deadline = System.currentTimeMillis() + waitTimeLimit;
+    AssertionChangeMonitor.Observation observation =
+      AssertionChangeMonitor.observe(assertion.getObservedComponents());
+    try {
+      long changeCount = observation.getChangeCount();
+      for (int i = 0; ; i++) {
+        long remainingTime = deadline - System.currentTimeMillis();
+        if (remainingTime <= 0) {
+          break;
+        }
+        int pollingDelay = (i >= SHORT_POLLING_COUNT) ? POLLING_DELAY : SHORT_POLLING_DELAY;
+        changeCount = observation.waitForChange(changeCount, Math.min(pollingDelay, remainingTime));
+        try {
+          Assertion.checkQuietly(assertion);
+          return;
+        }
+        catch (Throwable e) {
+          // OK
+        }
       }
     }
+    finally {
+      observation.stop();
+    }
+    report(message, assertion);
+  }
+
+  private static void report(String message, Assertion assertion) {
     try {
       assertion.check();
     }
@@ -233,6 +278,27 @@ public class UISpecAssert {
     };
   }
 
+  private static Component[] getObservedComponents(Assertion... assertions) {
+    List<Component> components = new ArrayList<Component>();
+    for (Assertion assertion : assertions) {
+      Component[] observedComponents = assertion.getObservedComponents();
+      if (observedComponents.length == 0) {
+        return new Component[0];
+      }
+      Collections.addAll(components, observedComponents);
+    }
+    return components.toArray(new Component[components.size()]);
+  }
+
+  private static boolean areConstant(Assertion... assertions) {
+    for (Assertion assertion : assertions) {
+      if (!assertion.isConstant()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   private static class FailureNotDetectedError extends Error {
   }
 }
@@ -3,6 +3,7 @@ package org.uispec4j.finder;
 import org.uispec4j.ComponentAmbiguityException;
 import org.uispec4j.ItemNotFoundException;
 import org.uispec4j.UIComponent;
+import org.uispec4j.UISpec4J;
 import org.uispec4j.utils.UIComponentFactory;
 
 import javax.swing.*;
@@ -10,11 +11,14 @@ import java.awt.*;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Generic utility for retrieving AWT/Swing components in a container.
  */
 public class ComponentFinder {
+  static final int AVAILABLE_NAMES_LIMIT = 10;
+
   private Container container;
 
   public ComponentFinder(Container container) {
@@ -25,29 +29,40 @@ public class ComponentFinder {
     return getComponent(new ComponentMatcher[]{matcher}, null, null, new Class[0]);
   }
 
-  public Component getComponent(String name, Class[] swingClasses, String componentType) throws ComponentAmbiguityException, ItemNotFoundException {
+  public Component getComponent(final String name, final Class[] swingClasses, final String componentType) throws ComponentAmbiguityException, ItemNotFoundException {
     try {
       return getComponent(getMatchers(name), componentType, name, swingClasses);
     }
     catch (ItemNotFoundException e) {
-      Component[] components = findComponents(ComponentMatcher.ALL, swingClasses);
-      List<String> names = new ArrayList<String>();
-      for (Component component : components) {
-        UIComponent uiComponent = UIComponentFactory.createUIComponent(component);
-        String componentLabel = uiComponent.getLabel();
-        String componentName = uiComponent.getName();
-        if (componentLabel != null) {
-          names.add(componentLabel);
-        }
-        else if (componentName != null) {
-          names.add(componentName);
+      final Component[] candidates = findComponents(ComponentMatcher.ALL, swingClasses);
+      throw new ItemNotFoundException(new Supplier<String>() {
+        public String get() {
+          return Messages.computeNotFoundMessage(componentType, name, getAvailableNames(candidates),
+                                                 AVAILABLE_NAMES_LIMIT);
         }
+      });
+    }
+  }
+
+  /**
+   * The labels, or else the names, of the components that were available when the exception thrown by
+   * {@link #getComponent(String, Class[], String)} was created. The components are wrapped only when
+   * the message is read, so the labels are those of that moment.
+   */
+  private static List<String> getAvailableNames(Component[] components) {
+    List<String> names = new ArrayList<String>();
+    for (Component component : components) {
+      UIComponent uiComponent = UIComponentFactory.createUIComponent(component);
+      String componentLabel = uiComponent.getLabel();
+      String componentName = uiComponent.getName();
+      if (componentLabel != null) {
+        names.add(componentLabel);
+      }
+      else if (componentName != null) {
+        names.add(componentName);
       }
-      Collections.sort(names);
-      String message =
-        Messages.computeNotFoundMessage(componentType, name, names);
-      throw new ItemNotFoundException(message);
     }
+    return names;
   }
 
   public Component findComponent(ComponentMatcher matcher) throws ComponentAmbiguityException {
@@ -83,28 +98,36 @@ public class ComponentFinder {
   }
 
   private Component[] getComponents(ComponentMatcher[] matchers, Class[] swingClasses) {
-    for (ComponentMatcher matcher : matchers) {
-      Component[] foundComponents = findComponents(matcher, swingClasses);
-      if (foundComponents.length > 0) {
-        return foundComponents;
+    ComponentIndex index = getIndex();
+    if (index != null) {
+      List<Component> foundComponents = index.findComponents(container, matchers, swingClasses);
+      if (foundComponents != null) {
+        return foundComponents.toArray(new Component[foundComponents.size()]);
       }
     }
-    return new Component[0];
+    MatchingBuckets buckets = new MatchingBuckets(matchers);
+    retrieveComponents(container, buckets, swingClasses);
+    List<Component> foundComponents = buckets.getResult();
+    return foundComponents.toArray(new Component[foundComponents.size()]);
   }
 
   private Component[] findComponents(ComponentMatcher matcher, Class[] swingClasses) {
-    List<Component> foundComponents = new ArrayList<Component>();
-    retrieveComponents(container, foundComponents, matcher, swingClasses);
-    return foundComponents.toArray(new Component[foundComponents.size()]);
+    return getComponents(new ComponentMatcher[]{matcher}, swingClasses);
+  }
+
+  private ComponentIndex getIndex() {
+    if (!UISpec4J.isComponentIndexEnabled()) {
+      return null;
+    }
+    return ComponentIndex.get(container);
   }
 
   private static void retrieveComponents(Container container,
-                                         List<Component> components,
-                                         ComponentMatcher matcher,
+                                         MatchingBuckets buckets,
                                          Class[] swingClasses) {
     if (container instanceof JScrollPane) {
       JScrollPane scroll = (JScrollPane)container;
-      retrieveComponents(scroll.getViewport(), components, matcher, swingClasses);
+      retrieveComponents(scroll.getViewport(), buckets, swingClasses);
       return;
     }
     if (container == null) {
@@ -117,19 +140,19 @@ public class ComponentFinder {
       if (isCardLayout && !component.isVisible()) {
         continue;
       }
-      if (isClassMatching(component, swingClasses) && matcher.matches(component)) {
-        components.add(component);
+      if (isClassMatching(component, swingClasses)) {
+        buckets.add(component);
       }
       if (component instanceof Container) {
         containers.add((Container)component);
       }
     }
     for (Container innerContainer : containers) {
-      retrieveComponents(innerContainer, components, matcher, swingClasses);
+      retrieveComponents(innerContainer, buckets, swingClasses);
     }
   }
 
-  private static boolean isClassMatching(Component component, Class[] swingClasses) {
+  static boolean isClassMatching(Component component, Class[] swingClasses) {
     if (swingClasses.length == 0) {
       return true;
     }
@@ -159,4 +182,41 @@ public class ComponentFinder {
       ComponentMatchers.innerNameSubstring(name)
     };
   }
+
+  /**
+   * Collects, in a single traversal, the components found by each matcher of a priority list.
+   * Only the bucket of the first matcher that found something is returned, so a matcher is not
+   * evaluated anymore once a matcher with a higher priority has found a component.
+   */
+  private static class MatchingBuckets {
+    private final ComponentMatcher[] matchers;
+    private final List<Component>[] buckets;
+    private int firstNonEmptyBucket;
+
+    private MatchingBuckets(ComponentMatcher[] matchers) {
+      this.matchers = matchers;
+      this.buckets = new List[matchers.length];
+      this.firstNonEmptyBucket = matchers.length;
+    }
+
+    void add(Component component) {
+      for (int i = 0, max = Math.min(firstNonEmptyBucket + 1, matchers.length); i < max; i++) {
+        if (matchers[i].matches(component)) {
+          if (buckets[i] == null) {
+            buckets[i] = new ArrayList<Component>();
+          }
+          buckets[i].add(component);
+          firstNonEmptyBucket = Math.min(firstNonEmptyBucket, i);
+          return;
+        }
+      }
+    }
+
+    List<Component> getResult() {
+      if (firstNonEmptyBucket == matchers.length) {
+        return Collections.emptyList();
+      }
+      return buckets[firstNonEmptyBucket];
+    }
+  }
 }
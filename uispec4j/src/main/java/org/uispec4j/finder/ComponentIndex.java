@@ -0,0 +1,366 @@
+package org.uispec4j.finder;
+
+import org.uispec4j.utils.ComponentUtils;
+
+import javax.swing.*;
+import javax.swing.text.JTextComponent;
+import java.awt.*;
+import java.awt.event.ContainerEvent;
+import java.awt.event.ContainerListener;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.*;
+import java.util.List;
+
+/**
+ * Per-window index of the components laid out in a container hierarchy, used by {@link ComponentFinder}
+ * for avoiding a full traversal of the hierarchy on every search.<p>
+ * The index keeps the components in traversal order, grouped by Swing class, inner name and displayed
+ * text. It is rebuilt lazily whenever a container of the hierarchy is changed or a component is renamed.
+ * Since the descendants of a container are contiguous in traversal order, restricting a search to a
+ * sub-panel only requires a range check. Card layouts are evaluated when the index is queried, so that
+ * switching cards does not invalidate it.
+ *
+ * @see org.uispec4j.UISpec4J#setComponentIndexEnabled(boolean)
+ */
+class ComponentIndex {
+  private static final String CLIENT_PROPERTY = ComponentIndex.class.getName();
+
+  private final Container root;
+  private final Listener listener = new Listener();
+  private volatile boolean upToDate;
+
+  private List<Component> components = new ArrayList<Component>();
+  private Map<Component, Integer> positions = new IdentityHashMap<Component, Integer>();
+  private Map<Container, int[]> descendantRanges = new IdentityHashMap<Container, int[]>();
+  private Map<Class, List<Component>> componentsByClass = new HashMap<Class, List<Component>>();
+  private Map<String, List<Component>> componentsByName = new HashMap<String, List<Component>>();
+  private Map<String, List<Component>> componentsByDisplayedName = new HashMap<String, List<Component>>();
+  private List<Component> textComponents = new ArrayList<Component>();
+  private Map<Class, List<Component>> textComponentsByClass = new HashMap<Class, List<Component>>();
+
+  private ComponentIndex(Container root) {
+    this.root = root;
+  }
+
+  /**
+   * Returns the index of the window containing the given container, or null if the container
+   * is not part of an indexable hierarchy.
+   */
+  static ComponentIndex get(Container container) {
+    if (container == null) {
+      return null;
+    }
+    JComponent holder = getHolder(container);
+    if (holder == null) {
+      return null;
+    }
+    synchronized (holder) {
+      ComponentIndex index = (ComponentIndex)holder.getClientProperty(CLIENT_PROPERTY);
+      if (index == null) {
+        index = new ComponentIndex(holder);
+        holder.putClientProperty(CLIENT_PROPERTY, index);
+      }
+      return index;
+    }
+  }
+
+  private static JComponent getHolder(Container container) {
+    Container root = container;
+    while (root.getParent() != null) {
+      root = root.getParent();
+    }
+    if (root instanceof RootPaneContainer) {
+      return ((RootPaneContainer)root).getRootPane();
+    }
+    if (root instanceof JComponent) {
+      return (JComponent)root;
+    }
+    return null;
+  }
+
+  /**
+   * Returns the components of the <code>scope</code> hierarchy found by the first matcher that
+   * finds something, in the order in which they would have been found by traversing the hierarchy
+   * - or null if the scope is not covered by this index.
+   */
+  synchronized List<Component> findComponents(Container scope, ComponentMatcher[] matchers, Class[] swingClasses) {
+    if (!upToDate) {
+      rebuild();
+    }
+    int[] scopeRange = descendantRanges.get(scope);
+    if (scopeRange == null) {
+      return null;
+    }
+    for (ComponentMatcher matcher : matchers) {
+      List<Component> result = new ArrayList<Component>();
+      for (Component component : getCandidates(matcher, swingClasses)) {
+        if (ComponentFinder.isClassMatching(component, swingClasses)
+            && isInRange(positions.get(component), scopeRange)
+            && matcher.matches(component)
+            && !isHiddenByCardLayout(component, scope)) {
+          result.add(component);
+        }
+      }
+      if (!result.isEmpty()) {
+        return result;
+      }
+    }
+    return Collections.emptyList();
+  }
+
+  /**
+   * Card layouts are checked last, only for the components that match, since it requires
+   * going up the hierarchy.
+   */
+  private static boolean isHiddenByCardLayout(Component component, Container scope) {
+    Component child = component;
+    Container parent = component.getParent();
+    while (parent != null) {
+      if ((parent.getLayout() instanceof CardLayout) && !child.isVisible()) {
+        return true;
+      }
+      if (parent == scope) {
+        return false;
+      }
+      child = parent;
+      parent = parent.getParent();
+    }
+    return false;
+  }
+
+  private static boolean isInRange(Integer position, int[] range) {
+    return (position != null) && (position >= range[0]) && (position < range[1]);
+  }
+
+  private List<Component> getCandidates(ComponentMatcher matcher, Class[] swingClasses) {
+    if (matcher instanceof ComponentMatchers.InnerNameComponentMatcher) {
+      String reference = getIdentityReference(((ComponentMatchers.InnerNameComponentMatcher)matcher).getStringMatcher());
+      if (reference != null) {
+        return lookup(componentsByName, toKey(reference));
+      }
+    }
+    if (matcher instanceof ComponentMatchers.DisplayedNameComponentMatcher) {
+      String reference = getIdentityReference(((ComponentMatchers.DisplayedNameComponentMatcher)matcher).getStringMatcher());
+      if (reference != null) {
+        return merge(lookup(componentsByDisplayedName, toKey(reference)), getTextComponentsOfClasses(swingClasses));
+      }
+    }
+    return getComponentsOfClasses(swingClasses);
+  }
+
+  private static String getIdentityReference(StringMatcher stringMatcher) {
+    if (stringMatcher instanceof StringMatcher.IdentityMatcher) {
+      return ((StringMatcher.IdentityMatcher)stringMatcher).getReference();
+    }
+    return null;
+  }
+
+  private List<Component> getComponentsOfClasses(Class[] swingClasses) {
+    if (swingClasses.length == 0) {
+      return components;
+    }
+    List<Component> result = getComponentsOfClass(swingClasses[0]);
+    for (int i = 1; i < swingClasses.length; i++) {
+      result = merge(result, getComponentsOfClass(swingClasses[i]));
+    }
+    return result;
+  }
+
+  /**
+   * The text of JTextComponents changes too often for being indexed, so they are always
+   * checked with the matcher.
+   */
+  private List<Component> getTextComponentsOfClasses(Class[] swingClasses) {
+    if (swingClasses.length == 0) {
+      return textComponents;
+    }
+    List<Component> result = getTextComponentsOfClass(swingClasses[0]);
+    for (int i = 1; i < swingClasses.length; i++) {
+      result = merge(result, getTextComponentsOfClass(swingClasses[i]));
+    }
+    return result;
+  }
+
+  private List<Component> getTextComponentsOfClass(Class swingClass) {
+    List<Component> result = textComponentsByClass.get(swingClass);
+    if (result == null) {
+      result = new ArrayList<Component>();
+      for (Component component : textComponents) {
+        if (swingClass.isInstance(component)) {
+          result.add(component);
+        }
+      }
+      textComponentsByClass.put(swingClass, result);
+    }
+    return result;
+  }
+
+  private List<Component> getComponentsOfClass(Class swingClass) {
+    List<Component> result = componentsByClass.get(swingClass);
+    if (result == null) {
+      result = new ArrayList<Component>();
+      for (Component component : components) {
+        if (swingClass.isInstance(component)) {
+          result.add(component);
+        }
+      }
+      componentsByClass.put(swingClass, result);
+    }
+    return result;
+  }
+
+  /**
+   * Merges two lists of components sorted in traversal order.
+   */
+  private List<Component> merge(List<Component> list1, List<Component> list2) {
+    if (list2.isEmpty()) {
+      return list1;
+    }
+    if (list1.isEmpty()) {
+      return list2;
+    }
+    List<Component> result = new ArrayList<Component>(list1.size() + list2.size());
+    int i1 = 0;
+    int i2 = 0;
+    while ((i1 < list1.size()) && (i2 < list2.size())) {
+      Component component1 = list1.get(i1);
+      Component component2 = list2.get(i2);
+      int comparison = positions.get(component1) - positions.get(component2);
+      if (comparison <= 0) {
+        result.add(component1);
+        i1++;
+        if (comparison == 0) {
+          i2++;
+        }
+      }
+      else {
+        result.add(component2);
+        i2++;
+      }
+    }
+    result.addAll(list1.subList(i1, list1.size()));
+    result.addAll(list2.subList(i2, list2.size()));
+    return result;
+  }
+
+  private void rebuild() {
+    clear();
+    upToDate = true;
+    traverse(getTraversalRoot());
+    for (Component component : components) {
+      component.addPropertyChangeListener(listener);
+      if (component instanceof JTextComponent) {
+        textComponents.add(component);
+      }
+      else if (ComponentUtils.hasDisplayedName(component.getClass())) {
+        String displayedName = ComponentUtils.getDisplayedName(component);
+        if (displayedName != null) {
+          get(componentsByDisplayedName, toKey(displayedName)).add(component);
+        }
+      }
+      if (component.getName() != null) {
+        get(componentsByName, toKey(component.getName())).add(component);
+      }
+    }
+  }
+
+  private Container getTraversalRoot() {
+    Container container = root;
+    while (container.getParent() != null) {
+      container = container.getParent();
+    }
+    return container;
+  }
+
+  private int[] traverse(Container container) {
+    if (container instanceof JScrollPane) {
+      container.addContainerListener(listener);
+      int[] range = traverse(((JScrollPane)container).getViewport());
+      descendantRanges.put(container, range);
+      return range;
+    }
+    int[] range = new int[]{components.size(), components.size()};
+    if (container == null) {
+      return range;
+    }
+    container.addContainerListener(listener);
+    List<Container> containers = new ArrayList<Container>();
+    for (int i = 0, max = container.getComponentCount(); i < max; i++) {
+      Component component = container.getComponent(i);
+      positions.put(component, components.size());
+      components.add(component);
+      if (component instanceof Container) {
+        containers.add((Container)component);
+      }
+    }
+    for (Container innerContainer : containers) {
+      traverse(innerContainer);
+    }
+    range[1] = components.size();
+    descendantRanges.put(container, range);
+    return range;
+  }
+
+  private void clear() {
+    for (Container container : descendantRanges.keySet()) {
+      container.removeContainerListener(listener);
+    }
+    for (Component component : components) {
+      component.removePropertyChangeListener(listener);
+    }
+    components = new ArrayList<Component>();
+    positions = new IdentityHashMap<Component, Integer>();
+    descendantRanges = new IdentityHashMap<Container, int[]>();
+    componentsByClass = new HashMap<Class, List<Component>>();
+    componentsByName = new HashMap<String, List<Component>>();
+    componentsByDisplayedName = new HashMap<String, List<Component>>();
+    textComponents = new ArrayList<Component>();
+    textComponentsByClass = new HashMap<Class, List<Component>>();
+  }
+
+  private static List<Component> get(Map<String, List<Component>> map, String key) {
+    List<Component> list = map.get(key);
+    if (list == null) {
+      list = new ArrayList<Component>();
+      map.put(key, list);
+    }
+    return list;
+  }
+
+  private static List<Component> lookup(Map<String, List<Component>> map, String key) {
+    List<Component> list = map.get(key);
+    return (list == null) ? Collections.<Component>emptyList() : list;
+  }
+
+  /**
+   * Computes a key such that two strings have the same key if they are equal when ignoring case,
+   * as defined by {@link String#equalsIgnoreCase(String)}.
+   */
+  private static String toKey(String text) {
+    StringBuilder builder = new StringBuilder(text.length());
+    for (int i = 0; i < text.length(); ) {
+      int codePoint = text.codePointAt(i);
+      builder.appendCodePoint(Character.toLowerCase(Character.toUpperCase(codePoint)));
+      i += Character.charCount(codePoint);
+    }
+    return builder.toString();
+  }
+
+  private class Listener implements ContainerListener, PropertyChangeListener {
+    public void componentAdded(ContainerEvent e) {
+      upToDate = false;
+    }
+
+    public void componentRemoved(ContainerEvent e) {
+      upToDate = false;
+    }
+
+    public void propertyChange(PropertyChangeEvent event) {
+      String propertyName = event.getPropertyName();
+      if ("name".equals(propertyName) || "text".equals(propertyName)) {
+        upToDate = false;
+      }
+    }
+  }
+}
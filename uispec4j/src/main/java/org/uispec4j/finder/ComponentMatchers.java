@@ -145,13 +145,17 @@ public class ComponentMatchers {
     };
   }
 
-  private static class DisplayedNameComponentMatcher implements ComponentMatcher {
+  static class DisplayedNameComponentMatcher implements ComponentMatcher {
     private final StringMatcher stringMatcher;
 
     public DisplayedNameComponentMatcher(StringMatcher stringMatcher) {
       this.stringMatcher = stringMatcher;
     }
 
+    StringMatcher getStringMatcher() {
+      return stringMatcher;
+    }
+
     public boolean matches(Component component) {
       if (!ComponentUtils.hasDisplayedName(component.getClass())) {
         return false;
@@ -161,13 +165,17 @@ public class ComponentMatchers {
     }
   }
 
-  private static class InnerNameComponentMatcher implements ComponentMatcher {
+  static class InnerNameComponentMatcher implements ComponentMatcher {
     private final StringMatcher stringMatcher;
 
     public InnerNameComponentMatcher(StringMatcher stringMatcher) {
       this.stringMatcher = stringMatcher;
     }
 
+    StringMatcher getStringMatcher() {
+      return stringMatcher;
+    }
+
     public boolean matches(Component component) {
       return stringMatcher.matches(component.getName());
     }
@@ -4,7 +4,12 @@ import org.uispec4j.utils.ArrayUtils;
 import org.uispec4j.utils.ComponentUtils;
 
 import java.awt.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 class Messages {
   public static String computeAmbiguityMessage(Component[] matchingComponents, String type, String name) {
@@ -44,6 +49,68 @@ class Messages {
     return "No component found";
   }
 
+  /**
+   * Same as {@link #computeNotFoundMessage(String, String, List)}, with the available names sorted and
+   * limited to the <code>limit</code> names closest to the searched one.
+   */
+  public static String computeNotFoundMessage(String type, String name, List<String> availableNames, int limit) {
+    if (availableNames.size() <= limit) {
+      List<String> sortedNames = new ArrayList<String>(availableNames);
+      Collections.sort(sortedNames);
+      return computeNotFoundMessage(type, name, sortedNames);
+    }
+    List<String> closestNames = getClosestNames(name, availableNames, limit);
+    Collections.sort(closestNames);
+    return computeNotFoundMessage(type, name, null) +
+           " - closest available names: " + ArrayUtils.toString(closestNames) +
+           " (" + limit + " out of " + availableNames.size() + ")";
+  }
+
+  private static List<String> getClosestNames(String name, List<String> names, int limit) {
+    List<String> result = new ArrayList<String>(names);
+    if (name == null) {
+      Collections.sort(result);
+    }
+    else {
+      final String searchedName = name.toLowerCase();
+      final Map<String, Integer> distances = new HashMap<String, Integer>();
+      for (String candidate : result) {
+        if (!distances.containsKey(candidate)) {
+          distances.put(candidate, getEditDistance(searchedName, candidate.toLowerCase()));
+        }
+      }
+      Collections.sort(result, new Comparator<String>() {
+        public int compare(String name1, String name2) {
+          int comparison = distances.get(name1).compareTo(distances.get(name2));
+          return (comparison != 0) ? comparison : name1.compareTo(name2);
+        }
+      });
+    }
+    return new ArrayList<String>(result.subList(0, limit));
+  }
+
+  /**
+   * Levenshtein distance between the two strings.
+   */
+  static int getEditDistance(String s1, String s2) {
+    int[] previous = new int[s2.length() + 1];
+    int[] current = new int[s2.length() + 1];
+    for (int j = 0; j <= s2.length(); j++) {
+      previous[j] = j;
+    }
+    for (int i = 1; i <= s1.length(); i++) {
+      current[0] = i;
+      for (int j = 1; j <= s2.length(); j++) {
+        int cost = (s1.charAt(i - 1) == s2.charAt(j - 1)) ? 0 : 1;
+        current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+      }
+      int[] swap = previous;
+      previous = current;
+      current = swap;
+    }
+    return previous[s2.length()];
+  }
+
   private static String getPostfix(List availableNames) {
     if ((availableNames == null) || availableNames.isEmpty()) {
       return "";
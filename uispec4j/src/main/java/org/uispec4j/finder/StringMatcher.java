@@ -6,43 +6,132 @@ import java.util.regex.Pattern;
 /**
  * String matching policy used withing the component searching mechanism.
  * Three ready-to-use strategies are provided (identity/substring/regexp),
- * but you can provide your own by implementing this class.
+ * but you can provide your own by implementing this class.<p>
+ * The provided strategies do not allocate anything when comparing strings made of ASCII characters,
+ * since they are applied to each component of the searched containers.
  */
 public abstract class StringMatcher {
   public abstract boolean matches(String toCompare);
 
   public static StringMatcher identity(final String reference) {
-    return new StringMatcher() {
-      public boolean matches(String toCompare) {
-        if (reference == null) {
-          return toCompare == null;
-        }
-        return reference.equalsIgnoreCase(toCompare);
-      }
-    };
+    return new IdentityMatcher(reference);
   }
 
   public static StringMatcher substring(final String reference) {
-    final String uppercasedReference = reference.toUpperCase();
-    return new StringMatcher() {
-      public boolean matches(String toCompare) {
-        if ((toCompare == null)) {
+    return new SubstringMatcher(reference);
+  }
+
+  public static StringMatcher regexp(String reference) {
+    return new RegexpMatcher(Pattern.compile(reference));
+  }
+
+  static class IdentityMatcher extends StringMatcher {
+    private final String reference;
+
+    private IdentityMatcher(String reference) {
+      this.reference = reference;
+    }
+
+    String getReference() {
+      return reference;
+    }
+
+    public boolean matches(String toCompare) {
+      if (reference == null) {
+        return toCompare == null;
+      }
+      return reference.equalsIgnoreCase(toCompare);
+    }
+  }
+
+  /**
+   * Case-insensitive substring search. When both strings are made of ASCII characters and the default
+   * locale uses the usual ASCII case mapping, the search is done in place. Otherwise the compared string is
+   * converted to upper case, and the last conversion is kept since the same texts are often
+   * compared again.
+   */
+  static class SubstringMatcher extends StringMatcher {
+    private final String reference;
+    private final String uppercasedReference;
+    private final boolean asciiFastPath;
+    private volatile String[] lastUppercased = {null, null};
+
+    private SubstringMatcher(String reference) {
+      this.reference = reference;
+      this.uppercasedReference = reference.toUpperCase();
+      this.asciiFastPath = isAscii(reference) && "i".toUpperCase().equals("I");
+    }
+
+    public boolean matches(String toCompare) {
+      if ((toCompare == null)) {
+        return false;
+      }
+      if (asciiFastPath && isAscii(toCompare)) {
+        return containsIgnoreCase(toCompare);
+      }
+      return getUppercased(toCompare).indexOf(uppercasedReference) >= 0;
+    }
+
+    private boolean containsIgnoreCase(String toCompare) {
+      int length = uppercasedReference.length();
+      if (length == 0) {
+        return true;
+      }
+      char first = uppercasedReference.charAt(0);
+      for (int i = 0, max = toCompare.length() - length; i <= max; i++) {
+        if (toUpperCase(toCompare.charAt(i)) == first && regionMatches(toCompare, i, length)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private boolean regionMatches(String toCompare, int offset, int length) {
+      for (int j = 1; j < length; j++) {
+        if (toUpperCase(toCompare.charAt(offset + j)) != uppercasedReference.charAt(j)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private static char toUpperCase(char c) {
+      return ((c >= 'a') && (c <= 'z')) ? (char)(c - ('a' - 'A')) : c;
+    }
+
+    private String getUppercased(String toCompare) {
+      String[] last = lastUppercased;
+      if (toCompare.equals(last[0])) {
+        return last[1];
+      }
+      String uppercased = toCompare.toUpperCase();
+      lastUppercased = new String[]{toCompare, uppercased};
+      return uppercased;
+    }
+
+    private static boolean isAscii(String text) {
+      for (int i = 0; i < text.length(); i++) {
+        if (text.charAt(i) >= 128) {
           return false;
         }
-        String realToCompare = toCompare.toUpperCase();
-        return (realToCompare.indexOf(uppercasedReference) >= 0);
       }
-    };
+      return true;
+    }
   }
 
-  public static StringMatcher regexp(String reference) {
-    final Pattern pattern = Pattern.compile(reference);
-    return new StringMatcher() {
-      public boolean matches(String toCompare) {
-        String realToCompare = (toCompare == null) ? "" : toCompare;
-        Matcher matcher = pattern.matcher(realToCompare);
-        return matcher.matches();
-      }
-    };
+  /**
+   * Reuses a single {@link Matcher}, which is reset for each compared string.
+   */
+  static class RegexpMatcher extends StringMatcher {
+    private final Matcher matcher;
+
+    private RegexpMatcher(Pattern pattern) {
+      this.matcher = pattern.matcher("");
+    }
+
+    public synchronized boolean matches(String toCompare) {
+      String realToCompare = (toCompare == null) ? "" : toCompare;
+      return matcher.reset(realToCompare).matches();
+    }
   }
 }
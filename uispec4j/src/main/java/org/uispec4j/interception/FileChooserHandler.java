@@ -1,6 +1,7 @@
 package org.uispec4j.interception;
 
 import org.uispec4j.Trigger;
+import org.uispec4j.UISpec4J;
 import org.uispec4j.Window;
 import org.uispec4j.assertion.UISpecAssert;
 import org.uispec4j.assertion.testlibrairies.AssertAdapter;
@@ -182,7 +183,7 @@ public class FileChooserHandler {
       Component[] components = window.getSwingComponents(JFileChooser.class);
       if (components.length != 1) {
         AssertAdapter.fail("The shown window is not a file chooser - window content:" +
-                           Utils.LINE_SEPARATOR + window.getDescription());
+                           Utils.LINE_SEPARATOR + window.getDescription(UISpec4J.getFailureDescriptionLimits()));
       }
       JFileChooser fileChooser = (JFileChooser)components[0];
       for (FileChooserInternalHandler handler : fileChooserHandlers) {
@@ -0,0 +1,67 @@
+package org.uispec4j.interception;
+
+import jdk.jfr.*;
+
+/**
+ * {@link InterceptionListener} emitting an <code>org.uispec4j.Interception</code> event to Java Flight Recorder
+ * for each phase, so that interceptions can be analyzed along with the other events of a recording.<p>
+ * The <code>jdk.jfr</code> module is optional: when it is not available, the phases are ignored.
+ */
+public class InterceptionJfrListener implements InterceptionListener {
+
+  public void phaseCompleted(InterceptionPhase phase, String windowTitle, String handlerName, long durationNanos) {
+    if (isJfrAvailable()) {
+      Recorder.commit(phase, windowTitle, handlerName, durationNanos);
+    }
+  }
+
+  /**
+   * Returns true if the <code>jdk.jfr</code> module can be used by UISpec4J.
+   */
+  public static boolean isJfrAvailable() {
+    return Availability.AVAILABLE;
+  }
+
+  private static class Availability {
+    private static final boolean AVAILABLE =
+      ModuleLayer.boot().findModule("jdk.jfr")
+        .map(module -> InterceptionJfrListener.class.getModule().canRead(module))
+        .orElse(false);
+  }
+
+  /**
+   * Only loaded when JFR is available, since it refers to the JFR classes.
+   */
+  private static class Recorder {
+    static void commit(InterceptionPhase phase, String windowTitle, String handlerName, long durationNanos) {
+      InterceptionEvent event = new InterceptionEvent();
+      if (!event.isEnabled()) {
+        return;
+      }
+      event.phase = phase.name();
+      event.windowTitle = windowTitle;
+      event.handlerName = handlerName;
+      event.phaseDuration = durationNanos;
+      event.commit();
+    }
+  }
+
+  @Name("org.uispec4j.Interception")
+  @Label("Window Interception Phase")
+  @Category("UISpec4J")
+  @StackTrace(false)
+  static class InterceptionEvent extends Event {
+    @Label("Phase")
+    String phase;
+
+    @Label("Window Title")
+    String windowTitle;
+
+    @Label("Handler")
+    String handlerName;
+
+    @Label("Phase Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long phaseDuration;
+  }
+}
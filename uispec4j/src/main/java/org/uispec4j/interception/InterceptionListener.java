@@ -0,0 +1,21 @@
+package org.uispec4j.interception;
+
+/**
+ * Receives the duration of each phase of the interceptions performed by {@link WindowInterceptor},
+ * for finding out which windows slow down a test suite.
+ *
+ * @see WindowInterceptor#addInterceptionListener(InterceptionListener)
+ * @see InterceptionStatistics
+ * @see InterceptionJfrListener
+ */
+public interface InterceptionListener {
+  /**
+   * Called when a phase of an interception is over, whether it succeeded or not.
+   *
+   * @param windowTitle   the title of the intercepted window, or null if no window was shown
+   * @param handlerName   the name of the {@link WindowHandler} involved in the phase, or null for the
+   *                      phases that do not depend on a handler
+   * @param durationNanos the duration of the phase in nanoseconds
+   */
+  void phaseCompleted(InterceptionPhase phase, String windowTitle, String handlerName, long durationNanos);
+}
@@ -0,0 +1,28 @@
+package org.uispec4j.interception;
+
+/**
+ * Steps of a window interception, as reported to {@link InterceptionListener} objects.
+ *
+ * @see WindowInterceptor#addInterceptionListener(InterceptionListener)
+ */
+public enum InterceptionPhase {
+  /**
+   * Running a trigger: the one given to the interceptor, or the one returned by a {@link WindowHandler}.
+   */
+  TRIGGER,
+
+  /**
+   * Waiting for the window to be shown after the trigger was run.
+   */
+  WINDOW_SHOWN,
+
+  /**
+   * Running the {@link WindowHandler#process(org.uispec4j.Window)} method of a handler.
+   */
+  HANDLER,
+
+  /**
+   * Waiting for a modal window to be closed after its handler was run.
+   */
+  WINDOW_CLOSED
+}
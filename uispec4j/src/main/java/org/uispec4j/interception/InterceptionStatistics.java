@@ -0,0 +1,136 @@
+package org.uispec4j.interception;
+
+import java.util.*;
+
+/**
+ * {@link InterceptionListener} computing the median and 99th percentile durations of each phase, per window
+ * title and handler, for instance:
+ * <pre>
+ *   InterceptionStatistics statistics = new InterceptionStatistics();
+ *   WindowInterceptor.addInterceptionListener(statistics);
+ *   // ... run the tests ...
+ *   System.out.println(statistics.getReport());
+ * </pre>
+ */
+public class InterceptionStatistics implements InterceptionListener {
+  private final Map<Key, List<Long>> durations = new TreeMap<Key, List<Long>>();
+
+  public synchronized void phaseCompleted(InterceptionPhase phase, String windowTitle, String handlerName, long durationNanos) {
+    Key key = new Key(windowTitle, phase, handlerName);
+    List<Long> list = durations.get(key);
+    if (list == null) {
+      list = new ArrayList<Long>();
+      durations.put(key, list);
+    }
+    list.add(durationNanos);
+  }
+
+  /**
+   * Returns the number of times a phase was measured for a window - the handler name may be null.
+   */
+  public synchronized int getCount(String windowTitle, InterceptionPhase phase, String handlerName) {
+    List<Long> list = durations.get(new Key(windowTitle, phase, handlerName));
+    return (list == null) ? 0 : list.size();
+  }
+
+  /**
+   * Returns the given percentile (between 0 and 100) of the durations of a phase for a window,
+   * in nanoseconds, or -1 if the phase was not measured.
+   */
+  public synchronized long getPercentile(String windowTitle, InterceptionPhase phase, String handlerName,
+                                         double percentile) {
+    List<Long> list = durations.get(new Key(windowTitle, phase, handlerName));
+    if (list == null) {
+      return -1;
+    }
+    return getPercentile(sort(list), percentile);
+  }
+
+  /**
+   * Returns a table giving for each window, phase and handler the number of measures and the median,
+   * 99th percentile and maximum durations in milliseconds, sorted by window title.
+   */
+  public synchronized String getReport() {
+    StringBuilder builder = new StringBuilder();
+    builder.append(String.format(Locale.ENGLISH, "%-30s %-14s %-20s %8s %10s %10s %10s%n",
+                                 "Window", "Phase", "Handler", "Count", "p50 (ms)", "p99 (ms)", "max (ms)"));
+    for (Map.Entry<Key, List<Long>> entry : durations.entrySet()) {
+      Key key = entry.getKey();
+      long[] sorted = sort(entry.getValue());
+      builder.append(String.format(Locale.ENGLISH, "%-30s %-14s %-20s %8d %10.1f %10.1f %10.1f%n",
+                                   toString(key.windowTitle), key.phase, toString(key.handlerName),
+                                   sorted.length,
+                                   toMillis(getPercentile(sorted, 50)),
+                                   toMillis(getPercentile(sorted, 99)),
+                                   toMillis(sorted[sorted.length - 1])));
+    }
+    return builder.toString();
+  }
+
+  public synchronized void reset() {
+    durations.clear();
+  }
+
+  private static long[] sort(List<Long> list) {
+    long[] result = new long[list.size()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = list.get(i);
+    }
+    Arrays.sort(result);
+    return result;
+  }
+
+  /**
+   * Nearest-rank percentile.
+   */
+  private static long getPercentile(long[] sorted, double percentile) {
+    int rank = (int)Math.ceil(percentile / 100 * sorted.length);
+    return sorted[Math.min(sorted.length - 1, Math.max(0, rank - 1))];
+  }
+
+  private static double toMillis(long nanos) {
+    return nanos / 1000000.0;
+  }
+
+  private static String toString(String text) {
+    return (text == null) ? "-" : text;
+  }
+
+  private static class Key implements Comparable<Key> {
+    private final String windowTitle;
+    private final InterceptionPhase phase;
+    private final String handlerName;
+
+    Key(String windowTitle, InterceptionPhase phase, String handlerName) {
+      this.windowTitle = windowTitle;
+      this.phase = phase;
+      this.handlerName = handlerName;
+    }
+
+    public int compareTo(Key other) {
+      int result = compare(windowTitle, other.windowTitle);
+      if (result == 0) {
+        result = phase.compareTo(other.phase);
+      }
+      if (result == 0) {
+        result = compare(handlerName, other.handlerName);
+      }
+      return result;
+    }
+
+    private static int compare(String text1, String text2) {
+      if (text1 == null) {
+        return (text2 == null) ? 0 : -1;
+      }
+      return (text2 == null) ? 1 : text1.compareTo(text2);
+    }
+
+    public boolean equals(Object o) {
+      return (o instanceof Key) && (compareTo((Key)o) == 0);
+    }
+
+    public int hashCode() {
+      return Objects.hash(windowTitle, phase, handlerName);
+    }
+  }
+}
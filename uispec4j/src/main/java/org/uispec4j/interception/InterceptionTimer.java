@@ -0,0 +1,48 @@
+package org.uispec4j.interception;
+
+import org.uispec4j.Window;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Measures the phases of the interceptions and notifies the registered listeners.
+ */
+class InterceptionTimer {
+  private static final List<InterceptionListener> LISTENERS = new CopyOnWriteArrayList<InterceptionListener>();
+
+  private InterceptionTimer() {
+  }
+
+  static void addListener(InterceptionListener listener) {
+    LISTENERS.add(listener);
+  }
+
+  static void removeListener(InterceptionListener listener) {
+    LISTENERS.remove(listener);
+  }
+
+  /**
+   * Returns the start time of a phase. The time is read even if no listener is registered, since
+   * a listener may be registered before the end of the phase.
+   */
+  static long start() {
+    return System.nanoTime();
+  }
+
+  static void stop(long start, InterceptionPhase phase, Window window, String handlerName) {
+    if (!LISTENERS.isEmpty()) {
+      record(phase, window, handlerName, start, System.nanoTime());
+    }
+  }
+
+  static void record(InterceptionPhase phase, Window window, String handlerName, long start, long end) {
+    if (LISTENERS.isEmpty()) {
+      return;
+    }
+    String windowTitle = (window != null) ? window.getTitle() : null;
+    for (InterceptionListener listener : LISTENERS) {
+      listener.phaseCompleted(phase, windowTitle, handlerName, end - start);
+    }
+  }
+}
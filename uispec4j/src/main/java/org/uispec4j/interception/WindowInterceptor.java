@@ -197,7 +197,7 @@ public final class WindowInterceptor {
     }
     initStackReference();
     try {
-      run(() -> trigger,
+      run(() -> trigger, null,
           new InterceptionHandlerAdapter(handlers.iterator()));
     }
     catch (Throwable e) {
@@ -242,12 +242,18 @@ public final class WindowInterceptor {
       String name = handler.getName();
       try {
         if (handlersIterator.hasNext()) {
-          WindowInterceptor.run(() -> handler.process(window),
+          WindowInterceptor.run(() -> processWindow(window, name), name,
                                 this);
         }
         else {
-          Trigger trigger = handler.process(window);
-          TriggerRunner.runInCurrentThread(trigger);
+          Trigger trigger = processWindow(window, name);
+          long start = InterceptionTimer.start();
+          try {
+            TriggerRunner.runInCurrentThread(trigger);
+          }
+          finally {
+            InterceptionTimer.stop(start, InterceptionPhase.TRIGGER, window, name);
+          }
         }
       }
       catch (WindowNotClosedError e) {
@@ -263,6 +269,16 @@ public final class WindowInterceptor {
       }
     }
 
+    private Trigger processWindow(Window window, String name) throws Exception {
+      long start = InterceptionTimer.start();
+      try {
+        return handler.process(window);
+      }
+      finally {
+        InterceptionTimer.stop(start, InterceptionPhase.HANDLER, window, name);
+      }
+    }
+
     private String computeMessagePrefix(String handlerName) {
       return handlers.size() > 1 ? "Error in handler '" + handlerName + "': " : "";
     }
@@ -307,6 +323,7 @@ public final class WindowInterceptor {
     UISpecDisplay.instance().add(modalChecker);
 
     try {
+      long triggerStart = InterceptionTimer.start();
       if (shouldBeModal) {
         TriggerRunner.runInUISpecThread(trigger);
       }
@@ -315,7 +332,7 @@ public final class WindowInterceptor {
       }
 
       UISpecDisplay.instance().rethrowIfNeeded();
-      showDetector.waitWindow();
+      waitWindow(showDetector, triggerStart, null);
       return collector.getWindow();
     }
     finally {
@@ -329,7 +346,7 @@ public final class WindowInterceptor {
     Trigger getTrigger() throws Exception;
   }
 
-  private static void run(TriggerAccessor triggerAccessor, InterceptionHandler handler) throws Exception {
+  private static void run(TriggerAccessor triggerAccessor, String triggerSource, InterceptionHandler handler) throws Exception {
     ShownInterceptionDetectionHandler showDetector =
       new ShownInterceptionDetectionHandler(handler, UISpec4J.getWindowInterceptionTimeLimit());
     ClosedInterceptionDetectionHandler closeDetector =
@@ -337,10 +354,18 @@ public final class WindowInterceptor {
     NewThreadInterceptionHandlerDecorator newThreadHandler = new NewThreadInterceptionHandlerDecorator(closeDetector);
     UISpecDisplay.instance().add(newThreadHandler);
     try {
-      TriggerRunner.runInSwingThread(triggerAccessor.getTrigger());
-      showDetector.waitWindow();
+      Trigger trigger = triggerAccessor.getTrigger();
+      long triggerStart = InterceptionTimer.start();
+      TriggerRunner.runInSwingThread(trigger);
+      waitWindow(showDetector, triggerStart, triggerSource);
       newThreadHandler.complete();
-      closeDetector.checkWindowWasClosed();
+      long closeStart = InterceptionTimer.start();
+      try {
+        closeDetector.checkWindowWasClosed();
+      }
+      finally {
+        InterceptionTimer.stop(closeStart, InterceptionPhase.WINDOW_CLOSED, showDetector.getWindow(), null);
+      }
     }
     finally {
       UISpecDisplay.instance().remove(newThreadHandler);
@@ -348,4 +373,30 @@ public final class WindowInterceptor {
       closeDetector.stop();
     }
   }
+
+  private static void waitWindow(ShownInterceptionDetectionHandler showDetector, long triggerStart, String triggerSource) {
+    long shownStart = InterceptionTimer.start();
+    try {
+      showDetector.waitWindow();
+    }
+    finally {
+      Window window = showDetector.getWindow();
+      InterceptionTimer.record(InterceptionPhase.TRIGGER, window, triggerSource, triggerStart, shownStart);
+      InterceptionTimer.stop(shownStart, InterceptionPhase.WINDOW_SHOWN, window, null);
+    }
+  }
+
+  /**
+   * Registers a listener notified of the duration of each phase of the interceptions.
+   *
+   * @see InterceptionStatistics
+   * @see InterceptionJfrListener
+   */
+  public static void addInterceptionListener(InterceptionListener listener) {
+    InterceptionTimer.addListener(listener);
+  }
+
+  public static void removeInterceptionListener(InterceptionListener listener) {
+    InterceptionTimer.removeListener(listener);
+  }
 }
@@ -2,20 +2,29 @@ package org.uispec4j.interception.handlers;
 
 import org.uispec4j.Window;
 import org.uispec4j.utils.ComponentUtils;
-import org.uispec4j.utils.ThreadManager;
 
+import java.awt.*;
+import java.awt.event.ComponentEvent;
+import java.awt.event.ComponentListener;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+
+/**
+ * Checks that modal windows get closed by the handler. Closing is detected by listening to the window,
+ * so that no thread is needed for polling its visibility.
+ */
 public class ClosedInterceptionDetectionHandler extends AbstractInterceptionHandlerDecorator {
   public static final String MODAL_DIALOG_NOT_CLOSED_ERROR_MESSAGE =
     "Modal window was not closed - make sure that setVisible(false) gets called " +
     "by the production code";
 
   private long timeout;
-  private Object lock = new Object();
+  private final Object lock = new Object();
   private boolean exceptionThrown = false;
   private String windowTitle;
   private Window window;
   private boolean windowClosed = false;
-  private ThreadManager.ThreadDelegate interuptible;
+  private final CloseListener closeListener = new CloseListener();
 
   public ClosedInterceptionDetectionHandler(InterceptionHandler innerHandler, long timeout) {
     super(innerHandler);
@@ -27,33 +36,15 @@ public class ClosedInterceptionDetectionHandler extends AbstractInterceptionHand
       super.process(window);
       return;
     }
-    this.window = window;
+    synchronized (lock) {
+      this.window = window;
+    }
     windowTitle = window.getTitle();
-    interuptible = ThreadManager.getInstance().addRunnable(" [WindowInterceptor.CloseHandler]", new Runnable() {
-      public void run() {
-        try {
-          long delay = timeout / 500;
-          if (delay < 10) {
-            delay = 10;
-          }
-          for (int i = 0; i < 500; i++) {
-            try {
-              Thread.sleep(delay);
-            }
-            catch (InterruptedException e) {
-              return;
-            }
-            if (!window.getAwtComponent().isVisible()) {
-              notifyWindowClosed();
-              return;
-            }
-          }
-        }
-        finally {
-          ComponentUtils.close(window);
-        }
-      }
-    });
+    Container awtWindow = window.getAwtComponent();
+    awtWindow.addComponentListener(closeListener);
+    if (awtWindow instanceof java.awt.Window) {
+      ((java.awt.Window)awtWindow).addWindowListener(closeListener);
+    }
     try {
       super.process(window);
     }
@@ -85,28 +76,72 @@ public class ClosedInterceptionDetectionHandler extends AbstractInterceptionHand
   }
 
   public void checkWindowWasClosed() {
-    if (window == null) {
-      return;
-    }
+    Window window;
     synchronized (lock) {
-      if (!windowClosed && !exceptionThrown) {
+      window = this.window;
+      if (window == null) {
+        return;
+      }
+      long deadline = System.currentTimeMillis() + timeout;
+      while (!windowClosed && !exceptionThrown) {
+        if (!window.getAwtComponent().isVisible()) {
+          windowClosed = true;
+          break;
+        }
+        long remaining = deadline - System.currentTimeMillis();
+        if (remaining <= 0) {
+          break;
+        }
         try {
-          lock.wait(timeout);
+          lock.wait(remaining);
         }
         catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          break;
         }
-        if (!windowClosed) {
-          throw new WindowNotClosedError("Modal window '" + windowTitle +
-                                         "' was not closed - make sure that setVisible(false) gets called " +
-                                         "by the production code");
-        }
+      }
+      if (windowClosed || exceptionThrown) {
+        return;
       }
     }
+    ComponentUtils.close(window);
+    throw new WindowNotClosedError("Modal window '" + windowTitle +
+                                   "' was not closed - make sure that setVisible(false) gets called " +
+                                   "by the production code");
   }
 
   public void stop() {
-    if (interuptible != null) {
-      interuptible.interrupt();
+    Window window;
+    synchronized (lock) {
+      window = this.window;
+    }
+    if (window == null) {
+      return;
+    }
+    Container awtWindow = window.getAwtComponent();
+    awtWindow.removeComponentListener(closeListener);
+    if (awtWindow instanceof java.awt.Window) {
+      ((java.awt.Window)awtWindow).removeWindowListener(closeListener);
+    }
+    ComponentUtils.close(window);
+  }
+
+  private class CloseListener extends WindowAdapter implements ComponentListener {
+    public void componentHidden(ComponentEvent e) {
+      notifyWindowClosed();
+    }
+
+    public void windowClosed(WindowEvent e) {
+      notifyWindowClosed();
+    }
+
+    public void componentResized(ComponentEvent e) {
+    }
+
+    public void componentMoved(ComponentEvent e) {
+    }
+
+    public void componentShown(ComponentEvent e) {
     }
   }
 }
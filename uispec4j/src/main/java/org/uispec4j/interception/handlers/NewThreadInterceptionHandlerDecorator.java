@@ -1,6 +1,7 @@
 package org.uispec4j.interception.handlers;
 
 import org.uispec4j.Window;
+import org.uispec4j.interception.toolkit.UISpecDisplay;
 import org.uispec4j.utils.ExceptionContainer;
 import org.uispec4j.utils.ThreadManager;
 
@@ -13,7 +14,7 @@ public class NewThreadInterceptionHandlerDecorator extends AbstractInterceptionH
   }
 
   public void process(final Window window) {
-    interuptible = ThreadManager.getInstance().addRunnable(" [NewThreadHandler]", new Runnable() {
+    interuptible = ThreadManager.getInstance().addRunnable(" [NewThreadHandler]", UISpecDisplay.instance().bind(new Runnable() {
       public void run() {
         try {
           NewThreadInterceptionHandlerDecorator.super.process(window);
@@ -22,7 +23,7 @@ public class NewThreadInterceptionHandlerDecorator extends AbstractInterceptionH
           exceptionContainer.set(e);
         }
       }
-    });
+    }));
   }
 
   public void complete() {
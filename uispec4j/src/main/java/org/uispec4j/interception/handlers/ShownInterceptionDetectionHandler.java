@@ -7,6 +7,7 @@ public class ShownInterceptionDetectionHandler extends AbstractInterceptionHandl
   public static final String NO_WINDOW_WAS_SHOWN_ERROR_MESSAGE = "No window was shown (timeout expired)";
 
   private boolean windowWasShown = false;
+  private Window window;
   private long waitTimeLimit;
 
   public ShownInterceptionDetectionHandler(InterceptionHandler handler, long waitTimeLimit) {
@@ -17,6 +18,7 @@ public class ShownInterceptionDetectionHandler extends AbstractInterceptionHandl
   public void process(Window window) {
     synchronized (this) {
       windowWasShown = true;
+      this.window = window;
       notify();
       super.process(window);
     }
@@ -39,4 +41,11 @@ public class ShownInterceptionDetectionHandler extends AbstractInterceptionHandl
       AssertAdapter.fail(NO_WINDOW_WAS_SHOWN_ERROR_MESSAGE);
     }
   }
+
+  /**
+   * Returns the window that was shown, or null.
+   */
+  public synchronized Window getWindow() {
+    return window;
+  }
 }
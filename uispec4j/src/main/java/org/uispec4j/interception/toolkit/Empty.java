@@ -94,6 +94,7 @@ public final class Empty {
   public static final AffineTransform NULL_AFFINE_TRANSFORM = new AffineTransform();
   public static final int DEFAULT_HEIGHT = 50;
   public static final int DEFAULT_WIDTH = 50;
+  public static final Dimension NULL_SCREEN_SIZE = new Dimension(1280, 1024);
   public static final Paint NULL_PAINT = new DummyPaint();
   public static final PaintContext NULL_PAINT_CONTEXT = new DummyPaintContext();
   public static final ImageProducer NULL_IMAGE_PRODUCER = new DummyImageProducer();
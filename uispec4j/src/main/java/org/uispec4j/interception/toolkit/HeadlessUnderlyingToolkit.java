@@ -0,0 +1,112 @@
+package org.uispec4j.interception.toolkit;
+
+import sun.awt.LightweightFrame;
+import sun.awt.SunToolkit;
+
+import java.awt.*;
+import java.awt.datatransfer.Clipboard;
+import java.awt.im.InputMethodHighlight;
+import java.awt.image.ColorModel;
+import java.awt.im.spi.InputMethodDescriptor;
+import java.awt.peer.FramePeer;
+import java.awt.peer.KeyboardFocusManagerPeer;
+import java.awt.peer.SystemTrayPeer;
+import java.awt.peer.TrayIconPeer;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Toolkit used underneath {@link UISpecToolkit} in headless mode, instead of the toolkit of the
+ * platform - it is written in pure Java and requires no display.<p>
+ * The event queue, images and font metrics are provided by {@link SunToolkit}, the screen size is
+ * {@link Empty#NULL_SCREEN_SIZE}, and the system clipboard is kept in memory.
+ */
+class HeadlessUnderlyingToolkit extends SunToolkit {
+  private static final int SCREEN_RESOLUTION = 96;
+
+  private final Clipboard clipboard = new Clipboard("UISpec4J");
+
+  public Clipboard getSystemClipboard() {
+    return clipboard;
+  }
+
+  public int getScreenResolution() {
+    return SCREEN_RESOLUTION;
+  }
+
+  public Dimension getScreenSize() {
+    return new Dimension(Empty.NULL_SCREEN_SIZE);
+  }
+
+  public Insets getScreenInsets(GraphicsConfiguration gc) {
+    return Empty.NULL_INSETS;
+  }
+
+  public ColorModel getColorModel() {
+    return ColorModel.getRGBdefault();
+  }
+
+  protected int getScreenWidth() {
+    return Empty.NULL_SCREEN_SIZE.width;
+  }
+
+  protected int getScreenHeight() {
+    return Empty.NULL_SCREEN_SIZE.height;
+  }
+
+  public FramePeer createLightweightFrame(LightweightFrame target) throws HeadlessException {
+    throw new HeadlessException();
+  }
+
+  public TrayIconPeer createTrayIcon(TrayIcon target) {
+    return Empty.NULL_TRAY_ICON_PEER;
+  }
+
+  public SystemTrayPeer createSystemTray(SystemTray target) {
+    return Empty.NULL_SYSTEM_TRAY_PEER;
+  }
+
+  public KeyboardFocusManagerPeer getKeyboardFocusManagerPeer() {
+    return null;
+  }
+
+  public InputMethodDescriptor getInputMethodAdapterDescriptor() {
+    return Empty.NULL_INPUT_METHOD_DESCRIPTOR;
+  }
+
+  public Map<java.awt.font.TextAttribute, ?> mapInputMethodHighlight(InputMethodHighlight highlight) {
+    return null;
+  }
+
+  public PrintJob getPrintJob(Frame frame, String jobtitle, Properties props) {
+    return null;
+  }
+
+  public void beep() {
+  }
+
+  public void sync() {
+  }
+
+  protected boolean syncNativeQueue(long timeout) {
+    return false;
+  }
+
+  public void grab(Window window) {
+  }
+
+  public void ungrab(Window window) {
+  }
+
+  public boolean isTraySupported() {
+    return false;
+  }
+
+  public boolean isDesktopSupported() {
+    return false;
+  }
+
+  public boolean isTaskbarSupported() {
+    return false;
+  }
+}
@@ -10,14 +10,16 @@ import java.awt.event.ComponentEvent;
 public class UISpecDialogPeer extends Empty.DialogPeer {
   private JDialog dialog;
   private boolean listenerRegistered;
+  private volatile UISpecDisplay display;
 
   public UISpecDialogPeer(JDialog dialog) {
     this.dialog = dialog;
   }
 
   public void show() {
+    display = UISpecDisplay.instance();
     try {
-      UISpecDisplay.instance().assertAcceptsWindow(new Window(dialog));
+      display.assertAcceptsWindow(new Window(dialog));
     }
     catch (Error t) {
       if (SwingUtilities.isEventDispatchThread()) {
@@ -32,7 +34,7 @@ public class UISpecDialogPeer extends Empty.DialogPeer {
       dialog.addComponentListener(new ComponentAdapter() {
         public void componentShown(ComponentEvent e) {
           try {
-            UISpecDisplay.instance().showDialog(dialog);
+            display.showDialog(dialog);
           }
           catch (Throwable t) {
             throw new RuntimeException(t);
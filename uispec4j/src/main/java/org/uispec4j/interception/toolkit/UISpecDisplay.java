@@ -1,5 +1,6 @@
 package org.uispec4j.interception.toolkit;
 
+import org.uispec4j.UISpec4J;
 import org.uispec4j.Window;
 import org.uispec4j.interception.handlers.InterceptionHandler;
 import org.uispec4j.utils.ComponentUtils;
@@ -14,20 +15,69 @@ import java.util.List;
 import java.util.Stack;
 
 /**
- * Virtual display used by the interception mechanism.
+ * Virtual display used by the interception mechanism.<p>
+ * A single display is shared by default. For running tests in parallel, each test can use its own
+ * display, created with {@link #createIsolatedInstance()} and attached to the test thread with
+ * {@link #setInstanceForCurrentThread(UISpecDisplay)}: the windows shown by this thread, and by the
+ * threads started by UISpec4J on its behalf, are then processed by the handlers of this display only.
+ * Windows shown from other threads are processed by the shared display.
  *
  * @see UISpecToolkit
+ * @see org.uispec4j.UISpec4J#setIsolatedDisplayEnabled(boolean)
  */
 public class UISpecDisplay {
 
-  private static final UISpecDisplay singletonInstance = new UISpecDisplay();
+  private static final UISpecDisplay sharedInstance = new UISpecDisplay();
+  private static final ThreadLocal<UISpecDisplay> threadInstance = new ThreadLocal<UISpecDisplay>();
   private Stack handlerStack = new Stack();
-  private JPopupMenu currentPopup;
+  private volatile JPopupMenu currentPopup;
   private ExceptionContainer exceptionContainer = new ExceptionContainer();
   private List<ThreadManager.ThreadDelegate> threads = new ArrayList<ThreadManager.ThreadDelegate>();
 
+  /**
+   * Returns the display attached to the current thread, or the shared one.
+   */
   public static UISpecDisplay instance() {
-    return singletonInstance;
+    UISpecDisplay display = threadInstance.get();
+    return display != null ? display : sharedInstance;
+  }
+
+  /**
+   * Creates a display whose handlers, popups and stored exceptions are independent of the other displays.
+   */
+  public static UISpecDisplay createIsolatedInstance() {
+    return new UISpecDisplay();
+  }
+
+  /**
+   * Attaches the given display to the current thread - or the shared one if the parameter is null.
+   */
+  public static void setInstanceForCurrentThread(UISpecDisplay display) {
+    if ((display == null) || (display == sharedInstance)) {
+      threadInstance.remove();
+    }
+    else {
+      threadInstance.set(display);
+    }
+  }
+
+  /**
+   * Returns a Runnable that runs the given one with this display attached to the running thread,
+   * so that work handed over to another thread is processed by the same display.
+   */
+  public Runnable bind(final Runnable runnable) {
+    return new Runnable() {
+      public void run() {
+        UISpecDisplay previous = threadInstance.get();
+        setInstanceForCurrentThread(UISpecDisplay.this);
+        try {
+          runnable.run();
+        }
+        finally {
+          setInstanceForCurrentThread(previous);
+        }
+      }
+    };
   }
 
   public void showFrame(JFrame frame) {
@@ -62,6 +112,12 @@ public class UISpecDisplay {
       handlerStack.clear();
     }
     exceptionContainer.reset();
+    currentPopup = null;
+    List<ThreadManager.ThreadDelegate> threads;
+    synchronized (this.threads) {
+      threads = new ArrayList<ThreadManager.ThreadDelegate>(this.threads);
+      this.threads.clear();
+    }
     for (ThreadManager.ThreadDelegate thread : threads) {
       try {
         thread.join(10);
@@ -71,7 +127,6 @@ public class UISpecDisplay {
       }
       thread.interrupt();
     }
-    threads.clear();
   }
 
   public void remove(InterceptionHandler handler) {
@@ -85,7 +140,7 @@ public class UISpecDisplay {
   }
 
   private UISpecDisplay() {
-    // Constructor is private since this is a singleton class
+    // Instances are created with createIsolatedInstance()
   }
 
   private void processWindow(Window window) {
@@ -114,7 +169,7 @@ public class UISpecDisplay {
       new Error("Unexpected window shown - this window should be handled with " +
                 "WindowInterceptor. " + Utils.LINE_SEPARATOR +
                 "Window contents:" + Utils.LINE_SEPARATOR +
-                window.getDescription());
+                window.getDescription(UISpec4J.getFailureDescriptionLimits()));
     if (interceptionInProgress()) {
       store(error);
       ComponentUtils.close(window);
@@ -147,7 +202,9 @@ public class UISpecDisplay {
 
   public void runInNewThread(Runnable runnable) {
     ThreadManager.ThreadDelegate threadDelegate =
-      ThreadManager.getInstance().addRunnable("", runnable);
-    threads.add(threadDelegate);
+      ThreadManager.getInstance().addRunnable("", bind(runnable));
+    synchronized (threads) {
+      threads.add(threadDelegate);
+    }
   }
 }
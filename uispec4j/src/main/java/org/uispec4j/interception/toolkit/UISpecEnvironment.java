@@ -0,0 +1,209 @@
+package org.uispec4j.interception.toolkit;
+
+import org.uispec4j.UISpec4J;
+import org.uispec4j.utils.ThreadManager;
+import org.uispec4j.utils.Utils;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.AWTEventListener;
+import java.awt.event.AWTEventListenerProxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Restores the JVM-wide state used by the tests, so that many test classes can be run one after the
+ * other in the same JVM.<p>
+ * A reset disposes all the windows, processes the events left in the AWT event queue, resets the
+ * display, removes the AWT event listeners installed by UISpec4J and checks that no interception
+ * thread is still running. The windows left open, the AWT event listeners and the threads still
+ * running are described in the returned {@link Report}.
+ *
+ * @see org.uispec4j.UISpec4J#setEnvironmentResetEnabled(boolean)
+ */
+public class UISpecEnvironment {
+  private static final int MAX_EVENT_QUEUE_FLUSHES = 10;
+  private static final long THREAD_STOP_TIME_LIMIT = 200;
+  private static final String UISPEC4J_PACKAGE = "org.uispec4j.";
+
+  private UISpecEnvironment() {
+  }
+
+  /**
+   * Resets the given display and the state shared by all the displays.<p>
+   * When each test uses its own display, the windows, AWT event listeners and threads of the other
+   * tests may still be in use: the reset is then limited to the display and to the event queue, and
+   * nothing else is reported.
+   */
+  public static Report reset(UISpecDisplay display) {
+    display.reset();
+    List<String> windowTitles = new ArrayList<String>();
+    List<String> removedListeners = new ArrayList<String>();
+    List<String> otherListeners = new ArrayList<String>();
+    if (UISpec4J.isIsolatedDisplayEnabled()) {
+      flushEventQueue();
+      return new Report(windowTitles, removedListeners, otherListeners, 0);
+    }
+    disposeWindows(windowTitles);
+    flushEventQueue();
+    removeAWTEventListeners(removedListeners, otherListeners);
+    return new Report(windowTitles, removedListeners, otherListeners, waitForInterceptionThreads());
+  }
+
+  private static void disposeWindows(final List<String> titles) {
+    runInEventThread(new Runnable() {
+      public void run() {
+        for (java.awt.Window window : java.awt.Window.getWindows()) {
+          if (window.isDisplayable()) {
+            titles.add(getTitle(window));
+            window.dispose();
+          }
+        }
+        KeyboardFocusManager.getCurrentKeyboardFocusManager().clearGlobalFocusOwner();
+      }
+    });
+  }
+
+  private static String getTitle(java.awt.Window window) {
+    String title = null;
+    if (window instanceof Frame) {
+      title = ((Frame)window).getTitle();
+    }
+    else if (window instanceof Dialog) {
+      title = ((Dialog)window).getTitle();
+    }
+    return (title == null || title.length() == 0) ? window.getClass().getName() : title;
+  }
+
+  /**
+   * Processes the pending events, including those posted while processing them. Events posted
+   * again and again, for instance by a Swing timer, stop the flush after a few rounds.
+   */
+  private static void flushEventQueue() {
+    if (SwingUtilities.isEventDispatchThread()) {
+      return;
+    }
+    EventQueue queue = Toolkit.getDefaultToolkit().getSystemEventQueue();
+    for (int i = 0; i < MAX_EVENT_QUEUE_FLUSHES; i++) {
+      runInEventThread(new Runnable() {
+        public void run() {
+        }
+      });
+      if (queue.peekEvent() == null) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * The listeners installed by UISpec4J are only registered while an assertion is checked, so those
+   * still registered were left behind. The other ones, for instance those of the look and feel, are
+   * only reported.
+   */
+  private static void removeAWTEventListeners(List<String> removedListeners, List<String> otherListeners) {
+    Toolkit toolkit = Toolkit.getDefaultToolkit();
+    for (AWTEventListener registeredListener : toolkit.getAWTEventListeners()) {
+      AWTEventListener listener = registeredListener;
+      if (listener instanceof AWTEventListenerProxy) {
+        listener = ((AWTEventListenerProxy)listener).getListener();
+      }
+      String className = listener.getClass().getName();
+      if (className.startsWith(UISPEC4J_PACKAGE)) {
+        toolkit.removeAWTEventListener(listener);
+        removedListeners.add(className);
+      }
+      else {
+        otherListeners.add(className);
+      }
+    }
+  }
+
+  private static int waitForInterceptionThreads() {
+    ThreadManager manager = ThreadManager.getInstance();
+    long end = System.currentTimeMillis() + THREAD_STOP_TIME_LIMIT;
+    while ((manager.getActiveThreadCount() > 0) && (System.currentTimeMillis() < end)) {
+      Utils.sleep(1);
+    }
+    return manager.getActiveThreadCount();
+  }
+
+  private static void runInEventThread(Runnable runnable) {
+    if (SwingUtilities.isEventDispatchThread()) {
+      runnable.run();
+      return;
+    }
+    try {
+      SwingUtilities.invokeAndWait(runnable);
+    }
+    catch (InterruptedException e) {
+      throw new RuntimeException(e);
+    }
+    catch (java.lang.reflect.InvocationTargetException e) {
+      throw new RuntimeException(e.getCause());
+    }
+  }
+
+  /**
+   * Describes what was left behind by a test.
+   */
+  public static class Report {
+    private final List<String> disposedWindowTitles;
+    private final List<String> removedAWTEventListeners;
+    private final List<String> awtEventListeners;
+    private final int runningThreadCount;
+
+    Report(List<String> disposedWindowTitles, List<String> removedAWTEventListeners,
+           List<String> awtEventListeners, int runningThreadCount) {
+      this.disposedWindowTitles = Collections.unmodifiableList(disposedWindowTitles);
+      this.removedAWTEventListeners = Collections.unmodifiableList(removedAWTEventListeners);
+      this.awtEventListeners = Collections.unmodifiableList(awtEventListeners);
+      this.runningThreadCount = runningThreadCount;
+    }
+
+    /**
+     * Returns the titles of the windows that were still displayable, and were disposed by the reset.
+     */
+    public List<String> getDisposedWindowTitles() {
+      return disposedWindowTitles;
+    }
+
+    /**
+     * Returns the class names of the AWT event listeners installed by UISpec4J that were still
+     * registered, and were removed by the reset.
+     */
+    public List<String> getRemovedAWTEventListeners() {
+      return removedAWTEventListeners;
+    }
+
+    /**
+     * Returns the class names of the AWT event listeners that are still registered after the reset -
+     * they were not installed by UISpec4J, and are left untouched.
+     */
+    public List<String> getAWTEventListeners() {
+      return awtEventListeners;
+    }
+
+    /**
+     * Returns the number of interception threads that were still running after the reset.
+     */
+    public int getRunningThreadCount() {
+      return runningThreadCount;
+    }
+
+    /**
+     * Returns true if interception threads were still running - they would keep using the
+     * resources of the JVM, and may show windows during the next tests - or if AWT event listeners
+     * of UISpec4J had to be removed.
+     */
+    public boolean hasLeaks() {
+      return (runningThreadCount > 0) || !removedAWTEventListeners.isEmpty();
+    }
+
+    public String toString() {
+      return runningThreadCount + " interception thread(s) still running, " +
+             disposedWindowTitles.size() + " window(s) disposed: " + disposedWindowTitles + ", " +
+             removedAWTEventListeners.size() + " AWT event listener(s) removed: " + removedAWTEventListeners;
+    }
+  }
+}
@@ -9,7 +9,11 @@ import java.awt.peer.*;
 
 /**
  * Mock toolkit used for intercepting displayed frames and dialogs.<p>
- * You can set it up by calling the {@link #setUp()} method.
+ * You can set it up by calling the {@link #setUp()} method.<p>
+ * When the JVM runs in headless mode, the toolkit of the platform is not used: the screen size,
+ * font metrics, images and clipboard are provided in pure Java, so that no display is needed.
+ * Frames and dialogs cannot be created in this mode, since AWT rejects them with a
+ * {@link HeadlessException}.
  *
  * @see <a href="http://www.uispec4j.org/intercepting-windows">Intercepting windows</a>
  */
@@ -37,7 +41,12 @@ public class UISpecToolkit extends ToolkitDelegate {
     if (awtToolkit == null) {
       setAwtToolkitProperty();
     }
-    buildUnderlyingToolkit(awtToolkit);
+    if (GraphicsEnvironment.isHeadless()) {
+      underlyingToolkit = new HeadlessUnderlyingToolkit();
+    }
+    else {
+      buildUnderlyingToolkit(awtToolkit);
+    }
     System.setProperty(SYSTEM_PROPERTY, UISpecToolkit.class.getName());
   }
 
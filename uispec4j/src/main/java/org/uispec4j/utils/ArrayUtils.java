@@ -1,5 +1,7 @@
 package org.uispec4j.utils;
 
+import org.uispec4j.UISpec4J;
+import org.uispec4j.assertion.Assertion;
 import org.uispec4j.assertion.testlibrairies.AssertAdapter;
 
 import java.util.*;
@@ -23,6 +25,29 @@ public class ArrayUtils {
     return buffer.toString();
   }
 
+  /**
+   * Same as {@link #toVerticalString(Object[])}, except that only the elements around
+   * <code>focusedIndex</code> are displayed, as set by {@link UISpec4J#setFailureMessageRowLimit(int)}.
+   */
+  public static String toVerticalString(Object[] array, int focusedIndex) {
+    int start = getWindowStart(array.length, focusedIndex);
+    int end = getWindowEnd(array.length, start);
+    StringBuilder buffer = new StringBuilder();
+    if (start > 0) {
+      buffer.append(omitted(start)).append(Utils.LINE_SEPARATOR);
+    }
+    for (int i = start; i < end; i++) {
+      buffer.append(array[i]);
+      if (i < array.length - 1) {
+        buffer.append(Utils.LINE_SEPARATOR);
+      }
+    }
+    if (end < array.length) {
+      buffer.append(omitted(array.length - end));
+    }
+    return buffer.toString();
+  }
+
   private static Integer[] toArray(int[] actual) {
     Integer[] result = new Integer[actual.length];
     for (int i = 0; i < actual.length; i++) {
@@ -45,6 +70,63 @@ public class ArrayUtils {
     return buffer.toString();
   }
 
+  /**
+   * Same as {@link #toString(Object[][])}, except that only the rows around <code>focusedRow</code>
+   * are displayed, as set by {@link UISpec4J#setFailureMessageRowLimit(int)}.
+   */
+  public static String toString(Object[][] objects, int focusedRow) {
+    int start = getWindowStart(objects.length, focusedRow);
+    int end = getWindowEnd(objects.length, start);
+    StringBuffer buffer = new StringBuffer();
+    buffer.append('[');
+    if (start > 0) {
+      buffer.append(omitted(start)).append('\n').append(' ');
+    }
+    for (int i = start; i < end; i++) {
+      if (i > start) {
+        buffer.append('\n');
+        buffer.append(' ');
+      }
+      appendLine(buffer, objects[i], ",\t");
+    }
+    if (end < objects.length) {
+      buffer.append('\n').append(' ').append(omitted(objects.length - end));
+    }
+    buffer.append(']');
+    return buffer.toString();
+  }
+
+  /**
+   * Returns the index of the first element that differs between the two arrays, or the length
+   * of the shortest one if it is a prefix of the other one.
+   */
+  public static int getFirstDifference(Object[] expected, Object[] actual) {
+    int length = Math.min(expected.length, actual.length);
+    for (int i = 0; i < length; i++) {
+      if (!Utils.equals(expected[i], actual[i])) {
+        return i;
+      }
+    }
+    return length;
+  }
+
+  private static int getWindowStart(int size, int focusedIndex) {
+    int limit = Math.max(1, UISpec4J.getFailureMessageRowLimit());
+    if (size <= limit) {
+      return 0;
+    }
+    int start = Math.max(0, focusedIndex - limit / 2);
+    return Math.min(start, size - limit);
+  }
+
+  private static int getWindowEnd(int size, int start) {
+    return Math.min(size, start + Math.max(1, UISpec4J.getFailureMessageRowLimit()));
+  }
+
+  private static String omitted(int count) {
+    return "... (" + count + " more)";
+  }
+
   private static void appendLine(StringBuffer buffer, Object[] objects, String separator) {
     buffer.append('[');
     for (int i = 0; i < objects.length; i++) {
@@ -108,9 +190,13 @@ public class ArrayUtils {
   }
 
   private static void fail(String message, Object[] expected, Object[] actual) {
+    if (!Assertion.isFailureMessageReported()) {
+      AssertAdapter.fail(message);
+    }
     boolean verticalDisplay = expected.length > 5 || actual.length > 5;
     if (verticalDisplay) {
-      AssertAdapter.assertEquals(message, toVerticalString(expected), toVerticalString(actual));
+      int focusedIndex = getFirstDifference(expected, actual);
+      AssertAdapter.assertEquals(message, toVerticalString(expected, focusedIndex), toVerticalString(actual, focusedIndex));
     }
     else {
       String prefix = message != null ? message + "\n" : "";
@@ -1,7 +1,9 @@
 package org.uispec4j.utils;
 
 import org.uispec4j.Key;
+import org.uispec4j.KeySequence;
 import org.uispec4j.UIComponent;
+import org.uispec4j.UISpec4J;
 
 import javax.swing.*;
 import javax.swing.text.Document;
@@ -10,6 +12,7 @@ import java.awt.*;
 import java.awt.event.KeyEvent;
 import static java.awt.event.KeyEvent.*;
 import java.awt.event.KeyListener;
+import java.util.concurrent.Callable;
 
 public class KeyUtils {
 
@@ -38,6 +41,35 @@ public class KeyUtils {
     }
   }
 
+  /**
+   * Types the given text with {@link #enterKeys(Component, KeySequence, boolean)}, in fast mode if
+   * {@link UISpec4J#isFastKeyTypingEnabled()}.
+   */
+  public static void typeText(Component component, String text) {
+    enterKeys(component, KeySequence.text(text), UISpec4J.isFastKeyTypingEnabled());
+  }
+
+  /**
+   * Presses and releases each key of the sequence, like {@link #enterKeys(Component, Key...)}, but
+   * within a single task of the AWT event dispatch thread.<p>
+   * In fast mode, no KEY_RELEASED events are sent if the component has no KeyListener - key bindings
+   * registered for key releases are then ignored.
+   */
+  public static void enterKeys(final Component component, final KeySequence sequence, final boolean fastMode) {
+    Utils.invokeAndWait(new Callable<Void>() {
+      public Void call() {
+        boolean sendReleases = !fastMode || (component.getKeyListeners().length > 0);
+        for (Key key : sequence.getKeys()) {
+          pressKey(component, key);
+          if (sendReleases) {
+            releaseKey(component, key);
+          }
+        }
+        return null;
+      }
+    });
+  }
+
   private static void dispatchEvent(int eventCode, Key key, int keyCode, Component component) {
     int modifier = key.getModifier().getCode();
     KeyEvent event = new KeyEvent(component, eventCode, 0, modifier, keyCode, key.getChar());
@@ -61,7 +93,7 @@ public class KeyUtils {
   private static void moveCaretToEndOfDocument(JTextComponent jTextComponent) {
     if (jTextComponent.isEditable()) {
       Document document = jTextComponent.getDocument();
-      jTextComponent.setCaretPosition(document.getEndPosition().getOffset() - 1);
+      jTextComponent.setCaretPosition(document.getLength());
     }
   }
 }
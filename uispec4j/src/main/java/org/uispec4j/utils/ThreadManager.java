@@ -1,133 +1,216 @@
 package org.uispec4j.utils;
 
-import java.util.ArrayList;
-import java.util.List;
-
+import org.uispec4j.UISpec4J;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs the tasks used by the interception mechanism in separate threads.<p>
+ * Platform threads are pooled and released after being idle for a while. On JDK 21 and above,
+ * virtual threads can be used instead with {@link UISpec4J#setVirtualThreadsEnabled(boolean)}.
+ * The number of tasks running at the same time is bounded by
+ * {@link UISpec4J#setMaxInterceptionThreadCount(int)}, since interception tasks wait for each other
+ * and queueing them could lead to deadlocks.
+ */
 public class ThreadManager {
+  private static final long IDLE_THREAD_KEEP_ALIVE = 60;
   private static ThreadManager manager = new ThreadManager();
-  private List<ManagedThread> threads = new ArrayList<ManagedThread>();
-  private long id = Long.MIN_VALUE + 1;
+
+  private final ThreadPoolExecutor platformExecutor;
+  private volatile ExecutorService virtualExecutor;
+  private final AtomicInteger activeCount = new AtomicInteger();
+  private final AtomicLong completedCount = new AtomicLong();
 
   public static ThreadManager getInstance() {
     return manager;
   }
 
-  private class ManagedThread extends java.lang.Thread {
-    private Runnable runnable;
-    private String name;
-    private Long id = Long.MIN_VALUE + 1;
+  private ThreadManager() {
+    platformExecutor = new ThreadPoolExecutor(0, Integer.MAX_VALUE,
+                                              IDLE_THREAD_KEEP_ALIVE, TimeUnit.SECONDS,
+                                              new SynchronousQueue<Runnable>(),
+                                              new PlatformThreadFactory());
+  }
 
-    ManagedThread() {
-      setPriority(MAX_PRIORITY);
-    }
+  public interface ThreadDelegate {
+    void interrupt();
 
-    public void run() {
-      while (true) {
-        try {
-          synchronized (this) {
-            if (runnable == null) {
-              wait();
-            }
-          }
-          if (runnable != null) {
-            setName(name);
-            runnable.run();
-          }
-        }
-        catch (Exception e) {
-        }
-        finally {
-          synchronized (id) {
-            id.notify();
-            id = Long.MIN_VALUE;
-          }
-          synchronized (this) {
-            runnable = null;
-            interrupted();   //clear interruptedStatus
-          }
-          synchronized (ThreadManager.this) {
-            threads.add(this);
-          }
-        }
-      }
+    void join() throws InterruptedException;
+
+    void join(int duration) throws InterruptedException;
+  }
+
+  /**
+   * Runs the given runnable in another thread, named after the <code>name</code> parameter while it runs.
+   * Exceptions thrown by the runnable are passed to the uncaught exception handler of the thread.
+   *
+   * @throws IllegalStateException if {@link UISpec4J#getMaxInterceptionThreadCount()} tasks are already running.
+   */
+  public ThreadDelegate addRunnable(String name, Runnable runnable) {
+    int maxCount = UISpec4J.getMaxInterceptionThreadCount();
+    if (activeCount.incrementAndGet() > maxCount) {
+      activeCount.decrementAndGet();
+      throw new IllegalStateException("Too many interception threads running (maximum is " + maxCount +
+                                      ") - see UISpec4J.setMaxInterceptionThreadCount()");
+    }
+    try {
+      Task task = new Task(name, runnable);
+      return new ThreadDelegateImpl(task, getExecutor().submit(task));
     }
+    catch (RuntimeException e) {
+      activeCount.decrementAndGet();
+      throw e;
+    }
+  }
+
+  /**
+   * Returns the number of tasks currently running.
+   */
+  public int getActiveThreadCount() {
+    return activeCount.get();
+  }
+
+  /**
+   * Returns the number of pooled platform threads waiting for a task.
+   */
+  public int getIdleThreadCount() {
+    return Math.max(0, platformExecutor.getPoolSize() - platformExecutor.getActiveCount());
+  }
 
-    public void push(Long id, String name, Runnable runnable) {
+  /**
+   * Returns the number of tasks run since the JVM was started.
+   */
+  public long getCompletedTaskCount() {
+    return completedCount.get();
+  }
+
+  /**
+   * Returns true if virtual threads are available on this JVM.
+   */
+  public static boolean isVirtualThreadSupported() {
+    return VirtualThreads.FACTORY_METHOD != null;
+  }
+
+  private ExecutorService getExecutor() {
+    if (!UISpec4J.isVirtualThreadsEnabled() || !isVirtualThreadSupported()) {
+      return platformExecutor;
+    }
+    if (virtualExecutor == null) {
       synchronized (this) {
-        this.id = id;
-        this.runnable = runnable;
-        this.name = name;
-        notify();
+        if (virtualExecutor == null) {
+          virtualExecutor = VirtualThreads.createExecutor();
+        }
       }
     }
+    return virtualExecutor;
+  }
 
-    public void waitEnd(Long id) throws InterruptedException {
-      if (id.equals(this.id)) {
-        id.wait();
-      }
+  private class Task implements Runnable {
+    private final String name;
+    private final Runnable runnable;
+    private final AtomicBoolean claimed = new AtomicBoolean();
+    private final CountDownLatch done = new CountDownLatch(1);
+
+    Task(String name, Runnable runnable) {
+      this.name = name;
+      this.runnable = runnable;
     }
 
-    public void waitEnd(Long id, int duration) throws InterruptedException {
-      if (id.equals(this.id)) {
-        id.wait(duration);
+    public void run() {
+      if (!claimed.compareAndSet(false, true)) {
+        return;
+      }
+      Thread thread = Thread.currentThread();
+      String previousName = thread.getName();
+      thread.setName(name);
+      try {
+        runnable.run();
+      }
+      catch (Throwable e) {
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+      }
+      finally {
+        thread.setName(previousName);
+        Thread.interrupted(); // pooled threads must not keep the interrupted status
+        activeCount.decrementAndGet();
+        completedCount.incrementAndGet();
+        done.countDown();
       }
     }
 
-    public void interrupt(Long id) {
-      if (id.equals(this.id)) {
-        super.interrupt();
+    /**
+     * Called when the task is cancelled, since it may never be run.
+     */
+    void release() {
+      if (claimed.compareAndSet(false, true)) {
+        activeCount.decrementAndGet();
+        done.countDown();
       }
     }
   }
 
-  public interface ThreadDelegate {
-    void interrupt();
+  private static class ThreadDelegateImpl implements ThreadDelegate {
+    private final Task task;
+    private final Future<?> future;
 
-    void join() throws InterruptedException;
+    ThreadDelegateImpl(Task task, Future<?> future) {
+      this.task = task;
+      this.future = future;
+    }
 
-    void join(int duration) throws InterruptedException;
-  }
+    public void interrupt() {
+      future.cancel(true);
+      task.release();
+    }
 
-  public ThreadDelegate addRunnable(String name, Runnable runnable) {
-    synchronized (this) {
-      id++;
-      if (threads.isEmpty()) {
-        ManagedThread thread = new ManagedThread();
-        thread.start();
-        return new ThreadDelegateImpl(id, thread, name, runnable);
-      }
-      else {
-        ManagedThread thread = threads.remove(threads.size() - 1);
-        return new ThreadDelegateImpl(id, thread, name, runnable);
-      }
+    /**
+     * Waits for the end of the task - a cancelled task may still be running, so the future cannot be
+     * used for this.
+     */
+    public void join() throws InterruptedException {
+      task.done.await();
+    }
+
+    public void join(int duration) throws InterruptedException {
+      task.done.await(duration, TimeUnit.MILLISECONDS);
     }
   }
 
-  private static class ThreadDelegateImpl implements ThreadDelegate {
-    private final Long id;
-    private ManagedThread thread;
+  private static class PlatformThreadFactory implements ThreadFactory {
+    private final AtomicInteger threadCount = new AtomicInteger();
 
-    public ThreadDelegateImpl(Long id, ManagedThread thread, String name, Runnable runnable) {
-      this.id = id;
-      this.thread = thread;
-      thread.push(this.id, name, runnable);
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "UISpec4J-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      thread.setPriority(Thread.MAX_PRIORITY);
+      return thread;
     }
+  }
 
-    public void interrupt() {
-      synchronized (id) {
-        thread.interrupt(id);
-      }
-    }
+  /**
+   * Virtual threads are accessed by reflection, so that the library still runs on JDK 17.
+   */
+  private static class VirtualThreads {
+    private static final java.lang.reflect.Method FACTORY_METHOD = findFactoryMethod();
 
-    public void join() throws InterruptedException {
-      synchronized (id) {
-        thread.waitEnd(id);
+    private static java.lang.reflect.Method findFactoryMethod() {
+      try {
+        return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      }
+      catch (NoSuchMethodException e) {
+        return null;
       }
     }
 
-    public void join(int duration) throws InterruptedException {
-      synchronized (id) {
-        thread.waitEnd(id, duration);
+    static ExecutorService createExecutor() {
+      try {
+        return (ExecutorService)FACTORY_METHOD.invoke(null);
+      }
+      catch (Exception e) {
+        throw new RuntimeException("Unable to create virtual threads", e);
       }
     }
   }
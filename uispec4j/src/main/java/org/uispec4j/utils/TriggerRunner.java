@@ -26,7 +26,7 @@ public class TriggerRunner {
     else {
       final ExceptionContainer container = new ExceptionContainer(new RuntimeException());
       try {
-        SwingUtilities.invokeAndWait(new Runnable() {
+        SwingUtilities.invokeAndWait(UISpecDisplay.instance().bind(new Runnable() {
           public void run() {
             try {
               runInCurrentThread(trigger);
@@ -35,7 +35,7 @@ public class TriggerRunner {
               container.set(e);
             }
           }
-        });
+        }));
       }
       catch (InterruptedException e) {
         throw new RuntimeException(e.getCause());
@@ -49,13 +49,14 @@ public class TriggerRunner {
 
   public static void runInUISpecThread(final Trigger trigger) {
     final Exception exception = new RuntimeException();
-    UISpecDisplay.instance().runInNewThread(new Runnable() {
+    final UISpecDisplay display = UISpecDisplay.instance();
+    display.runInNewThread(new Runnable() {
       public void run() {
         try {
           trigger.run();
         }
         catch (Throwable e) {
-          UISpecDisplay.instance().store(exception.initCause(e));
+          display.store(exception.initCause(e));
         }
       }
     });
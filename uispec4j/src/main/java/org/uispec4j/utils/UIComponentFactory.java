@@ -9,14 +9,21 @@ import org.uispec4j.Window;
   
 import java.awt.Container;
 import java.awt.Component;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Factory which creates UIComponent wrappers for Swing components.
+ * Factory which creates UIComponent wrappers for Swing components.<p>
+ * The wrapper constructor to be used for each Swing class is resolved once, and then kept in a
+ * concurrent cache which is replaced whenever a new UIComponent class is registered. Creating
+ * wrappers does not take any lock once the built-in classes are registered.
  */
 public final class UIComponentFactory {
 
@@ -42,37 +49,53 @@ public final class UIComponentFactory {
     Slider.class
   };
 
+  private static final MethodType FACTORY_TYPE = MethodType.methodType(UIComponent.class, Component.class);
+
+  private static final Factory NO_FACTORY = new Factory() {
+    public UIComponent create(Component component) {
+      return null;
+    }
+  };
+
   private static volatile Map<Class<? extends Container>, Class<? extends UIComponent>> SWING_TO_UISPEC_MAP = new HashMap();
+  private static volatile Map<Class, Factory> FACTORIES = new ConcurrentHashMap<Class, Factory>();
   private static Set<Class<? extends UIComponent>> COMPONENT_CLASSES = new HashSet();
-  private static boolean initialized;
+  private static volatile boolean initialized;
 
   /* Warning : reflection call in the extension mechanism */
   public static void addUIComponentClass(Class uiComponentClass) {
     register(uiComponentClass);
   }
 
+  /**
+   * The readers of {@link #SWING_TO_UISPEC_MAP} and {@link #FACTORIES} do not synchronize, so these
+   * maps are replaced rather than modified.
+   */
   public synchronized static <T extends UIComponent> void register(Class<T>... uiSpecClasses) {
-    for (Class<T> uiSpecClass : uiSpecClasses) {
-      if (readyToAdd(uiSpecClass)) {
-        addUIComponentClass(uiSpecClass, SWING_TO_UISPEC_MAP);
-        COMPONENT_CLASSES.add(uiSpecClass);
+    Map<Class<? extends Container>, Class<? extends UIComponent>> map = new HashMap(SWING_TO_UISPEC_MAP);
+    try {
+      for (Class<T> uiSpecClass : uiSpecClasses) {
+        if (readyToAdd(uiSpecClass)) {
+          addUIComponentClass(uiSpecClass, map);
+          COMPONENT_CLASSES.add(uiSpecClass);
+        }
       }
     }
+    finally {
+      SWING_TO_UISPEC_MAP = map;
+      FACTORIES = new ConcurrentHashMap<Class, Factory>();
+    }
   }
 
   public static UIComponent createUIComponent(Component component) {
-    Class swingClass = getSwingClass(component.getClass());
-    if (swingClass == null) {
-      return null;
-    }
-    Class uiSpecClass = getComponentMap().get(swingClass);
-    try {
-      Constructor constructor = getConstructor(uiSpecClass, swingClass);
-      return (UIComponent)constructor.newInstance(new Object[]{component});
-    }
-    catch (Exception e) {
-      throw new RuntimeException(e);
-    }
+    Class componentClass = component.getClass();
+    Map<Class, Factory> factories = getFactories();
+    Factory factory = factories.get(componentClass);
+    if (factory == null) {
+      factory = createFactory(componentClass);
+      factories.putIfAbsent(componentClass, factory);
+    }
+    return factory.create(component);
   }
 
   public static UIComponent[] createUIComponents(Component[] swingComponents) {
@@ -83,6 +106,48 @@ public final class UIComponentFactory {
     return components;
   }
 
+  private static Factory createFactory(Class componentClass) {
+    Map<Class<? extends Container>, Class<? extends UIComponent>> map = SWING_TO_UISPEC_MAP;
+    Class swingClass = getSwingClass(componentClass, map);
+    if (swingClass == null) {
+      return NO_FACTORY;
+    }
+    Class uiSpecClass = map.get(swingClass);
+    final Constructor constructor;
+    try {
+      constructor = getConstructor(uiSpecClass, swingClass);
+    }
+    catch (NoSuchMethodException e) {
+      throw new RuntimeException(e);
+    }
+    try {
+      UIComponentFactory.class.getModule().addReads(uiSpecClass.getModule());
+      final MethodHandle handle = MethodHandles.lookup().unreflectConstructor(constructor).asType(FACTORY_TYPE);
+      return new Factory() {
+        public UIComponent create(Component component) {
+          try {
+            return (UIComponent)handle.invokeExact(component);
+          }
+          catch (Throwable e) {
+            throw new RuntimeException(e);
+          }
+        }
+      };
+    }
+    catch (IllegalAccessException e) {
+      return new Factory() {
+        public UIComponent create(Component component) {
+          try {
+            return (UIComponent)constructor.newInstance(component);
+          }
+          catch (Exception e) {
+            throw new RuntimeException(e);
+          }
+        }
+      };
+    }
+  }
+
   private static Constructor getConstructor(Class uiSpecClass, Class swingClass) throws NoSuchMethodException {
     try {
       return uiSpecClass.getConstructor(new Class[]{swingClass});
@@ -109,14 +174,14 @@ public final class UIComponentFactory {
     }
   }
 
-  private static Class getSwingClass(Class swingClass) {
+  private static Class getSwingClass(Class swingClass, Map map) {
     if (swingClass == null) {
       return null;
     }
-    if (getComponentMap().containsKey(swingClass)) {
+    if (map.containsKey(swingClass)) {
       return swingClass;
     }
-    return getSwingClass(swingClass.getSuperclass());
+    return getSwingClass(swingClass.getSuperclass(), map);
   }
 
   private static boolean readyToAdd(Class uiComponentClass) {
@@ -156,12 +221,19 @@ public final class UIComponentFactory {
     }
   }
 
-  private synchronized static Map<Class<? extends Container>, Class<? extends UIComponent>> getComponentMap() {
+  private static Map<Class, Factory> getFactories() {
     if (!initialized) {
-      register(BUILT_IN_COMPONENT_CLASSES);
-      initialized = true;
+      synchronized (UIComponentFactory.class) {
+        if (!initialized) {
+          register(BUILT_IN_COMPONENT_CLASSES);
+          initialized = true;
+        }
+      }
     }
-    return SWING_TO_UISPEC_MAP;
+    return FACTORIES;
   }
 
+  private interface Factory {
+    UIComponent create(Component component);
+  }
 }
@@ -4,12 +4,17 @@ import org.uispec4j.assertion.testlibrairies.AssertAdapter;
 import org.uispec4j.xml.XmlEscape;
 
 import javax.swing.*;
+import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.regex.Pattern;
 
 public class Utils {
   public static final String LINE_SEPARATOR = System.getProperty("line.separator");
+  private static final Pattern HTML_TAG = Pattern.compile("<[^<>]+>");
+  private static final Pattern SPACES = Pattern.compile("[ ]+");
 
   /**
    * Compare two objects in the case where both can be null
@@ -103,6 +108,50 @@ public class Utils {
     }
   }
 
+  /**
+   * Computes a value within the AWT event dispatch thread, so that Swing models can be read
+   * consistently in a single hop. Exceptions thrown by the callable are rethrown as is.
+   */
+  public static <T> T invokeAndWait(final Callable<T> callable) {
+    if (SwingUtilities.isEventDispatchThread()) {
+      return call(callable);
+    }
+    final Object[] result = new Object[1];
+    try {
+      SwingUtilities.invokeAndWait(new Runnable() {
+        public void run() {
+          result[0] = call(callable);
+        }
+      });
+    }
+    catch (InterruptedException e) {
+      throw new RuntimeException(e);
+    }
+    catch (InvocationTargetException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException)cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error)cause;
+      }
+      throw new RuntimeException(cause);
+    }
+    return (T)result[0];
+  }
+
+  private static <T> T call(Callable<T> callable) {
+    try {
+      return callable.call();
+    }
+    catch (RuntimeException e) {
+      throw e;
+    }
+    catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   public static StackTraceElement[] getStack() {
     Exception dummyException = new Exception();
     StackTraceElement[] trace = dummyException.getStackTrace();
@@ -113,13 +162,11 @@ public class Utils {
   }
 
   public static String cleanupHtml(String html) {
-    String actual = html
-      .replaceAll("<[^<>]+>", "")
-      .replaceAll("\n", "")
-      .replaceAll("&nbsp;", " ")
-      .replaceAll(LINE_SEPARATOR, "")
-      .replaceAll("[ ]+", " ")
-      .trim();
+    String text = HTML_TAG.matcher(html).replaceAll("")
+      .replace("\n", "")
+      .replace("&nbsp;", " ")
+      .replace(LINE_SEPARATOR, "");
+    String actual = SPACES.matcher(text).replaceAll(" ").trim();
     String label = XmlEscape.convertXmlEntitiesToText(actual);
     return label;
   }
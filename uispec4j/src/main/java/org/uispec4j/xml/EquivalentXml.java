@@ -0,0 +1,48 @@
+package org.uispec4j.xml;
+
+import org.uispec4j.assertion.testlibrairies.AssertAdapter;
+
+import java.io.StringReader;
+
+/**
+ * Expected XML document, parsed once and then compared to documents sent to a {@link Node} by
+ * {@link XmlWriter#startTag(Node, String)} - without writing and parsing them again.<p>
+ * Documents are compared as with {@link XmlAssert#assertEquivalent(String, String)}: the order
+ * of the attributes and of the child elements is not significant.
+ */
+public class EquivalentXml {
+  private final String xml;
+  private final XmlAssert.ComparableNode root;
+
+  public EquivalentXml(String xml) {
+    this.xml = xml;
+    this.root = XmlAssert.createXmlEquivalentComparableNode(new StringReader(xml));
+  }
+
+  /**
+   * Returns a new node to be filled with {@link XmlWriter#startTag(Node, String)} and then given to
+   * {@link #matches(Node)}.
+   */
+  public Node createDocument() {
+    return new XmlAssert.EquivalentComparator();
+  }
+
+  public boolean matches(Node document) {
+    document.complete();
+    return root.equals(document);
+  }
+
+  /**
+   * Fails with the same message as {@link XmlAssert#assertEquivalent(String, String)} if the given
+   * document is not equivalent to the expected one.
+   */
+  public void assertEquivalent(String actualXml) {
+    if (!root.equals(XmlAssert.createXmlEquivalentComparableNode(new StringReader(actualXml)))) {
+      AssertAdapter.assertEquals(XmlAssert.prepareXmlString(xml), XmlAssert.prepareXmlString(actualXml));
+    }
+  }
+
+  public String toString() {
+    return xml;
+  }
+}
@@ -29,6 +29,10 @@ class SaxParser extends DefaultHandler {
     charBuffer = new StringBuffer();
   }
 
+  /**
+   * Parses a document into the given root node. A parser can be used for several documents in turn,
+   * but not concurrently.
+   */
   public void parse(Node rootNode, Reader reader) throws RuntimeException {
     nodesStack.clear();
     nodesStack.push(rootNode);
@@ -37,8 +41,13 @@ class SaxParser extends DefaultHandler {
       rootNode.complete();
     }
     catch (Exception e) {
+      parser.reset();
       throw new RuntimeException(e);
     }
+    finally {
+      nodesStack.clear();
+      charBuffer.setLength(0);
+    }
   }
 
   public void startElement(String uri, String local, String qName, Attributes atts) {
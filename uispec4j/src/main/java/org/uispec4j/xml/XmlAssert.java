@@ -9,6 +9,8 @@ import java.util.*;
 
 public class XmlAssert {
 
+  private static final ThreadLocal<SaxParser> PARSERS = ThreadLocal.withInitial(SaxParser::new);
+
   private XmlAssert() {
     // Static class
   }
@@ -21,7 +23,7 @@ public class XmlAssert {
     }
   }
 
-  private static String prepareXmlString(String input) {
+  static String prepareXmlString(String input) {
     return input.replaceAll("[ ]+<", "<").replaceAll("\n", "").replaceAll("><", ">\n<").replace('\'', '"');
   }
 
@@ -35,40 +37,42 @@ public class XmlAssert {
 
   private static ComparableNode createXmlEqualComparableNode(Reader reader) {
     EqualComparator comparableNode = new EqualComparator();
-    new SaxParser().parse(comparableNode, reader);
+    PARSERS.get().parse(comparableNode, reader);
     return comparableNode;
   }
 
-  private static ComparableNode createXmlEquivalentComparableNode(Reader reader) {
+  static ComparableNode createXmlEquivalentComparableNode(Reader reader) {
     EquivalentComparator comparableNode = new EquivalentComparator();
-    new SaxParser().parse(comparableNode, reader);
+    PARSERS.get().parse(comparableNode, reader);
     return comparableNode;
   }
 
+  /**
+   * Parsed element. The hash code covers the whole subtree, so it is computed once by {@link #complete()}
+   * when the element has been entirely parsed, and used for quickly telling different subtrees apart.
+   */
   static abstract class ComparableNode implements Node {
-    String tag = "";
-    Map attributes;
-    Map childrenOccurences = new HashMap();
-    List children = new ArrayList();
+    final String tag;
+    final Map<String, String> attributes;
+    final List<ComparableNode> children = new ArrayList<ComparableNode>();
     String text = "";
-
-    protected abstract boolean comparator(Object o);
+    private int hash;
 
     public ComparableNode(String tag, Attributes attributes) {
       this.tag = tag;
       this.attributes = map(attributes);
     }
 
-    public String toString() {
-      if ("root".equals(tag)) {
-        return childrenString();
-      }
-      else if ((!childrenOccurences.isEmpty()) || (text.length() > 0)) {
-        return "<" + tag + attributeString() + ">" + childrenString() + text + "</" + tag + ">";
-      }
-      else {
-        return "<" + tag + attributeString() + "/>";
-      }
+    protected abstract ComparableNode createChild(String tag, Attributes attributes);
+
+    protected abstract int getChildrenHash();
+
+    protected abstract boolean childrenEquals(ComparableNode node);
+
+    public Node getSubNode(String childName, Attributes xmlAttrs) throws RuntimeException {
+      ComparableNode child = createChild(childName, xmlAttrs);
+      children.add(child);
+      return child;
     }
 
     public void setValue(String value) {
@@ -76,81 +80,78 @@ public class XmlAssert {
     }
 
     public void complete() {
+      int result = tag.hashCode();
+      result = 29 * result + attributes.hashCode();
+      result = 29 * result + text.hashCode();
+      hash = 29 * result + getChildrenHash();
     }
 
     public boolean equals(Object o) {
       if (this == o) {
         return true;
       }
-      if (!(o instanceof ComparableNode)) {
-        return false;
-      }
-      final ComparableNode comparableXml = (ComparableNode)o;
-
-      if (attributes != null ? !attributes.equals(comparableXml.attributes) : comparableXml.attributes != null) {
-        return false;
-      }
-      if (tag != null ? !tag.equals(comparableXml.tag) : comparableXml.tag != null) {
-        return false;
-      }
-      if (text != null ? !text.equals(comparableXml.text) : comparableXml.text != null) {
+      if ((o == null) || (o.getClass() != getClass())) {
         return false;
       }
-
-      return comparator(o);
+      ComparableNode node = (ComparableNode)o;
+      return (hash == node.hash)
+             && tag.equals(node.tag)
+             && text.equals(node.text)
+             && attributes.equals(node.attributes)
+             && childrenEquals(node);
     }
 
     public int hashCode() {
-      int result = tag.hashCode();
-      result = 29 * result + attributes.hashCode();
-      return result;
+      return hash;
     }
 
-    private Map map(Attributes xmlAttrs) {
-      Map map = new HashMap();
-      if (xmlAttrs == null) {
-        return map;
+    public String toString() {
+      if ("root".equals(tag)) {
+        return childrenString();
       }
-      for (int i = 0; i < xmlAttrs.getLength(); i++) {
-        String localName = xmlAttrs.getLocalName(i);
-        map.put(localName, xmlAttrs.getValue(i));
+      else if ((!children.isEmpty()) || (text.length() > 0)) {
+        return "<" + tag + attributeString() + ">" + childrenString() + text + "</" + tag + ">";
+      }
+      else {
+        return "<" + tag + attributeString() + "/>";
       }
-      return map;
     }
 
-    void addChild(Object child) {
-      int val = 1;
-      if (childrenOccurences.containsKey(child)) {
-        Object occurence = childrenOccurences.get(child);
-        if (occurence != null) {
-          val = Integer.valueOf((String)occurence).intValue() + 1;
-        }
+    private static Map<String, String> map(Attributes xmlAttrs) {
+      if ((xmlAttrs == null) || (xmlAttrs.getLength() == 0)) {
+        return Collections.emptyMap();
       }
-      childrenOccurences.put(child, Integer.toString(val));
-      children.add(child);
+      Map<String, String> map = new HashMap<String, String>();
+      for (int i = 0; i < xmlAttrs.getLength(); i++) {
+        map.put(xmlAttrs.getLocalName(i), xmlAttrs.getValue(i));
+      }
+      return map;
     }
 
     private String childrenString() {
-      StringBuffer sb = new StringBuffer();
-      for (Iterator iterator = childrenOccurences.keySet().iterator(); iterator.hasNext();) {
-        ComparableNode node = (ComparableNode)iterator.next();
-        sb.append(node);
-        sb.append("\n");
+      StringBuilder builder = new StringBuilder();
+      for (ComparableNode child : children) {
+        builder.append(child).append("\n");
       }
-      return sb.toString();
+      return builder.toString();
     }
 
     private String attributeString() {
-      StringBuffer sb = new StringBuffer();
-      for (Iterator iterator = attributes.entrySet().iterator(); iterator.hasNext();) {
-        Map.Entry e = (Map.Entry)iterator.next();
-        sb.append(" " + e.getKey() + "=\"" + e.getValue() + "\"");
+      StringBuilder builder = new StringBuilder();
+      for (Map.Entry<String, String> entry : attributes.entrySet()) {
+        builder.append(' ').append(entry.getKey()).append("=\"").append(entry.getValue()).append('"');
       }
-      return sb.toString();
+      return builder.toString();
     }
   }
 
+  /**
+   * Compares the children regardless of their order. Children are first compared in order, since
+   * equivalent documents are often identical, and counted only if this first comparison fails.
+   */
   static class EquivalentComparator extends ComparableNode {
+    private Map<ComparableNode, Integer> childrenOccurrences;
+
     public EquivalentComparator(String tag, Attributes attributes) {
       super(tag, attributes);
     }
@@ -159,18 +160,34 @@ public class XmlAssert {
       super("root", null);
     }
 
-    public Node getSubNode(String childName, Attributes xmlAttrs) throws RuntimeException {
-      ComparableNode o = new EquivalentComparator(childName, xmlAttrs);
-      addChild(o);
-      return o;
+    protected ComparableNode createChild(String tag, Attributes attributes) {
+      return new EquivalentComparator(tag, attributes);
     }
 
-    protected boolean comparator(Object o) {
-      final ComparableNode comparableXml = (ComparableNode)o;
-      if (childrenOccurences != null ? !childrenOccurences.equals(comparableXml.childrenOccurences) : comparableXml.childrenOccurences != null) {
+    protected int getChildrenHash() {
+      int result = 0;
+      for (ComparableNode child : children) {
+        result += child.hashCode();
+      }
+      return result;
+    }
+
+    protected boolean childrenEquals(ComparableNode node) {
+      if (children.size() != node.children.size()) {
         return false;
       }
-      return true;
+      return children.equals(node.children)
+             || getChildrenOccurrences().equals(((EquivalentComparator)node).getChildrenOccurrences());
+    }
+
+    private Map<ComparableNode, Integer> getChildrenOccurrences() {
+      if (childrenOccurrences == null) {
+        childrenOccurrences = new HashMap<ComparableNode, Integer>();
+        for (ComparableNode child : children) {
+          childrenOccurrences.merge(child, 1, Integer::sum);
+        }
+      }
+      return childrenOccurrences;
     }
   }
 
@@ -183,18 +200,20 @@ public class XmlAssert {
       super("root", null);
     }
 
-    public Node getSubNode(String childName, Attributes xmlAttrs) throws RuntimeException {
-      ComparableNode o = new EqualComparator(childName, xmlAttrs);
-      addChild(o);
-      return o;
+    protected ComparableNode createChild(String tag, Attributes attributes) {
+      return new EqualComparator(tag, attributes);
     }
 
-    protected boolean comparator(Object o) {
-      final ComparableNode comparableXml = (ComparableNode)o;
-      if (children != null ? !children.equals(comparableXml.children) : comparableXml.children != null) {
-        return false;
+    protected int getChildrenHash() {
+      int result = 1;
+      for (ComparableNode child : children) {
+        result = 31 * result + child.hashCode();
       }
-      return true;
+      return result;
+    }
+
+    protected boolean childrenEquals(ComparableNode node) {
+      return children.equals(node.children);
     }
   }
 }
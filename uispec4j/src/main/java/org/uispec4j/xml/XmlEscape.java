@@ -15,38 +15,38 @@ public class XmlEscape {
 
   public static String convertToXmlWithEntities(String s) {
     if (s.indexOf(AMP_CHARACTER) != -1) {
-      s = s.replaceAll("&", AMP_ENTITY);
+      s = s.replace("&", AMP_ENTITY);
     }
     if (s.indexOf(LT_CHARACTER) != -1) {
-      s = s.replaceAll("<", LT_ENTITY);
+      s = s.replace("<", LT_ENTITY);
     }
     if (s.indexOf(GT_CHARACTER) != -1) {
-      s = s.replaceAll(">", GT_ENTITY);
+      s = s.replace(">", GT_ENTITY);
     }
     if (s.indexOf(QUOT_CHARACTER) != -1) {
-      s = s.replaceAll("\"", QUOT_ENTITY);
+      s = s.replace("\"", QUOT_ENTITY);
     }
     if (s.indexOf(APOS_CHARACTER) != -1) {
-      s = s.replaceAll("'", APOS_ENTITY);
+      s = s.replace("'", APOS_ENTITY);
     }
     return s;
   }
 
   public static String convertXmlEntitiesToText(String s) {
     if (s.indexOf(AMP_ENTITY) != -1) {
-      s = s.replaceAll(AMP_ENTITY, "&");
+      s = s.replace(AMP_ENTITY, "&");
     }
     if (s.indexOf(LT_ENTITY) != -1) {
-      s = s.replaceAll(LT_ENTITY, "<");
+      s = s.replace(LT_ENTITY, "<");
     }
     if (s.indexOf(GT_ENTITY) != -1) {
-      s = s.replaceAll(GT_ENTITY, ">");
+      s = s.replace(GT_ENTITY, ">");
     }
     if (s.indexOf(QUOT_ENTITY) != -1) {
-      s = s.replaceAll(QUOT_ENTITY, "\"");
+      s = s.replace(QUOT_ENTITY, "\"");
     }
     if (s.indexOf(APOS_ENTITY) != -1) {
-      s = s.replaceAll(APOS_ENTITY, "'");
+      s = s.replace(APOS_ENTITY, "'");
     }
     return s;
   }
@@ -1,6 +1,7 @@
 package org.uispec4j.xml;
 
 import org.uispec4j.utils.Utils;
+import org.xml.sax.helpers.AttributesImpl;
 
 import java.io.IOException;
 import java.io.Writer;
@@ -18,6 +19,16 @@ public class XmlWriter {
     }
   }
 
+  /**
+   * Starts a document that is sent to the given node instead of being written as text. The node
+   * receives the same calls as if the document had been written and then parsed, except that the
+   * values are not escaped, and {@link Node#complete()} is called on each element when it ends -
+   * but not on the given node itself.
+   */
+  public static Tag startTag(Node node, String rootTag) {
+    return new NodeTag(node, NULL, rootTag);
+  }
+
   public static class Tag {
     private String tagValue;
     private Writer writer;
@@ -109,6 +120,80 @@ public class XmlWriter {
     }
   }
 
+  private static class NodeTag extends Tag {
+    private final Node parentNode;
+    private final String tagName;
+    private final AttributesImpl attributes = new AttributesImpl();
+    private final StringBuilder text = new StringBuilder();
+    private Node node;
+
+    private NodeTag(Node parentNode, Tag parent, String tagName) {
+      super(null, parent, tagName);
+      this.parentNode = parentNode;
+      this.tagName = tagName;
+    }
+
+    public Tag start(String tagName) {
+      text.setLength(0);
+      return new NodeTag(getNode(), this, tagName);
+    }
+
+    public Tag addAttribute(String attrName, String attrValue) {
+      if (attrValue == null) {
+        return this;
+      }
+      if (node != null) {
+        throw new RuntimeException("Bad use of 'addAttribute' method after tag closure");
+      }
+      attributes.addAttribute("", attrName, attrName, "CDATA", normalizeAttributeValue(attrValue));
+      return this;
+    }
+
+    public Tag addValue(String value) {
+      getNode();
+      text.append(value);
+      return this;
+    }
+
+    public Tag end() {
+      Node node = getNode();
+      node.setValue(text.toString());
+      node.complete();
+      return ((Tag)this).parent;
+    }
+
+    /**
+     * Replaces the line breaks and tabs with spaces, as done by the XML parser when the attribute
+     * is written and then read again. A "\r\n" sequence becomes a single space, since the parser
+     * first converts it to "\n".
+     */
+    private static String normalizeAttributeValue(String value) {
+      if ((value.indexOf('\n') < 0) && (value.indexOf('\r') < 0) && (value.indexOf('\t') < 0)) {
+        return value;
+      }
+      StringBuilder builder = new StringBuilder(value.length());
+      for (int i = 0; i < value.length(); i++) {
+        char c = value.charAt(i);
+        if ((c == '\r') && (i + 1 < value.length()) && (value.charAt(i + 1) == '\n')) {
+          continue;
+        }
+        builder.append(((c == '\n') || (c == '\r') || (c == '\t')) ? ' ' : c);
+      }
+      return builder.toString();
+    }
+
+    /**
+     * The child node is created once all the attributes are known, i.e. when the content of
+     * the element starts.
+     */
+    private Node getNode() {
+      if (node == null) {
+        node = parentNode.getSubNode(tagName, attributes);
+      }
+      return node;
+    }
+  }
+
   private static Tag NULL = new Tag(null, null, "") {
     public Tag addAttribute(String attrName, String attrValue) {
       return this;
@@ -244,6 +244,18 @@ public class ComboBoxTest extends UIComponentTestCase {
     }
   }
 
+  @Test
+  public void testAmbiguityInSelectionListsTheMatchingItems() {
+    init(new JComboBox<>(new String[]{"one", "two", "three"}));
+    try {
+      comboBox.select("t");
+      throw new AssertionFailureNotDetectedError();
+    }
+    catch (ItemAmbiguityException e) {
+      Assertions.assertEquals("2 items are matching the same pattern 't': [two,three]", e.getMessage());
+    }
+  }
+
   @Test
   public void testSelectingAnUnknownValueThrowsAnException() {
     try {
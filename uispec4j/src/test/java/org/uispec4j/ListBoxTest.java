@@ -164,6 +164,32 @@ public class ListBoxTest extends UIComponentTestCase {
     }
   }
 
+  @Test
+  public void testAmbiguityInSelectionListsTheMatchingItems() throws Exception {
+    init(new JList(new String[]{"Other", "Item 1", "Item 2"}));
+    try {
+      listBox.select("Item");
+      throw new AssertionFailureNotDetectedError();
+    }
+    catch (ItemAmbiguityException e) {
+      Assertions.assertEquals("2 items are matching the same pattern 'Item': [Item 1,Item 2]", e.getMessage());
+    }
+  }
+
+  @Test
+  public void testSelectionRendersEachItemOnlyOnce() throws Exception {
+    final int[] count = {0};
+    listBox.setCellValueConverter(new ListBoxCellValueConverter() {
+      public String getValue(int index, Component renderedComponent, Object modelObject) {
+        count[0]++;
+        return modelObject.toString();
+      }
+    });
+    listBox.select("Third", "Second");
+    assertTrue(listBox.selectionEquals("Second Item", "Third Item"));
+    Assertions.assertEquals(3 + 2, count[0]);
+  }
+
   @Test
   public void testSelectingAnUnknownValueThrowsAnException() throws Exception {
     try {
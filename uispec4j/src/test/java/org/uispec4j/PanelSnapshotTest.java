@@ -0,0 +1,227 @@
+package org.uispec4j;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.uispec4j.utils.ArrayUtils;
+import org.uispec4j.utils.Chrono;
+import org.uispec4j.utils.UnitTestCase;
+
+import javax.swing.*;
+import javax.swing.tree.DefaultMutableTreeNode;
+import java.awt.*;
+import java.util.List;
+
+public class PanelSnapshotTest extends UnitTestCase {
+  private JPanel jPanel;
+  private Panel panel;
+
+  @BeforeEach
+  final protected void setUp() throws Exception {
+    jPanel = new JPanel();
+    jPanel.setName("main");
+    panel = new Panel(jPanel);
+  }
+
+  @Test
+  public void testCapturesNamesTextsAndFlags() throws Exception {
+    JButton button = new JButton("OK");
+    button.setName("okButton");
+    button.setEnabled(false);
+    jPanel.add(button);
+    JPanel subPanel = new JPanel();
+    JTextField textField = new JTextField("some text");
+    textField.setName("field");
+    textField.setVisible(false);
+    subPanel.add(textField);
+    jPanel.add(subPanel);
+
+    ComponentSnapshot snapshot = panel.snapshot();
+    Assertions.assertEquals("main", snapshot.getName());
+    Assertions.assertEquals(2, snapshot.getChildren().size());
+
+    ComponentSnapshot buttonSnapshot = snapshot.findByName("okButton");
+    Assertions.assertSame(JButton.class, buttonSnapshot.getSwingClass());
+    Assertions.assertEquals("OK", buttonSnapshot.getText());
+    Assertions.assertFalse(buttonSnapshot.isEnabled());
+    Assertions.assertTrue(buttonSnapshot.isVisible());
+
+    ComponentSnapshot fieldSnapshot = snapshot.findByName("field");
+    Assertions.assertEquals("some text", fieldSnapshot.getText());
+    Assertions.assertTrue(fieldSnapshot.isEnabled());
+    Assertions.assertFalse(fieldSnapshot.isVisible());
+
+    Assertions.assertNull(snapshot.findByName("unknown"));
+  }
+
+  @Test
+  public void testSnapshotIsNotAffectedByLaterChanges() throws Exception {
+    JLabel label = new JLabel("before");
+    label.setName("label");
+    jPanel.add(label);
+    JTable table = new JTable(new Object[][]{{"a", "b"}}, new Object[]{"x", "y"});
+    table.setName("table");
+    jPanel.add(table);
+
+    ComponentSnapshot snapshot = panel.snapshot();
+    label.setText("after");
+    table.setValueAt("changed", 0, 0);
+    jPanel.add(new JButton("new"));
+    snapshot.findByName("table").getTableValues()[0][1] = "modified";
+
+    Assertions.assertEquals("before", snapshot.findByName("label").getText());
+    ArrayUtils.assertEquals(new Object[][]{{"a", "b"}}, snapshot.findByName("table").getTableValues());
+    Assertions.assertEquals(2, snapshot.getChildren().size());
+  }
+
+  @Test
+  public void testCapturesTableValuesAndSelectionInViewOrder() throws Exception {
+    JTable table = new JTable(new Object[][]{{"a", 1}, {"b", 2}, {"c", 3}}, new Object[]{"letter", "number"});
+    table.moveColumn(1, 0);
+    table.setRowSelectionInterval(1, 2);
+    jPanel.add(table);
+
+    ComponentSnapshot tableSnapshot = panel.snapshot().findAll(JTable.class).get(0);
+    ArrayUtils.assertEquals(new String[]{"number", "letter"}, tableSnapshot.getColumnNames());
+    ArrayUtils.assertEquals(new Object[][]{{"1", "a"}, {"2", "b"}, {"3", "c"}}, tableSnapshot.getTableValues());
+    ArrayUtils.assertEquals(new int[]{1, 2}, tableSnapshot.getSelectedIndices());
+    Assertions.assertNull(tableSnapshot.getListValues());
+  }
+
+  @Test
+  public void testCapturesListAndComboBoxContents() throws Exception {
+    JList list = new JList(new String[]{"one", "two", "three"});
+    list.setSelectedIndices(new int[]{0, 2});
+    jPanel.add(list);
+    JComboBox comboBox = new JComboBox(new String[]{"red", "blue"});
+    comboBox.setSelectedIndex(1);
+    jPanel.add(comboBox);
+
+    ComponentSnapshot snapshot = panel.snapshot();
+    ComponentSnapshot listSnapshot = snapshot.findAll(JList.class).get(0);
+    ArrayUtils.assertEquals(new String[]{"one", "two", "three"}, listSnapshot.getListValues());
+    ArrayUtils.assertEquals(new int[]{0, 2}, listSnapshot.getSelectedIndices());
+
+    ComponentSnapshot comboSnapshot = snapshot.findAll(JComboBox.class).get(0);
+    ArrayUtils.assertEquals(new String[]{"red", "blue"}, comboSnapshot.getListValues());
+    ArrayUtils.assertEquals(new int[]{1}, comboSnapshot.getSelectedIndices());
+  }
+
+  @Test
+  public void testCapturesTreeNodesAndSelection() throws Exception {
+    DefaultMutableTreeNode root = new DefaultMutableTreeNode("root");
+    DefaultMutableTreeNode child = new DefaultMutableTreeNode("child");
+    root.add(child);
+    child.add(new DefaultMutableTreeNode("grandChild"));
+    JTree tree = new JTree(root);
+    tree.setSelectionRow(1);
+    jPanel.add(tree);
+
+    ComponentSnapshot treeSnapshot = panel.snapshot().findAll(JTree.class).get(0);
+    ComponentSnapshot.Node rootNode = treeSnapshot.getTreeRoot();
+    Assertions.assertEquals("root", rootNode.getText());
+    List<ComponentSnapshot.Node> children = rootNode.getChildren();
+    Assertions.assertEquals(1, children.size());
+    Assertions.assertEquals("child", children.get(0).toString());
+    Assertions.assertEquals("grandChild", children.get(0).getChildren().get(0).toString());
+    ArrayUtils.assertEquals(new int[]{1}, treeSnapshot.getSelectedIndices());
+  }
+
+  @Test
+  public void testValuesAreCapturedThroughTheRenderers() throws Exception {
+    JList list = new JList(new String[]{"one", "two"});
+    list.setCellRenderer(new DefaultListCellRenderer() {
+      public Component getListCellRendererComponent(JList list, Object value, int index,
+                                                    boolean isSelected, boolean cellHasFocus) {
+        return super.getListCellRendererComponent(list, value.toString().toUpperCase(), index,
+                                                  isSelected, cellHasFocus);
+      }
+    });
+    jPanel.add(list);
+    JTable table = new JTable(new Object[][]{{Boolean.TRUE, "x"}}, new Object[]{"checked", "name"}) {
+      public Class<?> getColumnClass(int column) {
+        return (column == 0) ? Boolean.class : String.class;
+      }
+    };
+    jPanel.add(table);
+
+    ComponentSnapshot snapshot = panel.snapshot();
+    ArrayUtils.assertEquals(new String[]{"ONE", "TWO"}, snapshot.findAll(JList.class).get(0).getListValues());
+    ArrayUtils.assertEquals(new Object[][]{{Boolean.TRUE, "x"}}, snapshot.findAll(JTable.class).get(0).getTableValues());
+  }
+
+  @Test
+  public void testContentAssertions() throws Exception {
+    JTable jTable = new JTable(new Object[][]{{"a", 1}, {"b", 2}}, new Object[]{"letter", "number"});
+    jTable.setName("table");
+    jPanel.add(jTable);
+    JList jList = new JList(new String[]{"one", "two"});
+    jList.setName("list");
+    jPanel.add(jList);
+    JComboBox jComboBox = new JComboBox(new String[]{"red"});
+    jComboBox.setName("combo");
+    jPanel.add(jComboBox);
+    DefaultMutableTreeNode root = new DefaultMutableTreeNode("root");
+    root.add(new DefaultMutableTreeNode("child"));
+    JTree jTree = new JTree(root);
+    jTree.setName("tree");
+    jPanel.add(jTree);
+    JLabel jLabel = new JLabel("text");
+    jLabel.setName("label");
+    jPanel.add(jLabel);
+
+    ComponentSnapshot snapshot = panel.snapshot();
+    Object[][] tableContent = {{"a", "1"}, {"b", "2"}};
+    assertTrue(snapshot.getTable("table").contentEquals(tableContent));
+    assertTrue(panel.getTable("table").contentEquals(tableContent));
+    assertFalse(snapshot.getTable("table").contentEquals(new Object[][]{{"a", "1"}}));
+    assertTrue(snapshot.getListBox("list").contentEquals("one", "two"));
+    assertTrue(panel.getListBox("list").contentEquals("one", "two"));
+    assertTrue(snapshot.getComboBox("combo").contentEquals("red"));
+    String treeContent = "root\n" +
+                         "  child";
+    assertTrue(snapshot.getTree("tree").contentEquals(treeContent));
+    assertTrue(panel.getTree("tree").contentEquals(treeContent));
+    assertFalse(snapshot.getTree("tree").contentEquals("root"));
+    assertTrue(snapshot.findByName("label").textEquals("text"));
+
+    checkAssertionFails(snapshot.getTable("table").contentEquals(new Object[][]{{"a", "1"}, {"b", "3"}}),
+                        "expected: <[[a,\t1]\n [b,\t3]]> but was: <[[a,\t1]\n [b,\t2]]>");
+    checkAssertionFails(snapshot.findByName("label").contentEquals("text"),
+                        "Component 'label' is not a list or combo box");
+    Assertions.assertThrows(ItemNotFoundException.class, () -> snapshot.getTable("list"));
+
+    jTable.setValueAt("c", 0, 0);
+    assertTrue(snapshot.getTable("table").contentEquals(tableContent));
+  }
+
+  @Test
+  public void testFailingSnapshotAssertionsAreNotRetried() throws Exception {
+    UISpec4J.setAssertionTimeLimit(1000);
+    JLabel jLabel = new JLabel("text");
+    jLabel.setName("label");
+    jPanel.add(jLabel);
+
+    ComponentSnapshot snapshot = panel.snapshot();
+    Chrono chrono = Chrono.start();
+    checkAssertionError(() -> assertTrue(snapshot.findByName("label").textEquals("other")),
+                        "expected: <other> but was: <text>");
+    checkAssertionError(() -> assertFalse(snapshot.findByName("label").textEquals("text")));
+    chrono.assertElapsedTimeLessThan(500);
+  }
+
+  @Test
+  public void testFindAllUsesTraversalOrderAndSubclasses() throws Exception {
+    jPanel.add(new JButton("first"));
+    JPanel subPanel = new JPanel();
+    subPanel.add(new JToggleButton("second"));
+    jPanel.add(subPanel);
+    jPanel.add(new JButton("third"));
+
+    List<ComponentSnapshot> buttons = panel.snapshot().findAll(javax.swing.AbstractButton.class);
+    Assertions.assertEquals(3, buttons.size());
+    Assertions.assertEquals("first", buttons.get(0).getText());
+    Assertions.assertEquals("second", buttons.get(1).getText());
+    Assertions.assertEquals("third", buttons.get(2).getText());
+  }
+}
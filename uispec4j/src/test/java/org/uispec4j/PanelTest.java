@@ -2,7 +2,9 @@ package org.uispec4j;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.uispec4j.assertion.UISpecAssert;
 import org.uispec4j.finder.ComponentMatcher;
+import org.uispec4j.utils.Chrono;
 import org.uispec4j.utils.UIComponentFactory;
 import org.uispec4j.xml.XmlAssert;
 
@@ -40,6 +42,89 @@ public class PanelTest extends UIComponentTestCase {
                                "</panel>", panel.getDescription());
   }
 
+  @Test
+  public void testGetDescriptionWithLimits() throws Exception {
+    JPanel jPanel = new JPanel();
+    jPanel.setName("level0");
+    JPanel level1 = new JPanel();
+    level1.setName("level1");
+    jPanel.add(level1);
+    JPanel level2 = new JPanel();
+    level2.setName("level2");
+    level1.add(level2);
+    level2.add(new JButton("deep"));
+    JTable table = new JTable(1, 1);
+    table.setName("table");
+    level1.add(table);
+    table.add(new JTextField("editor"));
+
+    Panel panel = new Panel(jPanel);
+    Assertions.assertEquals(panel.getDescription(), panel.getDescription(DescriptionLimits.NONE));
+
+    XmlAssert.assertEquivalent("<panel name='level0'>" +
+                               "  <panel name='level1'>" +
+                               "    <panel name='level2'>...</panel>" +
+                               "    <table name='table'>...</table>" +
+                               "  </panel>" +
+                               "</panel>",
+                               panel.getDescription(new DescriptionLimits(2, Integer.MAX_VALUE)));
+
+    XmlAssert.assertEquivalent("<panel name='level0'>" +
+                               "  <panel name='level1'>" +
+                               "    <panel name='level2'>" +
+                               "      <button label='deep'/>" +
+                               "    </panel>" +
+                               "    <table name='table'>...</table>" +
+                               "  </panel>" +
+                               "</panel>",
+                               panel.getDescription(DescriptionLimits.NONE.prune("table")));
+
+    XmlAssert.assertEquivalent("<panel name='level0'>...</panel>",
+                               panel.getDescription(new DescriptionLimits(0, Integer.MAX_VALUE)));
+
+    String truncated = panel.getDescription(new DescriptionLimits(Integer.MAX_VALUE, 1));
+    XmlAssert.assertEquivalent("<panel name='level0'>...</panel>", truncated);
+  }
+
+  @Test
+  public void testDescriptionEquals() throws Exception {
+    JPanel jPanel = new JPanel();
+    jPanel.setName("myPanel");
+    JButton button = new JButton("OK");
+    button.setName("okButton");
+    jPanel.add(button);
+    JTextField textField = new JTextField("some <text>");
+    textField.setName("myText");
+    jPanel.add(textField);
+
+    Panel panel = new Panel(jPanel);
+    assertTrue(panel.descriptionEquals("<panel name='myPanel'>" +
+                                       "  <textBox name='myText' text='some &lt;text&gt;'/>" +
+                                       "  <button label='OK' name='okButton'/>" +
+                                       "</panel>"));
+    assertFalse(panel.descriptionEquals("<panel name='myPanel'>" +
+                                        "  <textBox name='myText' text='some &lt;text&gt;'/>" +
+                                        "</panel>"));
+
+    textField.setText("other");
+    checkAssertionFails(panel.descriptionEquals("<panel name='myPanel'/>"),
+                        "expected: <<panel name=\"myPanel\"/>> but was: <<panel name=\"myPanel\">\n" +
+                        "<button name=\"okButton\" label=\"OK\"/>\n" +
+                        "<textBox name=\"myText\" text=\"other\"/>\n" +
+                        "</panel>>");
+  }
+
+  @Test
+  public void testDescriptionEqualsWithMultiLineTexts() throws Exception {
+    JPanel jPanel = new JPanel();
+    jPanel.add(new JTextArea("line1\nline2\r\n\tline3"));
+    Panel panel = new Panel(jPanel);
+    UISpec4J.setAssertionTimeLimit(1000);
+    Chrono chrono = Chrono.start();
+    UISpecAssert.assertTrue(panel.descriptionEquals(panel.getDescription()));
+    chrono.assertElapsedTimeLessThan(200);
+  }
+
   @Test
   public void testFactory() throws Exception {
     checkFactory(new JPanel(), Panel.class);
@@ -32,6 +32,30 @@ public class TableContentTest extends TableTestCase {
     }
   }
 
+  @Test
+  public void testAssertContentEqualsFailureOnlyDisplaysTheRowsAroundTheFirstDifference() {
+    Object[][] rows = new Object[300][];
+    for (int i = 0; i < rows.length; i++) {
+      rows[i] = new Object[]{"row" + i};
+    }
+    Table bigTable = new Table(new JTable(rows, new Object[]{"name"}));
+    Object[][] expected = rows.clone();
+    expected[200] = new Object[]{"error"};
+    UISpec4J.setFailureMessageRowLimit(4);
+    try {
+      bigTable.contentEquals(expected).check();
+      throw new AssertionFailureNotDetectedError();
+    }
+    catch (AssertionError e) {
+      Assertions.assertEquals("expected: <[... (198 more)\n [row198]\n [row199]\n [error]\n [row201]\n ... (98 more)]> " +
+                              "but was: <[... (198 more)\n [row198]\n [row199]\n [row200]\n [row201]\n ... (98 more)]>",
+                              e.getMessage());
+    }
+    finally {
+      UISpec4J.setFailureMessageRowLimit(UISpec4J.DEFAULT_FAILURE_MESSAGE_ROW_LIMIT);
+    }
+  }
+
   @Test
   public void testAssertEmptyFailure() {
     try {
@@ -155,6 +179,32 @@ public class TableContentTest extends TableTestCase {
     }
   }
 
+  @Test
+  public void testModelCellValueConverterDoesNotUseTheRenderers() {
+    final int[] rendererCalls = {0};
+    jTable.setDefaultRenderer(Object.class, new DefaultTableCellRenderer() {
+      public Component getTableCellRendererComponent(JTable table, Object value, boolean isSelected, boolean hasFocus, int row, int column) {
+        rendererCalls[0]++;
+        return super.getTableCellRendererComponent(table, value, isSelected, hasFocus, row, column);
+      }
+    });
+    jTable.setDefaultRenderer(Boolean.class, jTable.getDefaultRenderer(Object.class));
+    jTable.setDefaultRenderer(Integer.class, jTable.getDefaultRenderer(Object.class));
+    table.setDefaultCellValueConverter(ModelTableCellValueConverter.INSTANCE);
+    assertTrue(table.contentEquals(new Object[][]{
+      {"a", Boolean.TRUE, 3},
+      {"c", Boolean.FALSE, 4}
+    }));
+    assertTrue(table.rowEquals(1, new Object[]{"c", Boolean.FALSE, 4}));
+    assertTrue(table.columnEquals(2, new Object[]{3, 4}));
+    assertTrue(table.containsRow(new Object[]{"a", Boolean.TRUE, 3}));
+    Assertions.assertEquals(0, rendererCalls[0]);
+
+    table.setCellValueConverter(0, new DefaultTableCellValueConverter());
+    assertTrue(table.columnEquals(0, new Object[]{"a", "c"}));
+    Assertions.assertEquals(2, rendererCalls[0]);
+  }
+
   @Test
   public void testContentEqualsAfterSettingACustomCellValueConverterOnAColumn() {
     table.setCellValueConverter(0, (row, column, renderedComponent, modelObject) -> "custom " + modelObject);
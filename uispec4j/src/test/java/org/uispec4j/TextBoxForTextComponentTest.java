@@ -46,6 +46,21 @@ public class TextBoxForTextComponentTest extends TextBoxComponentTestCase {
     Assertions.assertEquals("textBox", UIComponentFactory.createUIComponent(new JTextField()).getDescriptionTypeName());
   }
 
+  @Test
+  public void testTypeText() throws Exception {
+    textBox.typeText("Hello, World! 42 été");
+    assertTrue(textBox.textEquals("Hello, World! 42 été"));
+
+    UISpec4J.setFastKeyTypingEnabled(true);
+    try {
+      textBox.typeKeys(KeySequence.text("\nNext").then(Key.BACKSPACE));
+      assertTrue(textBox.textEquals("Hello, World! 42 été\nNex"));
+    }
+    finally {
+      UISpec4J.setFastKeyTypingEnabled(false);
+    }
+  }
+
   @Test
   public void testGetDescription() throws Exception {
     XmlAssert.assertEquivalent("<textBox name='myText'/>", textBox.getDescription());
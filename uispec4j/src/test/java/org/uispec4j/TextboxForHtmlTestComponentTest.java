@@ -3,6 +3,7 @@ package org.uispec4j;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.uispec4j.assertion.Assertion;
 import org.uispec4j.utils.AssertionFailureNotDetectedError;
 import org.uispec4j.utils.FileTestUtils;
 import org.uispec4j.utils.UIComponentFactory;
@@ -115,6 +116,31 @@ public class TextboxForHtmlTestComponentTest extends TextBoxComponentTestCase {
     }
   }
 
+  @Test
+  public void testHtmlEqualsNormalizesTheExpectedHtmlLikeANewPane() {
+    String[] texts = {
+      "<html><head><title>Title</title><meta name=\"a\" content=\"b\"/></head><body>text</body></html>",
+      "Universal <b>rules</b>:<ul><li>a &lt; b</li></ul>",
+      "<p style=\"margin-top: 0\">paragraph</p>",
+    };
+    for (int i = 0; i < 3; i++) {
+      for (String text : texts) {
+        JTextPane pane = new JTextPane();
+        pane.setContentType("text/html; charset=UTF-8");
+        pane.setText(text);
+        Assertions.assertEquals(pane.getText(), HtmlNormalizer.normalize(text));
+      }
+    }
+
+    Assertion htmlEquals = textBox.htmlEquals(texts[1]);
+    textBox.setText(texts[1]);
+    assertTrue(htmlEquals);
+    textBox.setText(texts[2]);
+    assertFalse(htmlEquals);
+    textBox.setText(texts[1]);
+    assertTrue(htmlEquals);
+  }
+
   @Test
   public void testAssertTextContainsWithHtml() {
     initWithHtmlTextPane();
@@ -146,6 +172,36 @@ public class TextboxForHtmlTestComponentTest extends TextBoxComponentTestCase {
     assertTrue(textBox.textEquals(""));
   }
 
+  @Test
+  public void testTextAssertionsOnlyReadTheTextAgainAfterADocumentChange() throws Exception {
+    final int[] readCount = {0};
+    JTextPane pane = new JTextPane() {
+      public String getText() {
+        readCount[0]++;
+        return super.getText();
+      }
+    };
+    pane.setContentType("text/html");
+    init(pane);
+    textBox.setText("Hello <b>World</b>");
+    readCount[0] = 0;
+
+    assertTrue(textBox.textEquals("Hello World"));
+    assertTrue(textBox.textContains("World"));
+    assertFalse(textBox.textEquals("Hello"));
+    Assertions.assertEquals(1, readCount[0]);
+
+    textBox.setText("Hello <i>Bond</i>");
+    assertTrue(textBox.textEquals("Hello Bond"));
+    assertTrue(new TextBox(pane).textEquals("Hello Bond"));
+    Assertions.assertEquals(2, readCount[0]);
+
+    pane.setDocument(pane.getEditorKit().createDefaultDocument());
+    assertTrue(textBox.textIsEmpty());
+    pane.setText("Bye");
+    assertTrue(textBox.textEquals("Bye"));
+  }
+
   @Test
   public void testAssertTextContainsHandlesHtmlLineBreaksAndFormatting() {
     initWithHtmlTextPane();
@@ -33,6 +33,63 @@ public class TreeContentTest extends TreeTestCase {
                             child2""");
   }
 
+  @Test
+  public void testContentCheckWithMissingOrAdditionalNodes() {
+    checkContainmentError("""
+                          root
+                            child1
+                              child1_1""");
+    checkContainmentError("""
+                          root
+                            child1
+                              child1_1
+                            child2
+                            child3""");
+  }
+
+  @Test
+  public void testContentCheckIgnoresEmptyLines() {
+    assertTrue(tree.contentEquals("""
+                                  root
+
+                                    child1
+                                      child1_1
+
+                                    child2"""));
+  }
+
+  @Test
+  public void testContentCheckWithAnEmptyRootLabel() {
+    rootNode.setUserObject(new DummyTreeCellRenderer.UserObject(""));
+    String expected = """
+                      child1
+                        child1_1
+                      child2""";
+    Assertions.assertTrue(tree.contentEquals(expected).isTrue());
+    assertTrue(tree.contentEquals(expected));
+    checkContainmentError("""
+                          child1
+                            error
+                          child2""");
+  }
+
+  @Test
+  public void testContentCheckStopsAtTheFirstDifferentNode() {
+    final int[] count = {0};
+    tree.setCellValueConverter(new DefaultTreeCellValueConverter() {
+      public String getValue(Component renderedComponent, Object modelObject) {
+        count[0]++;
+        return super.getValue(renderedComponent, modelObject);
+      }
+    });
+    Assertions.assertFalse(tree.contentEquals("""
+                                              root
+                                                error
+                                                  child1_1
+                                                child2""").isTrue());
+    Assertions.assertEquals(2, count[0]);
+  }
+
   @Test
   public void testExpectedContentStringIsTrimmedInContainmentCheck() {
     assertTrue(tree.contentEquals("""
@@ -0,0 +1,135 @@
+package org.uispec4j;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.uispec4j.utils.DummyTreeCellRenderer;
+
+import javax.swing.*;
+import javax.swing.tree.DefaultMutableTreeNode;
+import javax.swing.tree.DefaultTreeModel;
+import java.awt.*;
+
+public class TreeSelectionWithIndexTest extends TreeSelectionTest {
+
+  @BeforeEach
+  final protected void enableIndex() {
+    UISpec4J.setTreePathIndexEnabled(true);
+  }
+
+  @AfterEach
+  final protected void disableIndex() {
+    UISpec4J.setTreePathIndexEnabled(false);
+  }
+
+  @Test
+  public void testChildrenAreRenderedOnlyOnceForSuccessiveLookups() throws Exception {
+    CountingTreeCellValueConverter converter = new CountingTreeCellValueConverter();
+    tree.setCellValueConverter(converter);
+
+    tree.select("child1/child1_1");
+    Assertions.assertEquals(3, converter.count);
+
+    tree.select("child1/child1_1");
+    tree.select("child2");
+    Tree otherTree = new Tree(jTree);
+    otherTree.setCellValueConverter(converter);
+    otherTree.select("child1");
+    Assertions.assertEquals(3, converter.count);
+  }
+
+  @Test
+  public void testIndexIsUpdatedWhenNodesAreInsertedOrRemoved() throws Exception {
+    DefaultTreeModel model = (DefaultTreeModel)jTree.getModel();
+    assertTrue(tree.contains("child1/child1_1"));
+
+    DefaultMutableTreeNode child1_2Node = new DefaultMutableTreeNode(new DummyTreeCellRenderer.UserObject("child1_2"));
+    model.insertNodeInto(child1_2Node, child1Node, 1);
+    tree.select("child1/child1_2");
+    assertTrue(tree.selectionEquals("child1/child1_2"));
+
+    model.removeNodeFromParent(child1Node);
+    assertFalse(tree.contains("child1"));
+    assertTrue(tree.contains("child2"));
+
+    model.insertNodeInto(child1Node, rootNode, 0);
+    assertTrue(tree.contains("child1/child1_2"));
+  }
+
+  @Test
+  public void testIndexIsUpdatedWhenNodesAreChanged() throws Exception {
+    assertTrue(tree.contains("child2"));
+
+    child2Node.setUserObject(new DummyTreeCellRenderer.UserObject("renamed"));
+    ((DefaultTreeModel)jTree.getModel()).nodeChanged(child2Node);
+
+    assertTrue(tree.contains("renamed"));
+    assertFalse(tree.contains("child2"));
+  }
+
+  @Test
+  public void testIndexIsResetWhenTheModelIsReplaced() throws Exception {
+    assertTrue(tree.contains("child1"));
+
+    DefaultMutableTreeNode newRoot = new DefaultMutableTreeNode(new DummyTreeCellRenderer.UserObject("newRoot"));
+    newRoot.add(new DefaultMutableTreeNode(new DummyTreeCellRenderer.UserObject("other")));
+    jTree.setModel(new DefaultTreeModel(newRoot));
+
+    assertTrue(tree.contains("other"));
+    assertFalse(tree.contains("child1"));
+  }
+
+  @Test
+  public void testChangesNotNotifiedByTheModelAreFoundWhenALookupFails() throws Exception {
+    assertTrue(tree.contains("child2"));
+
+    child2Node.setUserObject(new DummyTreeCellRenderer.UserObject("renamed"));
+
+    assertTrue(tree.contains("renamed"));
+  }
+
+  @Test
+  public void testEqualNodesUnderDifferentParentsAreIndexedSeparately() throws Exception {
+    EqualNode root = new EqualNode("root");
+    EqualNode a = new EqualNode("a");
+    EqualNode b = new EqualNode("b");
+    EqualNode itemUnderA = new EqualNode("item");
+    EqualNode itemUnderB = new EqualNode("item");
+    root.add(a);
+    root.add(b);
+    a.add(itemUnderA);
+    b.add(itemUnderB);
+    itemUnderA.add(new EqualNode("childOfA"));
+    itemUnderB.add(new EqualNode("childOfB"));
+    Tree equalNodesTree = new Tree(new JTree(new DefaultTreeModel(root)));
+
+    assertTrue(equalNodesTree.contains("a/item/childOfA"));
+    assertFalse(equalNodesTree.contains("b/item/childOfA"));
+    assertTrue(equalNodesTree.contains("b/item/childOfB"));
+    assertFalse(equalNodesTree.contains("a/item/childOfB"));
+  }
+
+  private static class EqualNode extends DefaultMutableTreeNode {
+    EqualNode(String name) {
+      super(name);
+    }
+
+    public boolean equals(Object object) {
+      return (object instanceof EqualNode) && getUserObject().equals(((EqualNode)object).getUserObject());
+    }
+
+    public int hashCode() {
+      return getUserObject().hashCode();
+    }
+  }
+
+  private static class CountingTreeCellValueConverter extends DefaultTreeCellValueConverter {
+    private int count;
+
+    public String getValue(Component renderedComponent, Object modelObject) {
+      count++;
+      return super.getValue(renderedComponent, modelObject);
+    }
+  }
+}
@@ -7,6 +7,9 @@ import org.uispec4j.utils.UnitTestCase;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.KeyEvent;
+import java.awt.event.KeyListener;
 
 public abstract class UIComponentTestCase extends UnitTestCase {
 
@@ -56,6 +59,67 @@ public abstract class UIComponentTestCase extends UnitTestCase {
     keyListener.checkEvents("keyPressed", "keyTyped", "keyReleased");
   }
 
+  @Test
+  public void testTypingTextAndKeySequences() throws Exception {
+    UIComponent component = createComponent();
+    DummyKeyListener keyListener = new DummyKeyListener();
+    component.getAwtComponent().addKeyListener(keyListener);
+    component.typeText("aB");
+    keyListener.checkEvents("keyPressed", "keyTyped", "keyReleased", "keyPressed", "keyTyped", "keyReleased");
+    component.typeKeys(new KeySequence(Key.RIGHT).then("c"));
+    keyListener.checkEvents("keyPressed", "keyReleased", "keyPressed", "keyTyped", "keyReleased");
+
+    UISpec4J.setFastKeyTypingEnabled(true);
+    try {
+      component.typeText("a");
+      keyListener.checkEvents("keyPressed", "keyTyped", "keyReleased");
+    }
+    finally {
+      UISpec4J.setFastKeyTypingEnabled(false);
+    }
+  }
+
+  @Test
+  public void testFastKeyTypingSkipsTheReleasesWhenThereIsNoKeyListener() throws Exception {
+    UIComponent component = createComponent();
+    Component awtComponent = component.getAwtComponent();
+    for (KeyListener listener : awtComponent.getKeyListeners()) {
+      awtComponent.removeKeyListener(listener);
+    }
+    final StringBuffer log = new StringBuffer();
+    boolean hasKeyBindings = awtComponent instanceof JComponent;
+    if (hasKeyBindings) {
+      bindKey((JComponent)awtComponent, KeyStroke.getKeyStroke(KeyEvent.VK_A, 0, false), "pressed", log);
+      bindKey((JComponent)awtComponent, KeyStroke.getKeyStroke(KeyEvent.VK_A, 0, true), "released", log);
+    }
+
+    component.typeText("a");
+    Assertions.assertEquals(hasKeyBindings ? "pressed released " : "", log.toString());
+
+    log.setLength(0);
+    UISpec4J.setFastKeyTypingEnabled(true);
+    try {
+      component.typeText("a");
+      component.typeKeys(KeySequence.text("a"));
+      Assertions.assertEquals(hasKeyBindings ? "pressed pressed " : "", log.toString());
+    }
+    finally {
+      UISpec4J.setFastKeyTypingEnabled(false);
+    }
+  }
+
+  /**
+   * Windows are left out, since their key bindings are only processed while they are showing.
+   */
+  private static void bindKey(JComponent component, KeyStroke stroke, final String name, final StringBuffer log) {
+    component.getInputMap(JComponent.WHEN_FOCUSED).put(stroke, name);
+    component.getActionMap().put(name, new AbstractAction() {
+      public void actionPerformed(ActionEvent e) {
+        log.append(name).append(' ');
+      }
+    });
+  }
+
   protected abstract UIComponent createComponent();
 
   public static void checkFactory(JComponent jComponent, Class expectedGuiComponent) {
@@ -3,12 +3,19 @@ package org.uispec4j;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.uispec4j.interception.WindowInterceptor;
+import org.uispec4j.interception.toolkit.UISpecDisplay;
+import org.uispec4j.interception.toolkit.UISpecEnvironment;
+import org.uispec4j.utils.ThreadManager;
 import org.uispec4j.utils.UnitTestCase;
 import org.uispec4j.utils.Utils;
 import org.uispec4j.xml.EventLogger;
 
 import javax.swing.*;
+import java.awt.AWTEvent;
+import java.awt.Toolkit;
+import java.awt.event.AWTEventListener;
 import java.awt.event.ActionEvent;
+import java.util.concurrent.CountDownLatch;
 
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.uispec4j.assertion.UISpecAssert.fail;
@@ -124,6 +131,50 @@ public class UISpecTestCaseTest extends UnitTestCase {
     }
   }
 
+  @Test
+  public void testTearDownResetsTheEnvironmentWhenEnabled() throws Exception {
+    UISpecEnvironment.reset(UISpecDisplay.instance());
+    UISpec4J.setEnvironmentResetEnabled(true);
+    try {
+      MyTestCase testCase = new MyTestCase();
+      testCase.uispec4JSetUp();
+      AWTEventListener listener = new AWTEventListener() {
+        public void eventDispatched(AWTEvent event) {
+        }
+      };
+      Toolkit.getDefaultToolkit().addAWTEventListener(listener, AWTEvent.KEY_EVENT_MASK);
+      final CountDownLatch latch = new CountDownLatch(1);
+      ThreadManager.ThreadDelegate delegate = ThreadManager.getInstance().addRunnable("test", new Runnable() {
+        public void run() {
+          try {
+            latch.await();
+          }
+          catch (InterruptedException e) {
+            // stopped by the test
+          }
+        }
+      });
+      try {
+        testCase.uispec4JTearDown();
+        fail();
+      }
+      catch (AssertionError e) {
+        Assertions.assertEquals("Resources were not released by the test - " +
+                                "1 interception thread(s) still running, 0 window(s) disposed: [], " +
+                                "1 AWT event listener(s) removed: [" + listener.getClass().getName() + "]",
+                                e.getMessage());
+      }
+      finally {
+        latch.countDown();
+        delegate.join();
+      }
+      Assertions.assertFalse(UISpecEnvironment.reset(UISpecDisplay.instance()).hasLeaks());
+    }
+    finally {
+      UISpec4J.setEnvironmentResetEnabled(false);
+    }
+  }
+
   private JDialog createModalDialog(JFrame frame) {
     final JDialog firstDialog = new JDialog(frame, "dlg", true);
     firstDialog.getContentPane().add(new JButton(new AbstractAction("Close") {
@@ -1,12 +1,17 @@
 package org.uispec4j.assertion;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.uispec4j.UISpec4J;
+import org.uispec4j.utils.AssertionFailureNotDetectedError;
 import org.uispec4j.utils.Chrono;
 import org.uispec4j.utils.UnitTestCase;
 import org.uispec4j.utils.Utils;
 
+import javax.swing.*;
+import java.awt.*;
+
 public class UISpecAssertTest extends UnitTestCase {
 
   @BeforeEach
@@ -27,6 +32,121 @@ public class UISpecAssertTest extends UnitTestCase {
     chrono.assertElapsedTimeLessThan(150);
   }
 
+  @Test
+  public void testObservedAssertionsAreCheckedAgainAsSoonAsTheComponentChanges() throws Exception {
+    UISpec4J.setAssertionTimeLimit(1000);
+    final JLabel label = new JLabel("before");
+    Thread thread = new Thread(() -> {
+      Utils.sleep(300);
+      label.setText("after");
+    });
+    thread.start();
+    Chrono chrono = Chrono.start();
+    UISpecAssert.assertTrue(new Assertion(label) {
+      public void check() {
+        if (!"after".equals(label.getText())) {
+          throw new AssertionError("error!");
+        }
+      }
+    });
+    chrono.assertElapsedTimeLessThan(380);
+    thread.join();
+  }
+
+  @Test
+  public void testFailureMessagesAreOnlyRequiredForTheLastCheck() throws Exception {
+    UISpec4J.setAssertionTimeLimit(100);
+    final int[] counts = {0, 0};
+    checkAssertionError(() -> UISpecAssert.assertTrue(new Assertion() {
+      public void check() {
+        counts[Assertion.isFailureMessageReported() ? 1 : 0]++;
+        throw new AssertionError("error!");
+      }
+    }), "error!");
+    Assertions.assertTrue(counts[0] > 1);
+    Assertions.assertEquals(1, counts[1]);
+
+    Assertion failingQuietly = new Assertion() {
+      public void check() {
+        if (!Assertion.isFailureMessageReported()) {
+          throw new AssertionError("quiet");
+        }
+      }
+    };
+    Assertions.assertFalse(failingQuietly.isTrue());
+    UISpecAssert.assertTrue(UISpecAssert.not(failingQuietly));
+  }
+
+  @Test
+  public void testChangesInsideTheObservedComponentsAreDetectedByPolling() throws Exception {
+    UISpec4J.setAssertionTimeLimit(1000);
+    final JPanel panel = new JPanel();
+    final JLabel label = new JLabel("before");
+    panel.add(label);
+    Thread thread = new Thread(() -> {
+      Utils.sleep(50);
+      label.setText("after");
+    });
+    thread.start();
+    Chrono chrono = Chrono.start();
+    UISpecAssert.assertTrue(new Assertion(panel) {
+      public void check() {
+        if (!"after".equals(label.getText())) {
+          throw new AssertionError("error!");
+        }
+      }
+    });
+    chrono.assertElapsedTimeLessThan(150);
+    thread.join();
+  }
+
+  @Test
+  public void testListenersAreRemovedAfterTheRetries() throws Exception {
+    UISpec4J.setAssertionTimeLimit(100);
+    final JList list = new JList(new DefaultListModel());
+    int propertyListenerCount = list.getPropertyChangeListeners().length;
+    int dataListenerCount = ((DefaultListModel)list.getModel()).getListDataListeners().length;
+    int awtListenerCount = Toolkit.getDefaultToolkit().getAWTEventListeners().length;
+    try {
+      UISpecAssert.assertTrue(new Assertion(list) {
+        public void check() {
+          throw new AssertionError("error!");
+        }
+      });
+      throw new AssertionFailureNotDetectedError();
+    }
+    catch (AssertionError e) {
+      Assertions.assertEquals("error!", e.getMessage());
+    }
+    Assertions.assertEquals(propertyListenerCount, list.getPropertyChangeListeners().length);
+    Assertions.assertEquals(dataListenerCount, ((DefaultListModel)list.getModel()).getListDataListeners().length);
+    Assertions.assertEquals(awtListenerCount, Toolkit.getDefaultToolkit().getAWTEventListeners().length);
+  }
+
+  @Test
+  public void testConstantAssertionsAreNotRetried() throws Exception {
+    UISpec4J.setAssertionTimeLimit(1000);
+    final int[] count = {0};
+    final Assertion constant = new Assertion() {
+      protected boolean isConstant() {
+        return true;
+      }
+
+      public void check() {
+        count[0]++;
+        throw new AssertionError("error!");
+      }
+    };
+    Chrono chrono = Chrono.start();
+    checkAssertionError(() -> UISpecAssert.assertTrue(constant), "error!");
+    Assertions.assertEquals(2, count[0]);
+    checkAssertionError(() -> UISpecAssert.assertTrue(UISpecAssert.and(constant, constant)));
+    checkAssertionError(() -> UISpecAssert.assertFalse(UISpecAssert.not(constant)));
+    chrono.assertElapsedTimeLessThan(500);
+
+    Assertions.assertFalse(UISpecAssert.and(constant, DummyAssertion.FALSE).isConstant());
+  }
+
   @Test
   public void testWaitForAssertionDoesNotTakeIntoAccountGlobalWaitTimeLimit() throws Exception {
     UISpec4J.setAssertionTimeLimit(0);
@@ -17,6 +17,10 @@ import org.uispec4j.xml.XmlAssert;
 import javax.swing.*;
 import javax.swing.text.JTextComponent;
 import java.awt.*;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.lang.reflect.Constructor;
 import java.util.HashMap;
 import java.util.Map;
@@ -57,6 +61,67 @@ public class PanelComponentSearchTest extends PanelComponentFinderTestCase {
     Assertions.assertEquals("panel", UIComponentFactory.createUIComponent(new JPanel()).getDescriptionTypeName());
   }
 
+  @Test
+  public void testNotFoundMessageListsTheClosestAvailableNames() throws Exception {
+    for (int i = 0; i < 10; i++) {
+      jPanel.add(new JButton("Button " + i));
+    }
+    jPanel.add(new JButton("Save as"));
+    jPanel.add(new JButton("Save"));
+    try {
+      panel.getButton("Sve");
+      Assertions.fail();
+    }
+    catch (ItemNotFoundException e) {
+      Assertions.assertEquals("Component 'Sve' of type 'button' not found - closest available names: " +
+                              "[Button 0,Button 1,Button 2,Button 3,Button 4,Button 5,Button 6,Button 7,Save,Save as]" +
+                              " (10 out of 12)",
+                              e.getMessage());
+    }
+  }
+
+  @Test
+  public void testNotFoundMessageListsTheComponentsAvailableWhenThrown() throws Exception {
+    JButton okButton = new JButton("OK");
+    jPanel.add(okButton);
+    ItemNotFoundException exception = null;
+    try {
+      panel.getButton("Cancel");
+      Assertions.fail();
+    }
+    catch (ItemNotFoundException e) {
+      exception = e;
+    }
+    jPanel.add(new JButton("Cancel"));
+    okButton.setText("Close");
+    Assertions.assertEquals("Component 'Cancel' of type 'button' not found - available names: [Close]",
+                            exception.getMessage());
+    okButton.setText("OK");
+    Assertions.assertEquals("Component 'Cancel' of type 'button' not found - available names: [Close]",
+                            exception.getMessage());
+  }
+
+  @Test
+  public void testNotFoundExceptionsCanBeSerialized() throws Exception {
+    jPanel.add(new JButton("OK"));
+    ItemNotFoundException exception = null;
+    try {
+      panel.getButton("Cancel");
+      Assertions.fail();
+    }
+    catch (ItemNotFoundException e) {
+      exception = e;
+    }
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    ObjectOutputStream out = new ObjectOutputStream(bytes);
+    out.writeObject(exception);
+    out.close();
+    ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+    ItemNotFoundException copy = (ItemNotFoundException)in.readObject();
+    Assertions.assertEquals("Component 'Cancel' of type 'button' not found - available names: [OK]",
+                            copy.getMessage());
+  }
+
   @Test
   public void testGetComponentWithText() throws Exception {
     checkGetComponentWithText(JButton.class, Button.TYPE_NAME);
@@ -0,0 +1,80 @@
+package org.uispec4j.finder;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.uispec4j.ItemNotFoundException;
+import org.uispec4j.UISpec4J;
+
+import javax.swing.*;
+import java.awt.*;
+
+public class PanelComponentSearchWithIndexTest extends PanelComponentSearchTest {
+
+  @BeforeEach
+  final protected void enableIndex() {
+    UISpec4J.setComponentIndexEnabled(true);
+  }
+
+  @AfterEach
+  final protected void disableIndex() {
+    UISpec4J.setComponentIndexEnabled(false);
+  }
+
+  @Test
+  public void testIndexIsUpdatedWhenComponentsAreAddedOrRemoved() throws Exception {
+    JButton button = addComponent(JButton.class, "button1");
+    Assertions.assertSame(button, panel.getButton("button1").getAwtComponent());
+
+    JPanel subPanel = new JPanel();
+    JButton otherButton = new JButton("button2");
+    subPanel.add(otherButton);
+    jPanel.add(subPanel);
+    Assertions.assertSame(otherButton, panel.getButton("button2").getAwtComponent());
+
+    subPanel.remove(otherButton);
+    checkNotFound("button2");
+  }
+
+  @Test
+  public void testIndexIsUpdatedWhenComponentsAreRenamed() throws Exception {
+    JButton button = addComponent(JButton.class, "button1");
+    button.setText("label");
+    Assertions.assertSame(button, panel.getButton("label").getAwtComponent());
+
+    button.setText("other");
+    Assertions.assertSame(button, panel.getButton("other").getAwtComponent());
+
+    button.setText(null);
+    button.setName("renamed");
+    Assertions.assertSame(button, panel.getButton("renamed").getAwtComponent());
+    checkNotFound("button1");
+  }
+
+  @Test
+  public void testIndexTakesCardLayoutSwitchesIntoAccount() throws Exception {
+    CardLayout cardLayout = new CardLayout();
+    JPanel cardPanel = new JPanel(cardLayout);
+    cardPanel.add(new JButton("first"), "1");
+    cardPanel.add(new JButton("second"), "2");
+    jPanel.add(cardPanel);
+
+    Assertions.assertNotNull(panel.getButton("first"));
+    checkNotFound("second");
+
+    cardLayout.show(cardPanel, "2");
+    Assertions.assertNotNull(panel.getButton("second"));
+    checkNotFound("first");
+  }
+
+  private void checkNotFound(String name) {
+    try {
+      panel.getButton(name);
+      Assertions.fail();
+    }
+    catch (ItemNotFoundException e) {
+      // OK
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package org.uispec4j.finder;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.uispec4j.utils.UnitTestCase;
+
+public class StringMatcherTest extends UnitTestCase {
+
+  @Test
+  public void testIdentity() throws Exception {
+    StringMatcher matcher = StringMatcher.identity("Hello");
+    Assertions.assertTrue(matcher.matches("Hello"));
+    Assertions.assertTrue(matcher.matches("hELLO"));
+    Assertions.assertFalse(matcher.matches("Hello world"));
+    Assertions.assertFalse(matcher.matches(null));
+    Assertions.assertTrue(StringMatcher.identity(null).matches(null));
+  }
+
+  @Test
+  public void testSubstring() throws Exception {
+    StringMatcher matcher = StringMatcher.substring("lo W");
+    Assertions.assertTrue(matcher.matches("Hello world"));
+    Assertions.assertTrue(matcher.matches("HELLO WORLD"));
+    Assertions.assertTrue(matcher.matches("lo w"));
+    Assertions.assertFalse(matcher.matches("lo"));
+    Assertions.assertFalse(matcher.matches("Hello_world"));
+    Assertions.assertFalse(matcher.matches(null));
+    Assertions.assertTrue(StringMatcher.substring("").matches(""));
+  }
+
+  @Test
+  public void testSubstringWithNonAsciiCharacters() throws Exception {
+    StringMatcher matcher = StringMatcher.substring("été");
+    Assertions.assertTrue(matcher.matches("En ÉTÉ"));
+    Assertions.assertTrue(matcher.matches("En ÉTÉ"));
+    Assertions.assertTrue(matcher.matches("l'été"));
+    Assertions.assertFalse(matcher.matches("ete"));
+
+    Assertions.assertTrue(StringMatcher.substring("STRASSE").matches("Straße"));
+    Assertions.assertTrue(StringMatcher.substring("rue").matches("Grand-Rue ÉTROITE"));
+  }
+
+  @Test
+  public void testRegexp() throws Exception {
+    StringMatcher matcher = StringMatcher.regexp("[a-z]+[0-9]");
+    Assertions.assertTrue(matcher.matches("abc1"));
+    Assertions.assertFalse(matcher.matches("abc"));
+    Assertions.assertTrue(matcher.matches("x2"));
+    Assertions.assertFalse(matcher.matches(null));
+    Assertions.assertTrue(StringMatcher.regexp(".*").matches(null));
+  }
+}
@@ -0,0 +1,99 @@
+package org.uispec4j.interception;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.uispec4j.Window;
+import org.uispec4j.interception.handlers.ClosedInterceptionDetectionHandler;
+import org.uispec4j.interception.handlers.InterceptionHandler;
+import org.uispec4j.interception.handlers.WindowNotClosedError;
+import org.uispec4j.utils.AssertionFailureNotDetectedError;
+import org.uispec4j.utils.Chrono;
+import org.uispec4j.utils.UnitTestCase;
+import org.uispec4j.utils.Utils;
+
+import javax.swing.*;
+import java.awt.event.WindowEvent;
+
+public class ClosedInterceptionDetectionHandlerTest extends UnitTestCase {
+  private static final InterceptionHandler NULL_HANDLER = new InterceptionHandler() {
+    public void process(Window window) {
+    }
+  };
+
+  @Test
+  public void testClosingIsDetectedByListeningToTheWindow() throws Exception {
+    final ShownDialog dialog = new ShownDialog("aDialog");
+    ClosedInterceptionDetectionHandler handler = new ClosedInterceptionDetectionHandler(NULL_HANDLER, 5000);
+    handler.process(new Window(dialog));
+    Thread thread = new Thread(() -> {
+      Utils.sleep(50);
+      SwingUtilities.invokeLater(() -> dialog.dispatchEvent(new WindowEvent(dialog, WindowEvent.WINDOW_CLOSED)));
+    });
+    thread.start();
+    Chrono chrono = Chrono.start();
+    handler.checkWindowWasClosed();
+    chrono.assertElapsedTimeLessThan(1000);
+    Assertions.assertTrue(dialog.isVisible());
+    thread.join();
+
+    handler.stop();
+    Assertions.assertEquals(0, dialog.getWindowListeners().length);
+  }
+
+  @Test
+  public void testAnErrorIsThrownAndTheWindowClosedWhenTheTimeoutIsReached() throws Exception {
+    ShownDialog dialog = new ShownDialog("aDialog");
+    ClosedInterceptionDetectionHandler handler = new ClosedInterceptionDetectionHandler(NULL_HANDLER, 50);
+    handler.process(new Window(dialog));
+    Chrono chrono = Chrono.start();
+    try {
+      handler.checkWindowWasClosed();
+      throw new AssertionFailureNotDetectedError();
+    }
+    catch (WindowNotClosedError e) {
+      Assertions.assertEquals("Modal window 'aDialog' was not closed - make sure that setVisible(false) " +
+                              "gets called by the production code", e.getMessage());
+    }
+    chrono.assertElapsedTimeLessThan(1000);
+    Assertions.assertFalse(dialog.isVisible());
+  }
+
+  @Test
+  public void testTheInterruptedStatusIsKept() throws Exception {
+    ShownDialog dialog = new ShownDialog("aDialog");
+    ClosedInterceptionDetectionHandler handler = new ClosedInterceptionDetectionHandler(NULL_HANDLER, 5000);
+    handler.process(new Window(dialog));
+    Thread.currentThread().interrupt();
+    Chrono chrono = Chrono.start();
+    try {
+      handler.checkWindowWasClosed();
+      throw new AssertionFailureNotDetectedError();
+    }
+    catch (WindowNotClosedError e) {
+      // the wait was interrupted
+    }
+    finally {
+      Assertions.assertTrue(Thread.interrupted());
+    }
+    chrono.assertElapsedTimeLessThan(1000);
+  }
+
+  /**
+   * A modal dialog that looks visible without being shown, so that it is not intercepted.
+   */
+  private static class ShownDialog extends JDialog {
+    private boolean shown = true;
+
+    ShownDialog(String title) {
+      super(new JFrame(), title, true);
+    }
+
+    public boolean isVisible() {
+      return shown;
+    }
+
+    public void setVisible(boolean visible) {
+      shown = visible;
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package org.uispec4j.interception;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.uispec4j.utils.UnitTestCase;
+
+public class InterceptionStatisticsTest extends UnitTestCase {
+  private InterceptionStatistics statistics = new InterceptionStatistics();
+
+  @Test
+  public void testPercentiles() throws Exception {
+    for (int i = 1; i <= 100; i++) {
+      statistics.phaseCompleted(InterceptionPhase.HANDLER, "dialog", "handler", i * 1000000L);
+    }
+    statistics.phaseCompleted(InterceptionPhase.WINDOW_SHOWN, "dialog", null, 5000000L);
+
+    Assertions.assertEquals(100, statistics.getCount("dialog", InterceptionPhase.HANDLER, "handler"));
+    Assertions.assertEquals(50000000L, statistics.getPercentile("dialog", InterceptionPhase.HANDLER, "handler", 50));
+    Assertions.assertEquals(99000000L, statistics.getPercentile("dialog", InterceptionPhase.HANDLER, "handler", 99));
+    Assertions.assertEquals(5000000L, statistics.getPercentile("dialog", InterceptionPhase.WINDOW_SHOWN, null, 99));
+    Assertions.assertEquals(-1, statistics.getPercentile("other", InterceptionPhase.HANDLER, "handler", 50));
+    Assertions.assertEquals(0, statistics.getCount("dialog", InterceptionPhase.TRIGGER, null));
+
+    statistics.reset();
+    Assertions.assertEquals(0, statistics.getCount("dialog", InterceptionPhase.HANDLER, "handler"));
+  }
+
+  @Test
+  public void testReport() throws Exception {
+    statistics.phaseCompleted(InterceptionPhase.WINDOW_CLOSED, "b", null, 2000000L);
+    statistics.phaseCompleted(InterceptionPhase.HANDLER, "a", "ok", 1500000L);
+    statistics.phaseCompleted(InterceptionPhase.HANDLER, "a", "ok", 500000L);
+    String[] lines = statistics.getReport().split("\\R");
+    Assertions.assertEquals(3, lines.length);
+    Assertions.assertTrue(lines[0].startsWith("Window"));
+    Assertions.assertEquals("a HANDLER ok 2 0.5 1.5 1.5", lines[1].trim().replaceAll(" +", " "));
+    Assertions.assertEquals("b WINDOW_CLOSED - 1 2.0 2.0 2.0", lines[2].trim().replaceAll(" +", " "));
+  }
+}
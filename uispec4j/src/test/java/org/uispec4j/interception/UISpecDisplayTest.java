@@ -0,0 +1,93 @@
+package org.uispec4j.interception;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.uispec4j.Window;
+import org.uispec4j.interception.handlers.InterceptionHandler;
+import org.uispec4j.interception.toolkit.UISpecDisplay;
+import org.uispec4j.utils.UnitTestCase;
+
+public class UISpecDisplayTest extends UnitTestCase {
+
+  @AfterEach
+  final protected void tearDown() {
+    UISpecDisplay.setInstanceForCurrentThread(null);
+    UISpecDisplay.instance().reset();
+  }
+
+  @Test
+  public void testIsolatedInstancesDoNotShareHandlersAndExceptions() throws Exception {
+    UISpecDisplay shared = UISpecDisplay.instance();
+    UISpecDisplay isolated = UISpecDisplay.createIsolatedInstance();
+    Assertions.assertNotSame(shared, isolated);
+
+    UISpecDisplay.setInstanceForCurrentThread(isolated);
+    Assertions.assertSame(isolated, UISpecDisplay.instance());
+    UISpecDisplay.instance().add(new DummyHandler());
+    UISpecDisplay.instance().store(new RuntimeException("isolated error"));
+    Assertions.assertEquals(1, isolated.getHandlerCount());
+    Assertions.assertEquals(0, shared.getHandlerCount());
+    shared.rethrowIfNeeded();
+
+    final UISpecDisplay[] otherThreadDisplay = new UISpecDisplay[1];
+    Thread thread = new Thread(new Runnable() {
+      public void run() {
+        otherThreadDisplay[0] = UISpecDisplay.instance();
+      }
+    });
+    thread.start();
+    thread.join();
+    Assertions.assertSame(shared, otherThreadDisplay[0]);
+
+    try {
+      isolated.rethrowIfNeeded();
+      Assertions.fail();
+    }
+    catch (RuntimeException e) {
+      Assertions.assertEquals("isolated error", e.getMessage());
+    }
+
+    UISpecDisplay.setInstanceForCurrentThread(null);
+    Assertions.assertSame(shared, UISpecDisplay.instance());
+  }
+
+  @Test
+  public void testThreadsStartedByTheDisplayUseTheSameInstance() throws Exception {
+    final UISpecDisplay isolated = UISpecDisplay.createIsolatedInstance();
+    final UISpecDisplay[] threadDisplay = new UISpecDisplay[1];
+    final Object lock = new Object();
+    synchronized (lock) {
+      isolated.runInNewThread(new Runnable() {
+        public void run() {
+          synchronized (lock) {
+            threadDisplay[0] = UISpecDisplay.instance();
+            lock.notify();
+          }
+        }
+      });
+      lock.wait(1000);
+    }
+    Assertions.assertSame(isolated, threadDisplay[0]);
+    isolated.reset();
+  }
+
+  @Test
+  public void testBindRestoresThePreviousInstance() throws Exception {
+    final UISpecDisplay isolated = UISpecDisplay.createIsolatedInstance();
+    final UISpecDisplay[] runDisplay = new UISpecDisplay[1];
+    UISpecDisplay shared = UISpecDisplay.instance();
+    isolated.bind(new Runnable() {
+      public void run() {
+        runDisplay[0] = UISpecDisplay.instance();
+      }
+    }).run();
+    Assertions.assertSame(isolated, runDisplay[0]);
+    Assertions.assertSame(shared, UISpecDisplay.instance());
+  }
+
+  private static class DummyHandler implements InterceptionHandler {
+    public void process(Window window) {
+    }
+  }
+}
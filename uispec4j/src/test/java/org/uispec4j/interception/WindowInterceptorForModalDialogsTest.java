@@ -13,6 +13,9 @@ import org.uispec4j.utils.AssertionFailureNotDetectedError;
 import org.uispec4j.utils.Utils;
 
 import javax.swing.*;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
 
 public class WindowInterceptorForModalDialogsTest extends WindowInterceptorTestCase {
   private Thread thread;
@@ -46,6 +49,43 @@ public class WindowInterceptorForModalDialogsTest extends WindowInterceptorTestC
     assertFalse(window.isVisible());
   }
 
+  @Test
+  public void testInterceptionListenersReceiveThePhases() throws Exception {
+    final Set<String> phases = Collections.synchronizedSet(new TreeSet<String>());
+    InterceptionListener listener = new InterceptionListener() {
+      public void phaseCompleted(InterceptionPhase phase, String windowTitle, String handlerName, long durationNanos) {
+        phases.add(phase + " " + windowTitle + " " + handlerName + (durationNanos >= 0 ? "" : " negative duration"));
+      }
+    };
+    WindowInterceptor.addInterceptionListener(listener);
+    try {
+      WindowInterceptor
+        .init(new Trigger() {
+          public void run() {
+            JDialog dialog = createModalDialog("aDialog");
+            addHideButton(dialog, "OK");
+            dialog.setVisible(true);
+          }
+        })
+        .process(new WindowHandler("myHandler") {
+          public Trigger process(Window window) {
+            return window.getButton("OK").triggerClick();
+          }
+        })
+        .run();
+    }
+    finally {
+      WindowInterceptor.removeInterceptionListener(listener);
+    }
+    // The handler runs in another thread, so that the order of the phases may vary
+    Assertions.assertEquals("[HANDLER aDialog myHandler, " +
+                            "TRIGGER aDialog myHandler, " +
+                            "TRIGGER aDialog null, " +
+                            "WINDOW_CLOSED aDialog null, " +
+                            "WINDOW_SHOWN aDialog null]",
+                            phases.toString());
+  }
+
   @Test
   public void testInterceptingAFrame() throws Exception {
     try {
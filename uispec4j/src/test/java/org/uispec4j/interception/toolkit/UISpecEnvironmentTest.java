@@ -0,0 +1,143 @@
+package org.uispec4j.interception.toolkit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.uispec4j.UISpec4J;
+import org.uispec4j.utils.ThreadManager;
+import org.uispec4j.utils.UnitTestCase;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.AWTEventListener;
+import java.beans.EventHandler;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+
+public class UISpecEnvironmentTest extends UnitTestCase {
+
+  @Test
+  public void testResetDisposesTheWindows() throws Exception {
+    UISpecEnvironment.reset(UISpecDisplay.instance());
+    JFrame frame = new JFrame("leftover frame");
+    frame.pack();
+    Assertions.assertTrue(frame.isDisplayable());
+
+    UISpecEnvironment.Report report = UISpecEnvironment.reset(UISpecDisplay.instance());
+    Assertions.assertFalse(frame.isDisplayable());
+    Assertions.assertEquals(Arrays.asList("leftover frame"), report.getDisposedWindowTitles());
+    Assertions.assertFalse(report.hasLeaks());
+
+    report = UISpecEnvironment.reset(UISpecDisplay.instance());
+    Assertions.assertEquals(Collections.emptyList(), report.getDisposedWindowTitles());
+
+    new JFrame().pack();
+    report = UISpecEnvironment.reset(UISpecDisplay.instance());
+    Assertions.assertEquals(Arrays.asList(JFrame.class.getName()), report.getDisposedWindowTitles());
+  }
+
+  @Test
+  public void testResetProcessesThePendingEvents() throws Exception {
+    final StringBuffer log = new StringBuffer();
+    SwingUtilities.invokeLater(new Runnable() {
+      public void run() {
+        log.append("first ");
+        SwingUtilities.invokeLater(new Runnable() {
+          public void run() {
+            log.append("second");
+          }
+        });
+      }
+    });
+    UISpecEnvironment.reset(UISpecDisplay.instance());
+    Assertions.assertEquals("first second", log.toString());
+  }
+
+  @Test
+  public void testResetClearsThePopup() throws Exception {
+    UISpecDisplay.instance().setCurrentPopup(new JPopupMenu());
+    UISpecEnvironment.reset(UISpecDisplay.instance());
+    Assertions.assertNull(UISpecDisplay.instance().getCurrentPopup());
+  }
+
+  @Test
+  public void testAWTEventListenersOfUISpec4JAreRemoved() throws Exception {
+    UISpecEnvironment.reset(UISpecDisplay.instance());
+    Toolkit toolkit = Toolkit.getDefaultToolkit();
+    AWTEventListener uispecListener = new AWTEventListener() {
+      public void eventDispatched(AWTEvent event) {
+      }
+    };
+    AWTEventListener otherListener = (AWTEventListener)EventHandler.create(AWTEventListener.class, new Object(), "hashCode");
+    toolkit.addAWTEventListener(uispecListener, AWTEvent.KEY_EVENT_MASK);
+    toolkit.addAWTEventListener(otherListener, AWTEvent.KEY_EVENT_MASK);
+    try {
+      UISpecEnvironment.Report report = UISpecEnvironment.reset(UISpecDisplay.instance());
+      Assertions.assertTrue(report.hasLeaks());
+      Assertions.assertEquals(Arrays.asList(uispecListener.getClass().getName()),
+                              report.getRemovedAWTEventListeners());
+      Assertions.assertTrue(report.getAWTEventListeners().contains(otherListener.getClass().getName()));
+      Assertions.assertEquals("0 interception thread(s) still running, 0 window(s) disposed: [], " +
+                              "1 AWT event listener(s) removed: [" + uispecListener.getClass().getName() + "]",
+                              report.toString());
+      Assertions.assertFalse(report.getAWTEventListeners().contains(uispecListener.getClass().getName()));
+    }
+    finally {
+      toolkit.removeAWTEventListener(otherListener);
+    }
+    Assertions.assertFalse(UISpecEnvironment.reset(UISpecDisplay.instance()).hasLeaks());
+  }
+
+  @Test
+  public void testWindowsAndListenersAreLeftToTheOtherTestsWithIsolatedDisplays() throws Exception {
+    UISpecEnvironment.reset(UISpecDisplay.instance());
+    Toolkit toolkit = Toolkit.getDefaultToolkit();
+    AWTEventListener uispecListener = new AWTEventListener() {
+      public void eventDispatched(AWTEvent event) {
+      }
+    };
+    toolkit.addAWTEventListener(uispecListener, AWTEvent.KEY_EVENT_MASK);
+    UISpec4J.setIsolatedDisplayEnabled(true);
+    try {
+      UISpecEnvironment.Report report = UISpecEnvironment.reset(UISpecDisplay.instance());
+      Assertions.assertFalse(report.hasLeaks());
+      Assertions.assertEquals("0 interception thread(s) still running, 0 window(s) disposed: [], " +
+                              "0 AWT event listener(s) removed: []",
+                              report.toString());
+    }
+    finally {
+      UISpec4J.setIsolatedDisplayEnabled(false);
+    }
+    Assertions.assertEquals(Arrays.asList(uispecListener.getClass().getName()),
+                            UISpecEnvironment.reset(UISpecDisplay.instance()).getRemovedAWTEventListeners());
+  }
+
+  @Test
+  public void testThreadsStillRunningAreReported() throws Exception {
+    UISpecEnvironment.reset(UISpecDisplay.instance());
+    final CountDownLatch latch = new CountDownLatch(1);
+    ThreadManager.ThreadDelegate delegate = ThreadManager.getInstance().addRunnable("test", new Runnable() {
+      public void run() {
+        try {
+          latch.await();
+        }
+        catch (InterruptedException e) {
+          // stopped by the test
+        }
+      }
+    });
+    try {
+      UISpecEnvironment.Report report = UISpecEnvironment.reset(UISpecDisplay.instance());
+      Assertions.assertTrue(report.hasLeaks());
+      Assertions.assertEquals(1, report.getRunningThreadCount());
+      Assertions.assertEquals("1 interception thread(s) still running, 0 window(s) disposed: [], " +
+                              "0 AWT event listener(s) removed: []",
+                              report.toString());
+    }
+    finally {
+      latch.countDown();
+      delegate.join();
+    }
+    Assertions.assertFalse(UISpecEnvironment.reset(UISpecDisplay.instance()).hasLeaks());
+  }
+}
@@ -0,0 +1,42 @@
+package org.uispec4j.interception.toolkit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.uispec4j.Clipboard;
+import org.uispec4j.Panel;
+import org.uispec4j.utils.UnitTestCase;
+
+import javax.swing.*;
+import java.awt.*;
+
+public class UISpecToolkitTest extends UnitTestCase {
+
+  @Test
+  public void testHeadlessModeProvidesTheToolkitServicesWithoutDisplay() throws Exception {
+    Assumptions.assumeTrue(GraphicsEnvironment.isHeadless(), "the JVM is not headless");
+
+    Assertions.assertSame(UISpecToolkit.instance(), Toolkit.getDefaultToolkit());
+    Assertions.assertTrue(UISpecToolkit.instance().getUnderlyingToolkit() instanceof HeadlessUnderlyingToolkit);
+    Assertions.assertEquals(Empty.NULL_SCREEN_SIZE, Toolkit.getDefaultToolkit().getScreenSize());
+
+    JPanel jPanel = new JPanel();
+    JLabel label = new JLabel("some text");
+    jPanel.add(label);
+    jPanel.add(new JTextField("field"));
+    Assertions.assertTrue(label.getPreferredSize().width > 0);
+    Panel panel = new Panel(jPanel);
+    assertTrue(panel.getTextBox("field").textEquals("field"));
+
+    Clipboard.putText("copied text");
+    Assertions.assertEquals("copied text", Clipboard.getContentAsText());
+  }
+
+  @Test
+  public void testFramesCannotBeCreatedInHeadlessMode() throws Exception {
+    Assumptions.assumeTrue(GraphicsEnvironment.isHeadless(), "the JVM is not headless");
+
+    Assertions.assertThrows(HeadlessException.class, () -> new JFrame("title"));
+    Assertions.assertThrows(HeadlessException.class, () -> new JDialog());
+  }
+}
@@ -2,6 +2,7 @@ package org.uispec4j.utils;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.uispec4j.UISpec4J;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -55,6 +56,24 @@ public class ArrayUtilsTest extends UnitTestCase {
     Assertions.assertEquals("[[a,\tb]\n [c,\td]]", ArrayUtils.toString(new String[][]{{"a", "b"}, {"c", "d"}}));
   }
 
+  @Test
+  public void testToStringOnlyDisplaysTheRowsAroundTheFocusedOne() throws Exception {
+    String[][] rows = {{"a"}, {"b"}, {"c"}, {"d"}, {"e"}, {"f"}};
+    UISpec4J.setFailureMessageRowLimit(2);
+    try {
+      Assertions.assertEquals("[... (2 more)\n [c]\n [d]\n ... (2 more)]", ArrayUtils.toString(rows, 3));
+      Assertions.assertEquals("[[a]\n [b]\n ... (4 more)]", ArrayUtils.toString(rows, 0));
+      Assertions.assertEquals("[... (4 more)\n [e]\n [f]]", ArrayUtils.toString(rows, 6));
+      Assertions.assertEquals("... (3 more)\nd\ne\n... (1 more)",
+                              ArrayUtils.toVerticalString(new String[]{"a", "b", "c", "d", "e", "f"}, 4)
+                                .replace(Utils.LINE_SEPARATOR, "\n"));
+    }
+    finally {
+      UISpec4J.setFailureMessageRowLimit(UISpec4J.DEFAULT_FAILURE_MESSAGE_ROW_LIMIT);
+    }
+    Assertions.assertEquals(ArrayUtils.toString(rows), ArrayUtils.toString(rows, 3));
+  }
+
   @Test
   public void testAssertEmptyForAnArray() throws Exception {
     ArrayUtils.assertEmpty((String[])null);
@@ -0,0 +1,155 @@
+package org.uispec4j.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.uispec4j.UISpec4J;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class ThreadManagerTest extends UnitTestCase {
+  private ThreadManager manager = ThreadManager.getInstance();
+
+  @AfterEach
+  final protected void tearDown() {
+    UISpec4J.setMaxInterceptionThreadCount(UISpec4J.DEFAULT_MAX_INTERCEPTION_THREAD_COUNT);
+  }
+
+  @Test
+  public void testJoinWaitsForTheEndOfTheRunnable() throws Exception {
+    final StringBuffer log = new StringBuffer();
+    ThreadManager.ThreadDelegate delegate = manager.addRunnable("test", new Runnable() {
+      public void run() {
+        Utils.sleep(50);
+        log.append("done");
+      }
+    });
+    delegate.join();
+    Assertions.assertEquals("done", log.toString());
+  }
+
+  @Test
+  public void testJoinWithATimeout() throws Exception {
+    final CountDownLatch latch = new CountDownLatch(1);
+    ThreadManager.ThreadDelegate delegate = manager.addRunnable("test", new Runnable() {
+      public void run() {
+        try {
+          latch.await();
+        }
+        catch (InterruptedException e) {
+          // stopped by the test
+        }
+      }
+    });
+    Chrono chrono = Chrono.start();
+    delegate.join(50);
+    chrono.assertElapsedTimeLessThan(500);
+    latch.countDown();
+    delegate.join();
+  }
+
+  @Test
+  public void testInterrupt() throws Exception {
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch interrupted = new CountDownLatch(1);
+    ThreadManager.ThreadDelegate delegate = manager.addRunnable("test", new Runnable() {
+      public void run() {
+        started.countDown();
+        try {
+          Thread.sleep(10000);
+        }
+        catch (InterruptedException e) {
+          interrupted.countDown();
+        }
+      }
+    });
+    Assertions.assertTrue(started.await(1, TimeUnit.SECONDS));
+    delegate.interrupt();
+    Assertions.assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testJoinWaitsForTheEndOfAnInterruptedRunnable() throws Exception {
+    final CountDownLatch started = new CountDownLatch(1);
+    final StringBuffer log = new StringBuffer();
+    ThreadManager.ThreadDelegate delegate = manager.addRunnable("test", new Runnable() {
+      public void run() {
+        started.countDown();
+        try {
+          Thread.sleep(10000);
+        }
+        catch (InterruptedException e) {
+          Utils.sleep(100);
+          log.append("done");
+        }
+      }
+    });
+    Assertions.assertTrue(started.await(1, TimeUnit.SECONDS));
+    delegate.interrupt();
+    delegate.join(10);
+    Assertions.assertEquals("", log.toString());
+    delegate.join();
+    Assertions.assertEquals("done", log.toString());
+  }
+
+  @Test
+  public void testTheNumberOfActiveThreadsIsBounded() throws Exception {
+    int maxCount = manager.getActiveThreadCount() + 1;
+    UISpec4J.setMaxInterceptionThreadCount(maxCount);
+    final CountDownLatch latch = new CountDownLatch(1);
+    ThreadManager.ThreadDelegate delegate = manager.addRunnable("test", new Runnable() {
+      public void run() {
+        try {
+          latch.await();
+        }
+        catch (InterruptedException e) {
+          // stopped by the test
+        }
+      }
+    });
+    Assertions.assertEquals(maxCount, manager.getActiveThreadCount());
+    try {
+      manager.addRunnable("other", new Runnable() {
+        public void run() {
+        }
+      });
+      Assertions.fail();
+    }
+    catch (IllegalStateException e) {
+      Assertions.assertEquals("Too many interception threads running (maximum is " + maxCount + ") - " +
+                              "see UISpec4J.setMaxInterceptionThreadCount()", e.getMessage());
+    }
+    latch.countDown();
+    delegate.join();
+    for (int i = 0; (i < 100) && (manager.getIdleThreadCount() == 0); i++) {
+      Utils.sleep(10);
+    }
+    Assertions.assertTrue(manager.getIdleThreadCount() > 0);
+  }
+
+  @Test
+  public void testExceptionsAreReportedToTheUncaughtExceptionHandler() throws Exception {
+    final Throwable[] reported = new Throwable[1];
+    final CountDownLatch latch = new CountDownLatch(1);
+    Thread.UncaughtExceptionHandler previousHandler = Thread.getDefaultUncaughtExceptionHandler();
+    Thread.setDefaultUncaughtExceptionHandler(new Thread.UncaughtExceptionHandler() {
+      public void uncaughtException(Thread thread, Throwable e) {
+        reported[0] = e;
+        latch.countDown();
+      }
+    });
+    try {
+      manager.addRunnable("test", new Runnable() {
+        public void run() {
+          throw new RuntimeException("error");
+        }
+      }).join();
+      Assertions.assertTrue(latch.await(1, TimeUnit.SECONDS));
+      Assertions.assertEquals("error", reported[0].getMessage());
+    }
+    finally {
+      Thread.setDefaultUncaughtExceptionHandler(previousHandler);
+    }
+  }
+}
@@ -20,6 +20,23 @@ public class UIComponentFactoryTest extends UnitTestCase {
     Assertions.assertEquals(ComponentWithSwingClassesField.class, uiComponent.getClass());
   }
 
+  @Test
+  public void testRegisteringAClassReplacesTheWrappersAlreadyUsed() throws Exception {
+    JResettableButton button = new JResettableButton();
+    Assertions.assertEquals(org.uispec4j.Button.class, UIComponentFactory.createUIComponent(button).getClass());
+    UIComponentFactory.register(ResettableButton.class);
+    Assertions.assertEquals(ResettableButton.class, UIComponentFactory.createUIComponent(button).getClass());
+    Assertions.assertSame(button, UIComponentFactory.createUIComponent(button).getAwtComponent());
+  }
+
+  @Test
+  public void testComponentsWithoutWrapper() throws Exception {
+    Component component = new Component() {
+    };
+    Assertions.assertNull(UIComponentFactory.createUIComponent(component));
+    Assertions.assertNull(UIComponentFactory.createUIComponent(component));
+  }
+
   @Test
   public void testInitErrorForClassWithoutSwingClassesField() throws Exception {
     checkInitError(ComponentWithoutSwingClassesField.class,
@@ -98,6 +115,23 @@ public class UIComponentFactoryTest extends UnitTestCase {
     }
   }
 
+  private static class JResettableButton extends javax.swing.JButton {
+  }
+
+  private static class ResettableButton extends DummyUIComponent {
+    public static Class[] SWING_CLASSES = {JResettableButton.class};
+    public static String TYPE_NAME = "resettableButton";
+    private final JResettableButton button;
+
+    public ResettableButton(JResettableButton button) {
+      this.button = button;
+    }
+
+    public Component getAwtComponent() {
+      return button;
+    }
+  }
+
   private static class ComponentWithoutSwingClassesField extends DummyUIComponent {
     public static String TYPE_NAME = "Type";
   }
@@ -86,6 +86,30 @@ public class XmlAssertTest extends UnitTestCase {
     checkXml(xml1, xml2, false, false);
   }
 
+  @Test
+  public void testIdenticalSubtreesAreCountedWhateverTheirOrder() throws Exception {
+    String xml1 =
+      "<root>" +
+      "  <child><sub/></child>" +
+      "  <child/>" +
+      "  <child><sub/></child>" +
+      "</root>";
+    String xml2 =
+      "<root>" +
+      "  <child/>" +
+      "  <child><sub/></child>" +
+      "  <child><sub/></child>" +
+      "</root>";
+    String xml3 =
+      "<root>" +
+      "  <child/>" +
+      "  <child/>" +
+      "  <child><sub/></child>" +
+      "</root>";
+    checkXml(xml1, xml2, true, false);
+    checkXml(xml1, xml3, false, false);
+  }
+
   @Test
   public void testSameCharacters() throws Exception {
     String xml1 = "<hello><tag1>XYZ</tag1></hello>";
@@ -1,5 +1,6 @@
 package org.uispec4j.xml;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.uispec4j.utils.UnitTestCase;
 
@@ -27,4 +28,55 @@ public class XmlWriterTest extends UnitTestCase {
       "<Root toto=\"titi\"> <Toto> <Titi attr=\"value\">bbb</Titi> <A/> <B> <C/> </B> </Toto> </Root>";
     XmlAssert.assertEquivalent(expectedXmlString, out.toString());
   }
+
+  @Test
+  public void testStartTagWithNode() throws Exception {
+    EquivalentXml expected =
+      new EquivalentXml("<Root toto='titi'> <Toto> <Titi attr='a &amp; b'>bbb</Titi> <A/> <B> <C/> </B> </Toto> </Root>");
+    Node document = expected.createDocument();
+    XmlWriter.startTag(document, "Root")
+      .addAttribute("toto", "titi")
+      .start("Toto")
+      .start("B").start("C").end().end()
+      .start("A").end()
+      .start("Titi").addAttribute("attr", "a & b").addValue("bbb").end()
+      .end()
+      .end();
+    Assertions.assertTrue(expected.matches(document));
+
+    Node otherDocument = expected.createDocument();
+    XmlWriter.startTag(otherDocument, "Root")
+      .addAttribute("toto", "titi")
+      .start("Toto").start("Titi").addAttribute("attr", "a & b").addValue("ccc").end().end()
+      .end();
+    Assertions.assertFalse(expected.matches(otherDocument));
+  }
+
+  @Test
+  public void testAttributeValuesAreNormalizedAsByTheParser() throws Exception {
+    String value = "line1\nline2\r\nline3\rline4\tend";
+    XmlWriter.startTag(out, "a").addAttribute("text", value).end();
+    EquivalentXml expected = new EquivalentXml(out.toString());
+
+    Node document = expected.createDocument();
+    XmlWriter.startTag(document, "a").addAttribute("text", value).end();
+    Assertions.assertTrue(expected.matches(document));
+
+    Node otherDocument = expected.createDocument();
+    XmlWriter.startTag(otherDocument, "a").addAttribute("text", "line1\nline2").end();
+    Assertions.assertFalse(expected.matches(otherDocument));
+  }
+
+  @Test
+  public void testAttributesCannotBeAddedToANodeAfterItsContent() throws Exception {
+    Node document = new EquivalentXml("<a/>").createDocument();
+    XmlWriter.Tag tag = XmlWriter.startTag(document, "a").start("b").end();
+    try {
+      tag.addAttribute("name", "value");
+      Assertions.fail();
+    }
+    catch (RuntimeException e) {
+      Assertions.assertEquals("Bad use of 'addAttribute' method after tag closure", e.getMessage());
+    }
+  }
 }